@@ -0,0 +1,93 @@
+package com.reservas.facisa.benchmark;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.FacisaApplication;
+import com.reservas.facisa.service.IndiceDisponibilidade;
+import com.reservas.facisa.service.IndiceSalas;
+
+/**
+ * Sobe a aplicação sem servidor web sobre um H2 em memória e popula salas e reservas para os
+ * benchmarks JMH. As reservas de cada sala ocupam horas cheias entre 7h e 21h, de
+ * {@link #PRIMEIRO_DIA} a {@link #ULTIMO_DIA} dias a partir de hoje.
+ */
+public final class AmbienteBenchmark {
+
+    public static final int PRIMEIRO_DIA = -3;
+    public static final int ULTIMO_DIA = 6;
+
+    private static final int USUARIOS = 50;
+    private static final int HORAS_POR_DIA = 14;
+
+    private AmbienteBenchmark() {
+    }
+
+    public static ConfigurableApplicationContext iniciar(int salas, int reservasPorSala) {
+        ConfigurableApplicationContext contexto = new SpringApplicationBuilder(FacisaApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh_" + salas + "_" + reservasPorSala + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--spring.devtools.livereload.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+        popular(contexto.getBean(JdbcTemplate.class), salas, reservasPorSala);
+        contexto.getBean(IndiceDisponibilidade.class).reconstruir();
+        contexto.getBean(IndiceSalas.class).reconstruir();
+        return contexto;
+    }
+
+    private static void popular(JdbcTemplate jdbcTemplate, int salas, int reservasPorSala) {
+        int dias = ULTIMO_DIA - PRIMEIRO_DIA + 1;
+        if (reservasPorSala > dias * HORAS_POR_DIA) {
+            throw new IllegalArgumentException("No máximo " + dias * HORAS_POR_DIA + " reservas por sala.");
+        }
+
+        List<Object[]> usuarios = new ArrayList<>(USUARIOS);
+        for (long id = 1; id <= USUARIOS; id++) {
+            usuarios.add(new Object[] {id, "Usuário " + id, "usuario" + id + "@facisa.edu"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO usuarios (id, nome, email) VALUES (?, ?, ?)", usuarios);
+
+        List<Object[]> linhasSalas = new ArrayList<>(salas);
+        for (long id = 1; id <= salas; id++) {
+            linhasSalas.add(new Object[] {id, "Sala " + id, id % 10 == 0 ? "INATIVA" : "ATIVA"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', 40, ?)",
+                linhasSalas);
+
+        LocalDate hoje = LocalDate.now();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> reservas = new ArrayList<>(salas * reservasPorSala);
+        for (long salaId = 1; salaId <= salas; salaId++) {
+            for (int i = 0; i < reservasPorSala; i++) {
+                LocalDate data = hoje.plusDays(PRIMEIRO_DIA + i % dias);
+                LocalTime inicio = LocalTime.of(7 + (int) ((i / dias + salaId) % HORAS_POR_DIA), 0);
+                reservas.add(new Object[] {
+                        1 + salaId % USUARIOS, salaId, Date.valueOf(data),
+                        Time.valueOf(inicio), Time.valueOf(inicio.plusHours(1)), agora
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (?, ?, ?, ?, ?, 'Benchmark', 'ATIVA', ?)
+                """, reservas);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
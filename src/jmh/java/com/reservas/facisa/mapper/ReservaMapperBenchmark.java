@@ -0,0 +1,139 @@
+package com.reservas.facisa.mapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.reservas.facisa.dto.ReservaRequestDTO;
+import com.reservas.facisa.dto.ReservaResponseDTO;
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Conversões de uma reserva entre DTO, entidade e JSON, sem banco nem contexto Spring. Os métodos
+ * {@code lista*} reproduzem o trabalho de {@code GET /reservas?sala_id=&data=} para um dia cheio
+ * de uma sala, com horários em minutos variados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservaMapperBenchmark {
+
+    private ReservaMapper reservaMapper;
+    private JsonMapper jsonMapper;
+
+    private ReservaRequestDTO pedido;
+    private Usuario usuario;
+    private Sala sala;
+    private Reserva reserva;
+    private ReservaResponseDTO resposta;
+    private List<Reserva> reservasDoDia;
+
+    @Setup
+    public void iniciar() {
+        reservaMapper = new ReservaMapper();
+        jsonMapper = JsonMapper.builder().build();
+
+        usuario = Usuario.builder()
+                .id(1L)
+                .nome("João Silva")
+                .email("joao@facisa.edu")
+                .build();
+
+        sala = Sala.builder()
+                .id(10L)
+                .nome("Laboratório 3")
+                .tipo(TipoSala.LABORATORIO)
+                .capacidade(30)
+                .status(StatusSala.ATIVA)
+                .build();
+
+        pedido = new ReservaRequestDTO();
+        pedido.setUsuarioId(usuario.getId());
+        pedido.setSalaId(sala.getId());
+        pedido.setData(LocalDate.now().plusDays(1).toString());
+        pedido.setHoraInicio("10:00");
+        pedido.setHoraFim("12:00");
+        pedido.setMotivo("Aula de Programação Orientada a Objetos");
+
+        reserva = Reserva.builder()
+                .id(100L)
+                .usuario(usuario)
+                .sala(sala)
+                .data(LocalDate.now().plusDays(1))
+                .horaInicio(LocalTime.of(10, 0))
+                .horaFim(LocalTime.of(12, 0))
+                .motivo(pedido.getMotivo())
+                .status(StatusReserva.ATIVA)
+                .build();
+
+        resposta = reservaMapper.toResponse(reserva);
+
+        reservasDoDia = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            LocalTime inicio = LocalTime.of(7, 0).plusMinutes(i * 29L);
+            reservasDoDia.add(Reserva.builder()
+                    .id(200L + i)
+                    .usuario(usuario)
+                    .sala(sala)
+                    .data(reserva.getData())
+                    .horaInicio(inicio)
+                    .horaFim(inicio.plusMinutes(25))
+                    .motivo(pedido.getMotivo())
+                    .status(StatusReserva.ATIVA)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Reserva toEntity() {
+        return reservaMapper.toEntity(pedido, usuario, sala);
+    }
+
+    @Benchmark
+    public ReservaResponseDTO toResponse() {
+        return reservaMapper.toResponse(reserva);
+    }
+
+    @Benchmark
+    public byte[] serializarResposta() {
+        return jsonMapper.writeValueAsBytes(resposta);
+    }
+
+    @Benchmark
+    public byte[] converterESerializar() {
+        return jsonMapper.writeValueAsBytes(reservaMapper.toResponse(reserva));
+    }
+
+    @Benchmark
+    public List<ReservaResponseDTO> listaParaResposta() {
+        return reservasDoDia.stream().map(reservaMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] listaConverterESerializar() {
+        return jsonMapper.writeValueAsBytes(reservasDoDia.stream().map(reservaMapper::toResponse).toList());
+    }
+}
@@ -0,0 +1,132 @@
+package com.reservas.facisa.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.reservas.facisa.benchmark.AmbienteBenchmark;
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.repository.ReservaRepository;
+
+/**
+ * Caminhos de consulta de disponibilidade do {@link ReservaService}. O tamanho da massa é
+ * escolhido com {@code -p salas=...} e {@code -p reservasPorSala=...}. Os métodos {@code conflito*}
+ * comparam a checagem pelo {@link MapaOcupacao} do índice com a consulta
+ * {@code findReservasConflitantes}, para a mesma sala e horário.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ReservaServiceBenchmark {
+
+    private static final int AMOSTRA = 64;
+
+    @Param({"100", "1000"})
+    private int salas;
+
+    @Param({"20"})
+    private int reservasPorSala;
+
+    private ConfigurableApplicationContext contexto;
+    private ReservaService reservaService;
+    private IndiceDisponibilidade indiceDisponibilidade;
+    private ReservaRepository reservaRepository;
+
+    private Sala[] amostraSalas;
+    private Reserva[] candidatas;
+    private LocalDate amanha;
+    private LocalDate ontem;
+    private String amanhaTexto;
+    private int proxima;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = AmbienteBenchmark.iniciar(salas, reservasPorSala);
+        reservaService = contexto.getBean(ReservaService.class);
+        indiceDisponibilidade = contexto.getBean(IndiceDisponibilidade.class);
+        reservaRepository = contexto.getBean(ReservaRepository.class);
+
+        amanha = LocalDate.now().plusDays(1);
+        ontem = LocalDate.now().minusDays(1);
+        amanhaTexto = amanha.toString();
+
+        // Espalha as chamadas por várias salas para não medir sempre a mesma linha do índice.
+        amostraSalas = new Sala[AMOSTRA];
+        candidatas = new Reserva[AMOSTRA];
+        for (int i = 0; i < AMOSTRA; i++) {
+            amostraSalas[i] = Sala.builder().id(1L + (long) i * salas / AMOSTRA).build();
+            candidatas[i] = Reserva.builder()
+                    .sala(amostraSalas[i])
+                    .data(amanha)
+                    .horaInicio(LocalTime.of(21, 0))
+                    .horaFim(LocalTime.of(22, 0))
+                    .status(StatusReserva.ATIVA)
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Reserva validarReserva() {
+        Reserva candidata = candidatas[proxima++ & (AMOSTRA - 1)];
+        reservaService.validarReserva(candidata, null);
+        return candidata;
+    }
+
+    @Benchmark
+    public boolean estaDisponivelPeloIndice() {
+        return reservaService.estaDisponivel(
+                amostraSalas[proxima++ & (AMOSTRA - 1)], amanha, LocalTime.of(10, 0), LocalTime.of(12, 0));
+    }
+
+    @Benchmark
+    public boolean estaDisponivelPeloBanco() {
+        // Datas passadas ficam fora da cobertura do índice e caem na consulta ao banco.
+        return reservaService.estaDisponivel(
+                amostraSalas[proxima++ & (AMOSTRA - 1)], ontem, LocalTime.of(10, 0), LocalTime.of(12, 0));
+    }
+
+    @Benchmark
+    public boolean conflitoPeloMapaDeBits() {
+        return indiceDisponibilidade.estaLivre(
+                amostraSalas[proxima++ & (AMOSTRA - 1)].getId(), amanha, LocalTime.of(10, 0), LocalTime.of(12, 0));
+    }
+
+    @Benchmark
+    public List<Reserva> conflitoPelaConsulta() {
+        return reservaRepository.findReservasConflitantes(
+                amostraSalas[proxima++ & (AMOSTRA - 1)].getId(), amanha, LocalTime.of(10, 0), LocalTime.of(12, 0),
+                StatusReserva.ATIVA);
+    }
+
+    @Benchmark
+    public List<SalaResponseDTO> listarSalasDisponiveis() {
+        return reservaService.listarSalasDisponiveis(amanhaTexto, "10:00", "12:00", null, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.reservas.facisa.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Carga dos índices em memória na inicialização: se acontece e quantos dias de reservas, a partir
+ * de hoje, entram no índice de disponibilidade.
+ */
+@ConfigurationProperties(prefix = "facisa.aquecimento")
+public record AquecimentoProperties(
+        @DefaultValue("true") boolean habilitado,
+        @DefaultValue("180") int diasReservas
+) {
+}
@@ -0,0 +1,25 @@
+package com.reservas.facisa.config;
+
+import java.time.LocalTime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Expediente considerado na busca de horários livres e quantidade de horários devolvidos por busca.
+ */
+@ConfigurationProperties(prefix = "facisa.busca-horarios")
+public record BuscaHorariosProperties(
+        @DefaultValue("07:00") LocalTime abertura,
+        @DefaultValue("22:00") LocalTime fechamento,
+        @DefaultValue("10") int limitePadrao,
+        @DefaultValue("50") int limiteMaximo
+) {
+
+    public int resolverLimite(Integer solicitado) {
+        if (solicitado == null) {
+            return limitePadrao;
+        }
+        return Math.max(1, Math.min(solicitado, limiteMaximo));
+    }
+}
@@ -0,0 +1,57 @@
+package com.reservas.facisa.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Cache de segundo nível do Hibernate para {@code Sala} e {@code Usuario}, em Caffeine via JCache.
+ * O cache guarda o estado desmontado das entidades e o Hibernate remonta uma instância gerenciada
+ * na sessão de quem consulta; alterações e remoções feitas pela sessão invalidam a entrada.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CacheReferenciaConfig {
+
+    /** Devem coincidir com as regiões declaradas em {@code @Cache} nas entidades. */
+    public static final String REGIAO_SALAS = "salas";
+    public static final String REGIAO_USUARIOS = "usuarios";
+
+    public static final List<String> REGIOES = List.of(REGIAO_SALAS, REGIAO_USUARIOS);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerReferencia(CacheReferenciaProperties propriedades) {
+        // URI própria por contexto: o provedor JCache é global na JVM e reaproveitaria as regiões.
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("facisa-referencia-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String regiao : REGIOES) {
+            CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+            configuracao.setMaximumSize(OptionalLong.of(propriedades.tamanhoMaximo()));
+            configuracao.setExpireAfterWrite(OptionalLong.of(propriedades.expiracao().toNanos()));
+            configuracao.setNativeStatisticsEnabled(true);
+            cacheManager.createCache(regiao, configuracao);
+        }
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheReferenciaHibernateCustomizer(CacheManager cacheManagerReferencia) {
+        return propriedades -> {
+            propriedades.put(ConfigSettings.CACHE_MANAGER, cacheManagerReferencia);
+            propriedades.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.reservas.facisa.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limites do cache de segundo nível de salas e usuários: quantidade máxima de entradas por região
+ * e tempo de vida de cada entrada após ser gravada.
+ */
+@ConfigurationProperties(prefix = "facisa.cache.referencia")
+public record CacheReferenciaProperties(
+        @DefaultValue("10000") long tamanhoMaximo,
+        @DefaultValue("10m") Duration expiracao
+) {
+}
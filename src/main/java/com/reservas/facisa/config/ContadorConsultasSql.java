@@ -0,0 +1,33 @@
+package com.reservas.facisa.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual entre {@link #iniciar()} e
+ * {@link #encerrar()}. O Hibernate cria uma instância por sessão a partir de
+ * {@code hibernate.session.events.auto}; fora de uma contagem iniciada nada é registrado.
+ */
+public class ContadorConsultasSql implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<int[]> CONTAGEM = new ThreadLocal<>();
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        int[] contagem = CONTAGEM.get();
+        if (contagem != null) {
+            contagem[0]++;
+        }
+    }
+
+    public static void iniciar() {
+        CONTAGEM.set(new int[1]);
+    }
+
+    public static int encerrar() {
+        int[] contagem = CONTAGEM.get();
+        CONTAGEM.remove();
+        return contagem != null ? contagem[0] : 0;
+    }
+}
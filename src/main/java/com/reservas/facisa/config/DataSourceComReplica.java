@@ -0,0 +1,32 @@
+package com.reservas.facisa.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Adia a escolha da conexão até o primeiro comando: se a transação já marcou a conexão como
+ * somente leitura, ela vem da réplica. Ao encerrar o contexto, fecha os pools dos dois bancos.
+ */
+class DataSourceComReplica extends LazyConnectionDataSourceProxy {
+
+    private final DataSource replica;
+
+    DataSourceComReplica(DataSource principal, DataSource replica) {
+        super(principal);
+        setReadOnlyDataSource(replica);
+        this.replica = replica;
+    }
+
+    public void close() throws Exception {
+        try {
+            if (replica instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        } finally {
+            if (obtainTargetDataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+}
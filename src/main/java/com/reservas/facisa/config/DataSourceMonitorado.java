@@ -0,0 +1,237 @@
+package com.reservas.facisa.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.reservas.facisa.service.MonitorSql;
+
+/**
+ * Envolve as conexões do pool para medir cada comando SQL e entregar a {@link MonitorSql} o tempo
+ * de execução, as linhas lidas ou afetadas e os parâmetros ligados. Nas consultas, o registro é
+ * feito quando o {@link ResultSet} (ou o próprio comando) é fechado, já com as linhas contadas.
+ */
+class DataSourceMonitorado extends DelegatingDataSource {
+
+    private final ObjectProvider<MonitorSql> monitorSql;
+    private volatile MonitorSql monitor;
+
+    DataSourceMonitorado(DataSource alvo, ObjectProvider<MonitorSql> monitorSql) {
+        super(alvo);
+        this.monitorSql = monitorSql;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return monitorar(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return monitorar(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /** Repassa o encerramento do contexto ao pool envolvido, que de outro modo ficaria aberto. */
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable alvo) {
+            alvo.close();
+        }
+    }
+
+    private Connection monitorar(Connection conexao) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConexaoMonitorada(conexao, monitor()));
+    }
+
+    /** Resolvido na primeira conexão, depois que o monitor já pode ser criado. */
+    private MonitorSql monitor() {
+        MonitorSql atual = monitor;
+        if (atual == null) {
+            atual = monitorSql.getObject();
+            monitor = atual;
+        }
+        return atual;
+    }
+
+    private static Object invocar(Object alvo, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConexaoMonitorada implements InvocationHandler {
+
+        private final Connection alvo;
+        private final MonitorSql monitor;
+
+        ConexaoMonitorada(Connection alvo, MonitorSql monitor) {
+            this.alvo = alvo;
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object resultado = invocar(alvo, method, args);
+
+            return switch (method.getName()) {
+                case "prepareStatement" -> comando(PreparedStatement.class, resultado, (String) args[0]);
+                case "prepareCall" -> comando(CallableStatement.class, resultado, (String) args[0]);
+                case "createStatement" -> comando(Statement.class, resultado, null);
+                default -> resultado;
+            };
+        }
+
+        private Object comando(Class<?> tipo, Object comando, String sql) {
+            return Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] {tipo},
+                    new ComandoMonitorado((Statement) comando, sql, alvo, monitor));
+        }
+    }
+
+    private static final class ComandoMonitorado implements InvocationHandler {
+
+        private final Statement alvo;
+        private final Connection conexao;
+        private final MonitorSql monitor;
+
+        /** Fixo nos comandos preparados; nos demais, o último texto executado. */
+        private String sql;
+
+        private Object[] parametros = new Object[8];
+        private int quantidadeParametros;
+
+        /** Consulta executada cujo registro espera o fechamento do ResultSet; -1 se não houver. */
+        private long nanosConsulta = -1;
+        private long linhasConsulta;
+
+        /** Distingue o ResultSet da consulta pendente dos de execuções anteriores do mesmo comando. */
+        private int execucao;
+
+        ComandoMonitorado(Statement alvo, String sql, Connection conexao, MonitorSql monitor) {
+            this.alvo = alvo;
+            this.sql = sql;
+            this.conexao = conexao;
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String nome = method.getName();
+
+            if (nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                ligar(indice, nome.equals("setNull") ? null : args[1]);
+                return invocar(alvo, method, args);
+            }
+
+            switch (nome) {
+                case "clearParameters" -> quantidadeParametros = 0;
+                case "addBatch" -> {
+                    if (args != null && args.length == 1) {
+                        sql = (String) args[0];
+                    }
+                }
+                case "close" -> concluirConsulta();
+                case "executeQuery" -> {
+                    return executarConsulta(method, args);
+                }
+                case "executeUpdate", "executeLargeUpdate", "execute", "executeBatch", "executeLargeBatch" -> {
+                    return executarAlteracao(method, args);
+                }
+                default -> {
+                }
+            }
+            return invocar(alvo, method, args);
+        }
+
+        private Object executarConsulta(Method method, Object[] args) throws Throwable {
+            concluirConsulta();
+            if (args != null && args.length > 0) {
+                sql = (String) args[0];
+            }
+
+            long inicio = System.nanoTime();
+            ResultSet resultado = (ResultSet) invocar(alvo, method, args);
+            nanosConsulta = System.nanoTime() - inicio;
+            linhasConsulta = 0;
+            int desta = ++execucao;
+
+            return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    (proxy, m, a) -> {
+                        Object valor = invocar(resultado, m, a);
+                        if (desta != execucao) {
+                            return valor;
+                        }
+                        switch (m.getName()) {
+                            case "next" -> {
+                                if ((Boolean) valor) {
+                                    linhasConsulta++;
+                                }
+                            }
+                            case "close" -> concluirConsulta();
+                            default -> {
+                            }
+                        }
+                        return valor;
+                    });
+        }
+
+        private Object executarAlteracao(Method method, Object[] args) throws Throwable {
+            concluirConsulta();
+            if (args != null && args.length > 0 && args[0] instanceof String texto) {
+                sql = texto;
+            }
+
+            long inicio = System.nanoTime();
+            Object resultado = invocar(alvo, method, args);
+            long nanos = System.nanoTime() - inicio;
+
+            registrar(nanos, linhasAfetadas(resultado));
+            return resultado;
+        }
+
+        private void concluirConsulta() {
+            if (nanosConsulta >= 0) {
+                registrar(nanosConsulta, linhasConsulta);
+                nanosConsulta = -1;
+            }
+        }
+
+        private void registrar(long nanos, long linhas) {
+            if (sql != null) {
+                monitor.registrar(sql, nanos, linhas, parametros, quantidadeParametros, conexao);
+            }
+        }
+
+        private void ligar(int indice, Object valor) {
+            if (indice > parametros.length) {
+                parametros = Arrays.copyOf(parametros, Math.max(indice, parametros.length * 2));
+            }
+            parametros[indice - 1] = valor;
+            quantidadeParametros = Math.max(quantidadeParametros, indice);
+        }
+
+        private static long linhasAfetadas(Object resultado) {
+            return switch (resultado) {
+                case Integer linhas -> Math.max(linhas, 0);
+                case Long linhas -> Math.max(linhas, 0);
+                case int[] lote -> Arrays.stream(lote).filter(linhas -> linhas > 0).sum();
+                case long[] lote -> Arrays.stream(lote).filter(linhas -> linhas > 0).sum();
+                case null, default -> 0;
+            };
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.reservas.facisa.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Diário de eventos de domínio: quantos dos últimos eventos publicados ficam retidos em memória
+ * para que as visões os reapliquem a partir de um checkpoint.
+ */
+@ConfigurationProperties(prefix = "facisa.eventos")
+public record EventosProperties(
+        @DefaultValue("10000") int capacidadeDiario
+) {
+}
@@ -0,0 +1,59 @@
+package com.reservas.facisa.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Publica em {@code facisa.http.consultas.sql} quantos comandos SQL cada requisição emitiu,
+ * com as mesmas tags {@code method} e {@code uri} de {@code http.server.requests}. O SQL
+ * executado depois que a requisição passa a ser assíncrona (exportação) não entra na contagem.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricasWebConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricasWebConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                ContadorConsultasSql.iniciar();
+                return true;
+            }
+
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                                       Object handler) {
+                ContadorConsultasSql.encerrar();
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                        Exception ex) {
+                Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+                DistributionSummary.builder("facisa.http.consultas.sql")
+                        .description("Comandos SQL emitidos por requisição")
+                        .baseUnit("comandos")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                        .register(meterRegistry)
+                        .record(ContadorConsultasSql.encerrar());
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.reservas.facisa.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.reservas.facisa.service.MonitorSql;
+
+/**
+ * Passa o {@link DataSource} da aplicação pelo {@link DataSourceMonitorado}. Desligado com
+ * {@code facisa.sql.habilitado=false}, as conexões do pool são entregues sem intermediário.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "facisa.sql", name = "habilitado", matchIfMissing = true)
+public class MonitorSqlConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceMonitorado(ObjectProvider<MonitorSql> monitorSql) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceMonitorado)) {
+                    return new DataSourceMonitorado(dataSource, monitorSql);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.reservas.facisa.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Monitor de comandos SQL: a partir de que duração um comando é lento e sai no log por completo
+ * (parâmetros e plano do {@code EXPLAIN}), que fração dos demais também sai no log como amostra
+ * (de 0 a 1) e quantos formatos de comando distintos são acompanhados antes de agrupar o excedente.
+ */
+@ConfigurationProperties(prefix = "facisa.sql")
+public record MonitorSqlProperties(
+        @DefaultValue("true") boolean habilitado,
+        @DefaultValue("200ms") Duration limiteLento,
+        @DefaultValue("0") double amostragem,
+        @DefaultValue("true") boolean explain,
+        @DefaultValue("500") int maximoFormatos
+) {
+}
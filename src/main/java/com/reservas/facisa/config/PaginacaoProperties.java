@@ -0,0 +1,21 @@
+package com.reservas.facisa.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tamanho das páginas das listagens paginadas por cursor.
+ */
+@ConfigurationProperties(prefix = "facisa.paginacao")
+public record PaginacaoProperties(
+        @DefaultValue("50") int tamanhoPadrao,
+        @DefaultValue("500") int tamanhoMaximo
+) {
+
+    public int resolverTamanho(Integer solicitado) {
+        if (solicitado == null) {
+            return tamanhoPadrao;
+        }
+        return Math.max(1, Math.min(solicitado, tamanhoMaximo));
+    }
+}
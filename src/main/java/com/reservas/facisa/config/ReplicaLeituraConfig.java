@@ -0,0 +1,74 @@
+package com.reservas.facisa.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Com {@code facisa.replica.url} definida, o {@link DataSource} da aplicação passa a decidir o
+ * banco na primeira instrução de cada conexão: as transações marcadas como somente leitura usam
+ * o pool da réplica, e as demais, o principal. Roda antes do {@link MonitorSqlConfig}, que
+ * continua por fora e mede os comandos dos dois bancos.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "facisa.replica", name = "url")
+public class ReplicaLeituraConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceComReplica(Environment environment) {
+        return new RoteadorDataSource(environment);
+    }
+
+    private static final class RoteadorDataSource implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        RoteadorDataSource(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource principal)
+                    || bean instanceof DataSourceComReplica) {
+                return bean;
+            }
+
+            // Com o EntityManager aberto durante toda a requisição, a conexão da primeira transação
+            // seria reaproveitada pelas seguintes, e uma gravação depois de uma leitura iria à réplica.
+            if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+                throw new IllegalStateException(
+                        "A réplica de leitura exige spring.jpa.open-in-view=false.");
+            }
+
+            ReplicaLeituraProperties propriedades = Binder.get(environment)
+                    .bindOrCreate("facisa.replica", ReplicaLeituraProperties.class);
+
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(propriedades.url())
+                    .username(propriedades.usuario())
+                    .password(propriedades.senha())
+                    .build();
+            replica.setPoolName("replica");
+            replica.setMaximumPoolSize(propriedades.tamanhoPool());
+            replica.setReadOnly(true);
+
+            return new DataSourceComReplica(principal, replica);
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+}
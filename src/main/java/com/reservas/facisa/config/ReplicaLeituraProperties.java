@@ -0,0 +1,25 @@
+package com.reservas.facisa.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Réplica de leitura: sem {@code url}, todas as transações usam o banco principal. Com ela, as
+ * transações somente leitura vão para a réplica, exceto as do usuário que gravou há menos de
+ * {@code janelaLeituraPropria}, que continuam no principal até a replicação alcançá-lo.
+ */
+@ConfigurationProperties(prefix = "facisa.replica")
+public record ReplicaLeituraProperties(
+        String url,
+        @DefaultValue("sa") String usuario,
+        @DefaultValue("") String senha,
+        @DefaultValue("10") int tamanhoPool,
+        @DefaultValue("5s") Duration janelaLeituraPropria
+) {
+
+    public boolean habilitada() {
+        return url != null && !url.isBlank();
+    }
+}
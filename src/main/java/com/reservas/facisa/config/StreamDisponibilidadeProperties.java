@@ -0,0 +1,24 @@
+package com.reservas.facisa.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Assinaturas de {@code GET /reservas/stream}: por quanto tempo as alterações são acumuladas antes
+ * de cada envio, o intervalo dos comentários que mantêm a conexão viva, a duração máxima de uma
+ * conexão antes que o cliente precise reconectar, quanto tempo um envio pode levar antes que a
+ * assinatura seja descartada, quantas combinações de sala e data cada assinatura pode acompanhar
+ * e quantas alterações pendentes ela acumula antes de trocá-las por um snapshot.
+ */
+@ConfigurationProperties(prefix = "facisa.stream")
+public record StreamDisponibilidadeProperties(
+        @DefaultValue("250ms") Duration agrupamento,
+        @DefaultValue("25s") Duration heartbeat,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("10s") Duration timeoutEscrita,
+        @DefaultValue("100") int maximoCombinacoes,
+        @DefaultValue("200") int maximoPendentes
+) {
+}
@@ -0,0 +1,31 @@
+package com.reservas.facisa.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.reservas.facisa.service.VerificacaoIndiceDisponibilidade;
+
+/**
+ * Verifica o índice de disponibilidade contra o banco a cada {@code facisa.verificacao-indice.intervalo}.
+ * Desligado com {@code facisa.verificacao-indice.habilitada=false}; a verificação continua
+ * disponível em {@code POST /admin/indice/verificacao}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@ConditionalOnProperty(prefix = "facisa.verificacao-indice", name = "habilitada", matchIfMissing = true)
+public class VerificacaoIndiceConfig {
+
+    private final VerificacaoIndiceDisponibilidade verificacao;
+
+    public VerificacaoIndiceConfig(VerificacaoIndiceDisponibilidade verificacao) {
+        this.verificacao = verificacao;
+    }
+
+    @Scheduled(initialDelayString = "${facisa.verificacao-indice.intervalo:1h}",
+            fixedDelayString = "${facisa.verificacao-indice.intervalo:1h}")
+    public void verificarPeriodicamente() {
+        verificacao.verificar();
+    }
+}
@@ -0,0 +1,27 @@
+package com.reservas.facisa.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservas.facisa.dto.EstatisticaCacheDTO;
+import com.reservas.facisa.service.EstatisticasCacheService;
+
+@RestController
+@RequestMapping("/admin/cache")
+public class CacheController {
+
+    private final EstatisticasCacheService estatisticasCacheService;
+
+    public CacheController(EstatisticasCacheService estatisticasCacheService) {
+        this.estatisticasCacheService = estatisticasCacheService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EstatisticaCacheDTO>> listar() {
+        return ResponseEntity.ok(estatisticasCacheService.listar());
+    }
+}
@@ -0,0 +1,25 @@
+package com.reservas.facisa.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservas.facisa.dto.VerificacaoIndiceDTO;
+import com.reservas.facisa.service.VerificacaoIndiceDisponibilidade;
+
+@RestController
+@RequestMapping("/admin/indice")
+public class IndiceController {
+
+    private final VerificacaoIndiceDisponibilidade verificacaoIndice;
+
+    public IndiceController(VerificacaoIndiceDisponibilidade verificacaoIndice) {
+        this.verificacaoIndice = verificacaoIndice;
+    }
+
+    @PostMapping("/verificacao")
+    public ResponseEntity<VerificacaoIndiceDTO> verificar() {
+        return ResponseEntity.ok(verificacaoIndice.verificar());
+    }
+}
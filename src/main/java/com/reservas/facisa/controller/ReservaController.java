@@ -1,8 +1,11 @@
 package com.reservas.facisa.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,13 +13,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.reservas.facisa.config.PaginacaoProperties;
+import com.reservas.facisa.dto.PaginaDTO;
+import com.reservas.facisa.dto.ReservaLoteRequestDTO;
+import com.reservas.facisa.dto.ReservaLoteResponseDTO;
 import com.reservas.facisa.dto.ReservaRequestDTO;
 import com.reservas.facisa.dto.ReservaResponseDTO;
+import com.reservas.facisa.service.ExportacaoReservaService;
+import com.reservas.facisa.service.FormatoExportacao;
 import com.reservas.facisa.service.ReservaService;
+import com.reservas.facisa.service.StreamDisponibilidade;
+import com.reservas.facisa.service.VersoesConsulta;
 
 import jakarta.validation.Valid;
 
@@ -25,9 +40,21 @@ import jakarta.validation.Valid;
 public class ReservaController {
 
     private final ReservaService reservaService;
+    private final ExportacaoReservaService exportacaoReservaService;
+    private final VersoesConsulta versoesConsulta;
+    private final StreamDisponibilidade streamDisponibilidade;
+    private final PaginacaoProperties paginacao;
 
-    public ReservaController(ReservaService reservaService) {
+    public ReservaController(ReservaService reservaService,
+                             ExportacaoReservaService exportacaoReservaService,
+                             VersoesConsulta versoesConsulta,
+                             StreamDisponibilidade streamDisponibilidade,
+                             PaginacaoProperties paginacao) {
         this.reservaService = reservaService;
+        this.exportacaoReservaService = exportacaoReservaService;
+        this.versoesConsulta = versoesConsulta;
+        this.streamDisponibilidade = streamDisponibilidade;
+        this.paginacao = paginacao;
     }
 
     @PostMapping
@@ -36,21 +63,68 @@ public class ReservaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(reserva);
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<ReservaLoteResponseDTO> criarEmLote(@Valid @RequestBody ReservaLoteRequestDTO dto) {
+        ReservaLoteResponseDTO resultado = reservaService.criarEmLote(dto);
+        HttpStatus status = resultado.getCriadas() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(resultado);
+    }
+
     @GetMapping
-    public ResponseEntity<List<ReservaResponseDTO>> listar(
-            @RequestParam(name = "sala_id", required = false) Long salaId,
-            @RequestParam(name = "usuario_id", required = false) Long usuarioId,
-            @RequestParam(name = "data", required = false) String data) {
+    public ResponseEntity<PaginaDTO<ReservaResponseDTO>> listar(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limite", required = false) Integer limite) {
+        return ResponseEntity.ok(reservaService.listarPagina(cursor, paginacao.resolverTamanho(limite)));
+    }
 
-        if (salaId != null && data != null) {
-            return ResponseEntity.ok(reservaService.listarPorSalaEData(salaId, data));
-        }
+    @GetMapping(params = {"sala_id", "data"})
+    public ResponseEntity<List<ReservaResponseDTO>> listarPorSalaEData(
+            @RequestParam(name = "sala_id") Long salaId,
+            @RequestParam(name = "data") String data,
+            WebRequest requisicao) {
 
-        if (usuarioId != null) {
-            return ResponseEntity.ok(reservaService.listarPorUsuario(usuarioId));
+        String etag = versoesConsulta.etagReservasDaSala(salaId);
+        if (requisicao.checkNotModified(etag)) {
+            return null;
         }
+        return ResponseEntity.ok().eTag(etag).body(reservaService.listarPorSalaEData(salaId, data));
+    }
+
+    @GetMapping(params = "usuario_id")
+    public ResponseEntity<List<ReservaResponseDTO>> listarPorUsuario(
+            @RequestParam(name = "usuario_id") Long usuarioId) {
+        return ResponseEntity.ok(reservaService.listarPorUsuario(usuarioId));
+    }
+
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(name = "data_inicial") String dataInicialStr,
+            @RequestParam(name = "data_final") String dataFinalStr,
+            @RequestParam(name = "formato", defaultValue = "ndjson") String formatoStr) {
+
+        LocalDate dataInicial = exportacaoReservaService.lerData(dataInicialStr);
+        LocalDate dataFinal = exportacaoReservaService.lerData(dataFinalStr);
+        FormatoExportacao formato = FormatoExportacao.deParametro(formatoStr);
+        exportacaoReservaService.validarPeriodo(dataInicial, dataFinal);
+
+        String arquivo = "reservas_" + dataInicial + "_" + dataFinal + "." + formato.getExtensao();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + arquivo + "\"")
+                .body(saida -> exportacaoReservaService.exportar(dataInicial, dataFinal, formato, saida));
+    }
 
-        return ResponseEntity.ok(reservaService.listar());
+    /**
+     * Alterações nas reservas das combinações de {@code sala_id} e {@code data}, como Server-Sent
+     * Events: um {@code snapshot} ao conectar e depois {@code delta}s agrupados.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanhar(
+            @RequestParam(name = "sala_id") List<Long> salaIds,
+            @RequestParam(name = "data") List<String> datas,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long ultimoEventoId) {
+        return streamDisponibilidade.assinar(salaIds, datas, ultimoEventoId);
     }
 
     @GetMapping("/{id}")
@@ -5,11 +5,20 @@ import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.reservas.facisa.config.PaginacaoProperties;
+import com.reservas.facisa.dto.GradeOcupacaoDTO;
+import com.reservas.facisa.dto.HorarioDisponivelDTO;
+import com.reservas.facisa.dto.PaginaDTO;
 import com.reservas.facisa.dto.SalaRequestDTO;
 import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.service.BuscaHorariosService;
+import com.reservas.facisa.service.OcupacaoSalasService;
 import com.reservas.facisa.service.ReservaService;
 import com.reservas.facisa.service.SalaService;
+import com.reservas.facisa.service.VersoesConsulta;
 
 import jakarta.validation.Valid;
 
@@ -19,10 +28,23 @@ public class SalaController {
 
     private final SalaService salaService;
     private final ReservaService reservaService;
+    private final OcupacaoSalasService ocupacaoSalasService;
+    private final BuscaHorariosService buscaHorariosService;
+    private final VersoesConsulta versoesConsulta;
+    private final PaginacaoProperties paginacao;
 
-    public SalaController(SalaService salaService, ReservaService reservaService) {
+    public SalaController(SalaService salaService,
+                          ReservaService reservaService,
+                          OcupacaoSalasService ocupacaoSalasService,
+                          BuscaHorariosService buscaHorariosService,
+                          VersoesConsulta versoesConsulta,
+                          PaginacaoProperties paginacao) {
         this.salaService = salaService;
         this.reservaService = reservaService;
+        this.ocupacaoSalasService = ocupacaoSalasService;
+        this.buscaHorariosService = buscaHorariosService;
+        this.versoesConsulta = versoesConsulta;
+        this.paginacao = paginacao;
     }
 
     @PostMapping
@@ -32,13 +54,29 @@ public class SalaController {
     }
 
     @GetMapping
-    public ResponseEntity<List<SalaResponseDTO>> listar() {
-        return ResponseEntity.ok(salaService.listar());
+    public ResponseEntity<PaginaDTO<SalaResponseDTO>> listar(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limite", required = false) Integer limite,
+            WebRequest requisicao) {
+
+        // A ETag é lida antes da consulta: uma alteração concorrente no meio gera, no pior caso, uma
+        // resposta nova com a ETag antiga, e o próximo poll a busca de novo.
+        String etag = versoesConsulta.etagCatalogoSalas();
+        if (requisicao.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(salaService.listarPagina(cursor, paginacao.resolverTamanho(limite)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<SalaResponseDTO> buscarPorId(@PathVariable Long id) {
-        return ResponseEntity.ok(salaService.buscarPorId(id));
+    public ResponseEntity<SalaResponseDTO> buscarPorId(@PathVariable Long id, WebRequest requisicao) {
+        String etag = versoesConsulta.etagSala(id);
+        if (requisicao.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(salaService.buscarPorId(id));
     }
 
     @PutMapping("/{id}")
@@ -58,9 +96,34 @@ public class SalaController {
     public ResponseEntity<List<SalaResponseDTO>> listarSalasDisponiveis(
             @RequestParam("data") String data,
             @RequestParam("hora_inicio") String horaInicio,
-            @RequestParam("hora_fim") String horaFim) {
+            @RequestParam("hora_fim") String horaFim,
+            @RequestParam(name = "tipo", required = false) TipoSala tipo,
+            @RequestParam(name = "capacidade_minima", required = false) Integer capacidadeMinima) {
 
-        List<SalaResponseDTO> disponiveis = reservaService.listarSalasDisponiveis(data, horaInicio, horaFim);
+        List<SalaResponseDTO> disponiveis = reservaService.listarSalasDisponiveis(
+                data, horaInicio, horaFim, tipo, capacidadeMinima);
         return ResponseEntity.ok(disponiveis);
     }
+
+    @GetMapping("/ocupacao")
+    public ResponseEntity<GradeOcupacaoDTO> gradeOcupacao(
+            @RequestParam("data_inicial") String dataInicial,
+            @RequestParam("data_final") String dataFinal,
+            @RequestParam(name = "minutos_por_faixa", required = false) Integer minutosPorFaixa) {
+
+        return ResponseEntity.ok(ocupacaoSalasService.gerarGrade(dataInicial, dataFinal, minutosPorFaixa));
+    }
+
+    @GetMapping("/horarios-livres")
+    public ResponseEntity<List<HorarioDisponivelDTO>> buscarHorariosLivres(
+            @RequestParam("duracao_minutos") int duracaoMinutos,
+            @RequestParam("data_inicial") String dataInicial,
+            @RequestParam("data_final") String dataFinal,
+            @RequestParam(name = "capacidade_minima", required = false) Integer capacidadeMinima,
+            @RequestParam(name = "tipo", required = false) TipoSala tipo,
+            @RequestParam(name = "limite", required = false) Integer limite) {
+
+        return ResponseEntity.ok(buscaHorariosService.buscarPrimeirosHorarios(
+                duracaoMinutos, dataInicial, dataFinal, capacidadeMinima, tipo, limite));
+    }
 }
@@ -0,0 +1,52 @@
+package com.reservas.facisa.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservas.facisa.dto.SerieReservaRequestDTO;
+import com.reservas.facisa.dto.SerieReservaResponseDTO;
+import com.reservas.facisa.service.SerieReservaService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/reservas/series")
+public class SerieReservaController {
+
+    private final SerieReservaService serieReservaService;
+
+    public SerieReservaController(SerieReservaService serieReservaService) {
+        this.serieReservaService = serieReservaService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SerieReservaResponseDTO> criar(@Valid @RequestBody SerieReservaRequestDTO dto) {
+        SerieReservaResponseDTO serie = serieReservaService.criar(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(serie);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SerieReservaResponseDTO> buscarPorId(@PathVariable Long id) {
+        return ResponseEntity.ok(serieReservaService.buscarPorId(id));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<SerieReservaResponseDTO> atualizar(@PathVariable Long id,
+                                                             @Valid @RequestBody SerieReservaRequestDTO dto) {
+        return ResponseEntity.ok(serieReservaService.atualizar(id, dto));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelar(@PathVariable Long id) {
+        serieReservaService.cancelar(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reservas.facisa.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservas.facisa.dto.EstatisticaSqlDTO;
+import com.reservas.facisa.service.MonitorSql;
+
+@RestController
+@RequestMapping("/admin/sql")
+public class SqlController {
+
+    private final MonitorSql monitorSql;
+
+    public SqlController(MonitorSql monitorSql) {
+        this.monitorSql = monitorSql;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EstatisticaSqlDTO>> listar(
+            @RequestParam(name = "limite", defaultValue = "50") int limite) {
+        return ResponseEntity.ok(monitorSql.listar(Math.max(limite, 1)));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> limpar() {
+        monitorSql.limpar();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,11 +1,11 @@
 package com.reservas.facisa.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.reservas.facisa.config.PaginacaoProperties;
+import com.reservas.facisa.dto.PaginaDTO;
 import com.reservas.facisa.dto.UsuarioRequestDTO;
 import com.reservas.facisa.dto.UsuarioResponseDTO;
 import com.reservas.facisa.service.UsuarioService;
@@ -17,9 +17,11 @@ import jakarta.validation.Valid;
 public class UsuarioController {
 
     private final UsuarioService usuarioService;
+    private final PaginacaoProperties paginacao;
 
-    public UsuarioController(UsuarioService usuarioService) {
+    public UsuarioController(UsuarioService usuarioService, PaginacaoProperties paginacao) {
         this.usuarioService = usuarioService;
+        this.paginacao = paginacao;
     }
 
     @PostMapping
@@ -29,8 +31,10 @@ public class UsuarioController {
     }
 
     @GetMapping
-    public ResponseEntity<List<UsuarioResponseDTO>> listar() {
-        return ResponseEntity.ok(usuarioService.listar());
+    public ResponseEntity<PaginaDTO<UsuarioResponseDTO>> listar(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limite", required = false) Integer limite) {
+        return ResponseEntity.ok(usuarioService.listarPagina(cursor, paginacao.resolverTamanho(limite)));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,33 @@
+package com.reservas.facisa.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Conteúdo dos eventos de {@code GET /reservas/stream}. Em um {@code snapshot}, {@code reservas}
+ * traz todas as reservas ativas das combinações assinadas e substitui o que o cliente tinha. Em
+ * um {@code delta}, traz o estado atual das reservas criadas ou alteradas, que o cliente
+ * substitui pelo id.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class AlteracoesDisponibilidadeDTO {
+
+    private List<IntervaloDisponibilidadeDTO> reservas;
+
+    /** Reservas canceladas ou movidas para fora das combinações assinadas. */
+    private List<Long> removidas;
+
+    private List<Long> salasInativadas;
+}
@@ -0,0 +1,26 @@
+package com.reservas.facisa.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstatisticaCacheDTO {
+
+    private String regiao;
+
+    private long acertos;
+    private long faltas;
+    private double taxaAcerto;
+
+    /** Entradas descartadas pelo limite de tamanho ou pela expiração. */
+    private long remocoes;
+
+    private long tamanhoEstimado;
+}
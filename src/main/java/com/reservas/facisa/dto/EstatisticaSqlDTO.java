@@ -0,0 +1,30 @@
+package com.reservas.facisa.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstatisticaSqlDTO {
+
+    /** Comando normalizado: espaços colapsados e listas {@code IN (?, ?, ...)} de qualquer tamanho unidas. */
+    private String sql;
+
+    private long execucoes;
+
+    /** Linhas lidas nas consultas ou afetadas nas alterações. */
+    private long linhas;
+
+    /** Execuções que passaram de {@code facisa.sql.limite-lento}. */
+    private long lentas;
+
+    private double tempoTotalMs;
+    private double tempoMedioMs;
+    private double tempoMaximoMs;
+}
@@ -0,0 +1,25 @@
+package com.reservas.facisa.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeOcupacaoDTO {
+
+    private String dataInicial;
+    private String dataFinal;
+
+    private int minutosPorFaixa;
+    private int faixasPorDia;
+
+    private List<GradeOcupacaoSalaDTO> salas;
+}
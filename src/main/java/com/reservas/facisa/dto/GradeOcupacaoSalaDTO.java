@@ -0,0 +1,26 @@
+package com.reservas.facisa.dto;
+
+import java.util.List;
+
+import com.reservas.facisa.model.StatusSala;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeOcupacaoSalaDTO {
+
+    private Long id;
+    private String nome;
+    private StatusSala status;
+
+    /** Um mapa de bits em hexadecimal por dia do período; o bit mais significativo é a primeira faixa do dia. */
+    private List<String> ocupacao;
+}
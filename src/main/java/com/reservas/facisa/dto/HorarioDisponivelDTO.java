@@ -0,0 +1,26 @@
+package com.reservas.facisa.dto;
+
+import com.reservas.facisa.model.TipoSala;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HorarioDisponivelDTO {
+
+    private Long salaId;
+    private String salaNome;
+    private TipoSala tipo;
+    private Integer capacidade;
+
+    private String data;
+    private String horaInicio;
+    private String horaFim;
+}
@@ -0,0 +1,22 @@
+package com.reservas.facisa.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Reserva ativa como aparece no stream de disponibilidade: só o que ocupa a sala. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IntervaloDisponibilidadeDTO {
+
+    private Long id;
+    private Long salaId;
+    private String data;
+    private String horaInicio;
+    private String horaFim;
+}
@@ -0,0 +1,18 @@
+package com.reservas.facisa.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IntervaloReservaDTO {
+
+    private Long reservaId;
+    private Long salaId;
+    private LocalDate data;
+    private LocalTime horaInicio;
+    private LocalTime horaFim;
+}
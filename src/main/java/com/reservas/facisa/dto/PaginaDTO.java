@@ -0,0 +1,22 @@
+package com.reservas.facisa.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+    private List<T> itens;
+
+    /**
+     * Cursor a ser enviado para obter a página seguinte; {@code null} na última página.
+     */
+    private String proximoCursor;
+}
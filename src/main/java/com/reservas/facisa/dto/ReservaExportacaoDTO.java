@@ -0,0 +1,25 @@
+package com.reservas.facisa.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.reservas.facisa.model.StatusReserva;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReservaExportacaoDTO {
+
+    private Long id;
+    private Long usuarioId;
+    private String usuarioNome;
+    private Long salaId;
+    private String salaNome;
+    private LocalDate data;
+    private LocalTime horaInicio;
+    private LocalTime horaFim;
+    private String motivo;
+    private StatusReserva status;
+}
@@ -0,0 +1,20 @@
+package com.reservas.facisa.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaLoteItemDTO {
+
+    private int indice;
+    private boolean sucesso;
+    private ReservaResponseDTO reserva;
+    private String erro;
+}
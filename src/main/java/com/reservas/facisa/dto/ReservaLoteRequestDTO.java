@@ -0,0 +1,22 @@
+package com.reservas.facisa.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservaLoteRequestDTO {
+
+    @NotEmpty(message = "O lote deve conter ao menos uma reserva.")
+    @Size(max = 5000, message = "O lote pode conter no máximo 5000 reservas.")
+    private List<@Valid ReservaRequestDTO> reservas;
+
+    private boolean tudoOuNada;
+}
@@ -0,0 +1,21 @@
+package com.reservas.facisa.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaLoteResponseDTO {
+
+    private int criadas;
+    private int rejeitadas;
+    private List<ReservaLoteItemDTO> itens;
+}
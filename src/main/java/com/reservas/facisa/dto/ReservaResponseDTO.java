@@ -30,4 +30,6 @@ public class ReservaResponseDTO {
     private String motivo;
 
     private StatusReserva status;
+
+    private Long serieId;
 }
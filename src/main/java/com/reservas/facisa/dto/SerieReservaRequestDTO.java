@@ -0,0 +1,45 @@
+package com.reservas.facisa.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SerieReservaRequestDTO {
+
+    @NotNull(message = "O usuário é obrigatório.")
+    private Long usuarioId;
+
+    @NotNull(message = "A sala é obrigatória.")
+    private Long salaId;
+
+    @NotBlank(message = "A data de início é obrigatória.")
+    private String dataInicio;
+
+    @NotBlank(message = "A data de fim é obrigatória.")
+    private String dataFim;
+
+    @NotBlank(message = "A hora de início é obrigatória.")
+    private String horaInicio;
+
+    @NotBlank(message = "A hora de fim é obrigatória.")
+    private String horaFim;
+
+    @Min(value = 1, message = "O intervalo deve ser de ao menos 1 semana.")
+    @Max(value = 52, message = "O intervalo deve ser de no máximo 52 semanas.")
+    private Integer intervaloSemanas = 1;
+
+    private List<String> excecoes = new ArrayList<>();
+
+    @NotBlank(message = "O motivo é obrigatório.")
+    private String motivo;
+}
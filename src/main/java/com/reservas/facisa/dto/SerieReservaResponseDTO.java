@@ -0,0 +1,40 @@
+package com.reservas.facisa.dto;
+
+import java.util.List;
+
+import com.reservas.facisa.model.StatusReserva;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SerieReservaResponseDTO {
+
+    private Long id;
+
+    private Long usuarioId;
+    private String usuarioNome;
+
+    private Long salaId;
+    private String salaNome;
+
+    private String dataInicio;
+    private String dataFim;
+    private String horaInicio;
+    private String horaFim;
+    private Integer intervaloSemanas;
+    private List<String> excecoes;
+
+    private String motivo;
+
+    private StatusReserva status;
+
+    private List<ReservaResponseDTO> ocorrencias;
+}
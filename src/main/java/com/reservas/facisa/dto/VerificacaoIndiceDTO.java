@@ -0,0 +1,20 @@
+package com.reservas.facisa.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VerificacaoIndiceDTO {
+
+    /** Combinações de sala e data em que o índice divergia do banco e foram reconstruídas. */
+    private int divergentes;
+
+    private long duracaoMs;
+}
@@ -0,0 +1,40 @@
+package com.reservas.facisa.exception;
+
+import java.util.Locale;
+
+/**
+ * Motivo de uma {@link RegraNegocioException}, definido onde ela é lançada. Vira a tag
+ * {@code categoria} da métrica {@code facisa.regras.rejeicoes}, então as mensagens podem mudar
+ * sem mover as contagens de série.
+ */
+public enum CategoriaRegra {
+
+    /** Outra reserva ativa ocupa a sala no horário pedido. */
+    CONFLITO_HORARIO,
+
+    /** A trava da sala não foi obtida a tempo ou a espera foi interrompida. */
+    CONCORRENCIA,
+
+    SALA_INATIVA,
+
+    /** A reserva ou série já estava cancelada. */
+    JA_CANCELADA,
+
+    /** Regras próprias das séries, como o número de ocorrências geradas. */
+    SERIE,
+
+    /** Nome de sala ou e-mail de usuário já cadastrado. */
+    DUPLICIDADE,
+
+    /** Horários e datas incoerentes, no passado ou fora do prazo permitido. */
+    PERIODO,
+
+    /** Parâmetro de consulta inválido: formato, cursor, faixa, duração ou limites da requisição. */
+    PARAMETRO;
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String getTag() {
+        return tag;
+    }
+}
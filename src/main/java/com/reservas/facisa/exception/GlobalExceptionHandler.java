@@ -13,9 +13,17 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.reservas.facisa.service.MetricasNegocio;
+
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MetricasNegocio metricasNegocio;
+
+    public GlobalExceptionHandler(MetricasNegocio metricasNegocio) {
+        this.metricasNegocio = metricasNegocio;
+    }
+
     @ExceptionHandler(RecursoNaoEncontradoException.class)
     public ResponseEntity<ErroResponse> handleRecursoNaoEncontrado(RecursoNaoEncontradoException ex,
                                                                    HttpServletRequest request) {
@@ -35,6 +43,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErroResponse> handleRegraNegocio(RegraNegocioException ex,
                                                            HttpServletRequest request) {
 
+        metricasNegocio.registrarRejeicao(ex);
+
         ErroResponse body = ErroResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
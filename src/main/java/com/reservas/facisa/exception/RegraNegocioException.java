@@ -4,11 +4,19 @@ public class RegraNegocioException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
-    public RegraNegocioException(String message) {
+    private final CategoriaRegra categoria;
+
+    public RegraNegocioException(CategoriaRegra categoria, String message) {
         super(message);
+        this.categoria = categoria;
     }
 
-    public RegraNegocioException(String message, Throwable cause) {
+    public RegraNegocioException(CategoriaRegra categoria, String message, Throwable cause) {
         super(message, cause);
+        this.categoria = categoria;
+    }
+
+    public CategoriaRegra getCategoria() {
+        return categoria;
     }
 }
@@ -0,0 +1,94 @@
+package com.reservas.facisa.mapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Conversão entre texto e datas/horários nos formatos da API ({@code yyyy-MM-dd} e {@code HH:mm})
+ * sem passar pelo {@link DateTimeFormatter} no caminho comum. Os 1.440 horários do dia ficam
+ * pré-formatados, e as datas formatadas recentemente ficam em uma tabela indexada pelo dia.
+ * Qualquer texto fora da forma canônica é repassado ao {@code DateTimeFormatter}, que mantém as
+ * mesmas mensagens e a mesma {@link java.time.format.DateTimeParseException} de antes.
+ */
+public final class FormatoTemporal {
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE; // yyyy-MM-dd
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private static final int MINUTOS_POR_DIA = 24 * 60;
+    private static final int POSICOES_DATAS = 1024;
+
+    private static final String[] TEXTOS_HORA = new String[MINUTOS_POR_DIA];
+    private static final LocalTime[] HORAS = new LocalTime[MINUTOS_POR_DIA];
+
+    static {
+        for (int minuto = 0; minuto < MINUTOS_POR_DIA; minuto++) {
+            HORAS[minuto] = LocalTime.of(minuto / 60, minuto % 60);
+            TEXTOS_HORA[minuto] = HORAS[minuto].format(TIME_FORMATTER);
+        }
+    }
+
+    private record DataFormatada(LocalDate data, String texto) {
+    }
+
+    // Entradas imutáveis: uma leitura concorrente vê a entrada antiga ou a nova, nunca uma metade.
+    private static final DataFormatada[] DATAS = new DataFormatada[POSICOES_DATAS];
+
+    private FormatoTemporal() {
+    }
+
+    public static String formatarHora(LocalTime hora) {
+        return TEXTOS_HORA[hora.getHour() * 60 + hora.getMinute()];
+    }
+
+    public static String formatarData(LocalDate data) {
+        int posicao = Math.floorMod(data.toEpochDay(), POSICOES_DATAS);
+
+        DataFormatada entrada = DATAS[posicao];
+        if (entrada != null && entrada.data().equals(data)) {
+            return entrada.texto();
+        }
+
+        String texto = data.format(DATE_FORMATTER);
+        DATAS[posicao] = new DataFormatada(data, texto);
+        return texto;
+    }
+
+    public static LocalTime lerHora(String texto) {
+        if (texto.length() == 5 && texto.charAt(2) == ':') {
+            int hora = digitos(texto, 0, 2);
+            int minuto = digitos(texto, 3, 5);
+            if (hora >= 0 && hora < 24 && minuto >= 0 && minuto < 60) {
+                return HORAS[hora * 60 + minuto];
+            }
+        }
+        return LocalTime.parse(texto, TIME_FORMATTER);
+    }
+
+    public static LocalDate lerData(String texto) {
+        if (texto.length() == 10 && texto.charAt(4) == '-' && texto.charAt(7) == '-') {
+            int ano = digitos(texto, 0, 4);
+            int mes = digitos(texto, 5, 7);
+            int dia = digitos(texto, 8, 10);
+            if (ano >= 0 && mes >= 1 && mes <= 12 && dia >= 1 && dia <= 28) {
+                return LocalDate.of(ano, mes, dia);
+            }
+        }
+        // Fins de mês, anos estendidos e textos inválidos seguem as regras do ISO_LOCAL_DATE.
+        return LocalDate.parse(texto, DATE_FORMATTER);
+    }
+
+    /** Valor decimal de {@code texto[inicio, fim)}, ou -1 se houver caractere que não é dígito. */
+    private static int digitos(String texto, int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            int digito = texto.charAt(i) - '0';
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+}
@@ -2,7 +2,6 @@ package com.reservas.facisa.mapper;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 import org.springframework.stereotype.Component;
 
@@ -16,17 +15,14 @@ import com.reservas.facisa.model.Usuario;
 @Component
 public class ReservaMapper {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE; // yyyy-MM-dd
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
-
     public Reserva toEntity(ReservaRequestDTO dto, Usuario usuario, Sala sala) {
         if (dto == null || usuario == null || sala == null) {
             return null;
         }
 
-        LocalDate data = LocalDate.parse(dto.getData(), DATE_FORMATTER);
-        LocalTime horaInicio = LocalTime.parse(dto.getHoraInicio(), TIME_FORMATTER);
-        LocalTime horaFim = LocalTime.parse(dto.getHoraFim(), TIME_FORMATTER);
+        LocalDate data = FormatoTemporal.lerData(dto.getData());
+        LocalTime horaInicio = FormatoTemporal.lerHora(dto.getHoraInicio());
+        LocalTime horaFim = FormatoTemporal.lerHora(dto.getHoraFim());
 
         return Reserva.builder()
                 .usuario(usuario)
@@ -51,9 +47,9 @@ public class ReservaMapper {
             reserva.setSala(sala);
         }
 
-        LocalDate data = LocalDate.parse(dto.getData(), DATE_FORMATTER);
-        LocalTime horaInicio = LocalTime.parse(dto.getHoraInicio(), TIME_FORMATTER);
-        LocalTime horaFim = LocalTime.parse(dto.getHoraFim(), TIME_FORMATTER);
+        LocalDate data = FormatoTemporal.lerData(dto.getData());
+        LocalTime horaInicio = FormatoTemporal.lerHora(dto.getHoraInicio());
+        LocalTime horaFim = FormatoTemporal.lerHora(dto.getHoraFim());
 
         reserva.setData(data);
         reserva.setHoraInicio(horaInicio);
@@ -66,9 +62,9 @@ public class ReservaMapper {
             return null;
         }
 
-        String data = reserva.getData() != null ? reserva.getData().format(DATE_FORMATTER) : null;
-        String horaInicio = reserva.getHoraInicio() != null ? reserva.getHoraInicio().format(TIME_FORMATTER) : null;
-        String horaFim = reserva.getHoraFim() != null ? reserva.getHoraFim().format(TIME_FORMATTER) : null;
+        String data = reserva.getData() != null ? FormatoTemporal.formatarData(reserva.getData()) : null;
+        String horaInicio = reserva.getHoraInicio() != null ? FormatoTemporal.formatarHora(reserva.getHoraInicio()) : null;
+        String horaFim = reserva.getHoraFim() != null ? FormatoTemporal.formatarHora(reserva.getHoraFim()) : null;
 
         return ReservaResponseDTO.builder()
                 .id(reserva.getId())
@@ -81,6 +77,7 @@ public class ReservaMapper {
                 .horaFim(horaFim)
                 .motivo(reserva.getMotivo())
                 .status(reserva.getStatus())
+                .serieId(reserva.getSerie() != null ? reserva.getSerie().getId() : null)
                 .build();
     }
 }
@@ -0,0 +1,91 @@
+package com.reservas.facisa.mapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.reservas.facisa.dto.SerieReservaRequestDTO;
+import com.reservas.facisa.dto.SerieReservaResponseDTO;
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.SerieReserva;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.Usuario;
+
+@Component
+public class SerieReservaMapper {
+
+    private final ReservaMapper reservaMapper;
+
+    public SerieReservaMapper(ReservaMapper reservaMapper) {
+        this.reservaMapper = reservaMapper;
+    }
+
+    public SerieReserva toEntity(SerieReservaRequestDTO dto, Usuario usuario, Sala sala) {
+        if (dto == null || usuario == null || sala == null) {
+            return null;
+        }
+
+        SerieReserva serie = SerieReserva.builder()
+                .status(StatusReserva.ATIVA)
+                .build();
+        updateEntityFromDto(dto, serie, usuario, sala);
+        return serie;
+    }
+
+    public void updateEntityFromDto(SerieReservaRequestDTO dto, SerieReserva serie, Usuario usuario, Sala sala) {
+        if (dto == null || serie == null) {
+            return;
+        }
+
+        if (usuario != null) {
+            serie.setUsuario(usuario);
+        }
+        if (sala != null) {
+            serie.setSala(sala);
+        }
+
+        serie.setDataInicio(FormatoTemporal.lerData(dto.getDataInicio()));
+        serie.setDataFim(FormatoTemporal.lerData(dto.getDataFim()));
+        serie.setHoraInicio(FormatoTemporal.lerHora(dto.getHoraInicio()));
+        serie.setHoraFim(FormatoTemporal.lerHora(dto.getHoraFim()));
+        serie.setIntervaloSemanas(dto.getIntervaloSemanas() != null ? dto.getIntervaloSemanas() : 1);
+        serie.setMotivo(dto.getMotivo());
+
+        serie.getExcecoes().clear();
+        if (dto.getExcecoes() != null) {
+            dto.getExcecoes().forEach(data -> serie.getExcecoes().add(FormatoTemporal.lerData(data)));
+        }
+    }
+
+    public SerieReservaResponseDTO toResponse(SerieReserva serie, List<Reserva> ocorrencias) {
+        if (serie == null) {
+            return null;
+        }
+
+        return SerieReservaResponseDTO.builder()
+                .id(serie.getId())
+                .usuarioId(serie.getUsuario() != null ? serie.getUsuario().getId() : null)
+                .usuarioNome(serie.getUsuario() != null ? serie.getUsuario().getNome() : null)
+                .salaId(serie.getSala() != null ? serie.getSala().getId() : null)
+                .salaNome(serie.getSala() != null ? serie.getSala().getNome() : null)
+                .dataInicio(serie.getDataInicio() != null ? FormatoTemporal.formatarData(serie.getDataInicio()) : null)
+                .dataFim(serie.getDataFim() != null ? FormatoTemporal.formatarData(serie.getDataFim()) : null)
+                .horaInicio(serie.getHoraInicio() != null ? FormatoTemporal.formatarHora(serie.getHoraInicio()) : null)
+                .horaFim(serie.getHoraFim() != null ? FormatoTemporal.formatarHora(serie.getHoraFim()) : null)
+                .intervaloSemanas(serie.getIntervaloSemanas())
+                .excecoes(serie.getExcecoes().stream()
+                        .sorted()
+                        .map(FormatoTemporal::formatarData)
+                        .collect(Collectors.toList()))
+                .motivo(serie.getMotivo())
+                .status(serie.getStatus())
+                .ocorrencias(ocorrencias.stream()
+                        .map(reservaMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
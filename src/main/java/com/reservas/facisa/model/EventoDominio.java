@@ -0,0 +1,87 @@
+package com.reservas.facisa.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Fatos já gravados que alteram a disponibilidade das salas. Cada evento leva o estado final da
+ * reserva ou da sala, não a diferença, então aplicá-lo de novo não muda o resultado. A {@code sequencia} é
+ * atribuída na publicação, depois do commit, e dá a ordem em que os eventos devem ser aplicados;
+ * até lá vale 0.
+ */
+public sealed interface EventoDominio {
+
+    long sequencia();
+
+    EventoDominio comSequencia(long sequencia);
+
+    record ReservaCriada(long sequencia, Long reservaId, Long usuarioId, Long salaId,
+                         LocalDate data, LocalTime horaInicio, LocalTime horaFim) implements EventoDominio {
+
+        public static ReservaCriada de(Reserva reserva) {
+            return new ReservaCriada(0, reserva.getId(), reserva.getUsuario().getId(), reserva.getSala().getId(),
+                    reserva.getData(), reserva.getHoraInicio(), reserva.getHoraFim());
+        }
+
+        @Override
+        public ReservaCriada comSequencia(long sequencia) {
+            return new ReservaCriada(sequencia, reservaId, usuarioId, salaId, data, horaInicio, horaFim);
+        }
+    }
+
+    /** A reserva saiu de ({@code salaAnteriorId}, {@code dataAnterior}), que pode ser a mesma sala e data. */
+    record ReservaAlterada(long sequencia, Long reservaId, Long usuarioId, Long salaAnteriorId, LocalDate dataAnterior,
+                           Long salaId, LocalDate data, LocalTime horaInicio, LocalTime horaFim) implements EventoDominio {
+
+        public static ReservaAlterada de(Reserva reserva, Long salaAnteriorId, LocalDate dataAnterior) {
+            return new ReservaAlterada(0, reserva.getId(), reserva.getUsuario().getId(), salaAnteriorId, dataAnterior,
+                    reserva.getSala().getId(), reserva.getData(), reserva.getHoraInicio(), reserva.getHoraFim());
+        }
+
+        @Override
+        public ReservaAlterada comSequencia(long sequencia) {
+            return new ReservaAlterada(sequencia, reservaId, usuarioId, salaAnteriorId, dataAnterior,
+                    salaId, data, horaInicio, horaFim);
+        }
+    }
+
+    record ReservaCancelada(long sequencia, Long reservaId, Long usuarioId, Long salaId, LocalDate data)
+            implements EventoDominio {
+
+        public static ReservaCancelada de(Reserva reserva) {
+            return new ReservaCancelada(0, reserva.getId(), reserva.getUsuario().getId(), reserva.getSala().getId(),
+                    reserva.getData());
+        }
+
+        @Override
+        public ReservaCancelada comSequencia(long sequencia) {
+            return new ReservaCancelada(sequencia, reservaId, usuarioId, salaId, data);
+        }
+    }
+
+    /** A sala foi criada ou editada; pode ter passado a INATIVA, caso em que segue um {@link SalaInativada}. */
+    record SalaAlterada(long sequencia, Long salaId, String nome, TipoSala tipo, Integer capacidade, StatusSala status)
+            implements EventoDominio {
+
+        public static SalaAlterada de(Sala sala) {
+            return new SalaAlterada(0, sala.getId(), sala.getNome(), sala.getTipo(), sala.getCapacidade(), sala.getStatus());
+        }
+
+        @Override
+        public SalaAlterada comSequencia(long sequencia) {
+            return new SalaAlterada(sequencia, salaId, nome, tipo, capacidade, status);
+        }
+    }
+
+    /**
+     * A sala deixou de aceitar reservas, por ter sido inativada ou removida. As reservas que ela já
+     * tinha continuam ativas.
+     */
+    record SalaInativada(long sequencia, Long salaId) implements EventoDominio {
+
+        @Override
+        public SalaInativada comSequencia(long sequencia) {
+            return new SalaInativada(sequencia, salaId);
+        }
+    }
+}
@@ -12,7 +12,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "reservas")
+@Table(
+    name = "reservas",
+    indexes = {
+        @Index(name = "idx_reserva_sala_data_status_inicio", columnList = "sala_id, data_reserva, status, hora_inicio"),
+        @Index(name = "idx_reserva_usuario_data", columnList = "usuario_id, data_reserva"),
+        @Index(name = "idx_reserva_status_data", columnList = "status, data_reserva"),
+        @Index(name = "idx_reserva_serie_data", columnList = "serie_id, data_reserva"),
+        @Index(name = "idx_reserva_data_inicio_id", columnList = "data_reserva, hora_inicio, id")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +30,8 @@ import lombok.Setter;
 public class Reserva {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservas_seq")
+    @SequenceGenerator(name = "reservas_seq", sequenceName = "reservas_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -34,6 +44,11 @@ public class Reserva {
                 foreignKey = @ForeignKey(name = "fk_reserva_sala"))
     private Sala sala;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "serie_id",
+                foreignKey = @ForeignKey(name = "fk_reserva_serie"))
+    private SerieReserva serie;
+
     @Column(name = "data_reserva", nullable = false)
     private LocalDate data;
 
@@ -1,6 +1,9 @@
 package com.reservas.facisa.model;
 
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +18,8 @@ import lombok.Setter;
         @UniqueConstraint(name = "uk_sala_nome", columnNames = "nome")
     }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "salas")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +28,8 @@ import lombok.Setter;
 public class Sala {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "salas_seq")
+    @SequenceGenerator(name = "salas_seq", sequenceName = "salas_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false, unique = true, length = 100)
@@ -0,0 +1,91 @@
+package com.reservas.facisa.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Reserva recorrente: a mesma sala e horário a cada {@code intervaloSemanas} semanas, no dia da
+ * semana de {@code dataInicio}, até {@code dataFim}, exceto nas datas de {@code excecoes}.
+ * Cada ocorrência é gravada como uma {@link Reserva} ligada à série.
+ */
+@Entity
+@Table(name = "series_reserva")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SerieReserva {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "series_reserva_seq")
+    @SequenceGenerator(name = "series_reserva_seq", sequenceName = "series_reserva_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "usuario_id", nullable = false,
+                foreignKey = @ForeignKey(name = "fk_serie_usuario"))
+    private Usuario usuario;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "sala_id", nullable = false,
+                foreignKey = @ForeignKey(name = "fk_serie_sala"))
+    private Sala sala;
+
+    @Column(name = "data_inicio", nullable = false)
+    private LocalDate dataInicio;
+
+    @Column(name = "data_fim", nullable = false)
+    private LocalDate dataFim;
+
+    @Column(name = "hora_inicio", nullable = false)
+    private LocalTime horaInicio;
+
+    @Column(name = "hora_fim", nullable = false)
+    private LocalTime horaFim;
+
+    @Column(name = "intervalo_semanas", nullable = false)
+    private Integer intervaloSemanas;
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "series_reserva_excecoes",
+                     joinColumns = @JoinColumn(name = "serie_id"),
+                     foreignKey = @ForeignKey(name = "fk_excecao_serie"))
+    @Column(name = "data_excecao", nullable = false)
+    private Set<LocalDate> excecoes = new HashSet<>();
+
+    @Column(name = "motivo", nullable = false, length = 255)
+    private String motivo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 15)
+    private StatusReserva status;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em")
+    private LocalDateTime atualizadoEm;
+
+    @PrePersist
+    public void prePersist() {
+        this.criadoEm = LocalDateTime.now();
+        this.status = this.status == null ? StatusReserva.ATIVA : this.status;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.atualizadoEm = LocalDateTime.now();
+    }
+}
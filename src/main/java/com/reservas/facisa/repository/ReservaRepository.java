@@ -1,20 +1,42 @@
 package com.reservas.facisa.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.ReservaExportacaoDTO;
+import com.reservas.facisa.dto.SalaResponseDTO;
 import com.reservas.facisa.model.Reserva;
 import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+
+import jakarta.persistence.QueryHint;
 
 public interface ReservaRepository extends JpaRepository<Reserva, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = {"usuario", "sala"})
+    Optional<Reserva> findById(Long id);
+
+    @EntityGraph(attributePaths = {"usuario", "sala"})
     List<Reserva> findBySalaIdAndData(Long salaId, LocalDate data);
 
+    @EntityGraph(attributePaths = {"usuario", "sala"})
     List<Reserva> findByUsuarioId(Long usuarioId);
 
     List<Reserva> findBySalaIdAndDataAndStatus(Long salaId, LocalDate data, StatusReserva status);
@@ -34,4 +56,131 @@ public interface ReservaRepository extends JpaRepository<Reserva, Long> {
             @Param("horaFim") LocalTime horaFim,
             @Param("status") StatusReserva status
     );
+
+    @Query("""
+           SELECT new com.reservas.facisa.dto.IntervaloReservaDTO(r.id, r.sala.id, r.data, r.horaInicio, r.horaFim)
+           FROM Reserva r
+           WHERE r.status = :status
+             AND r.data BETWEEN :dataInicial AND :dataFinal
+           """)
+    List<IntervaloReservaDTO> findIntervalosPorPeriodo(
+            @Param("dataInicial") LocalDate dataInicial,
+            @Param("dataFinal") LocalDate dataFinal,
+            @Param("status") StatusReserva status
+    );
+
+    @Query("""
+           SELECT new com.reservas.facisa.dto.SalaResponseDTO(s.id, s.nome, s.tipo, s.capacidade, s.status)
+           FROM Sala s
+           WHERE s.status = :statusSala
+             AND s.capacidade >= :capacidadeMinima
+             AND (:tipo IS NULL OR s.tipo = :tipo)
+             AND NOT EXISTS (
+                 SELECT 1
+                 FROM Reserva r
+                 WHERE r.sala = s
+                   AND r.data = :data
+                   AND r.status = :statusReserva
+                   AND (:horaInicio < r.horaFim AND :horaFim > r.horaInicio)
+             )
+           ORDER BY s.id
+           """)
+    List<SalaResponseDTO> findSalasDisponiveis(
+            @Param("data") LocalDate data,
+            @Param("horaInicio") LocalTime horaInicio,
+            @Param("horaFim") LocalTime horaFim,
+            @Param("tipo") TipoSala tipo,
+            @Param("capacidadeMinima") int capacidadeMinima,
+            @Param("statusSala") StatusSala statusSala,
+            @Param("statusReserva") StatusReserva statusReserva
+    );
+
+    @Query("""
+           SELECT new com.reservas.facisa.dto.IntervaloReservaDTO(r.id, r.sala.id, r.data, r.horaInicio, r.horaFim)
+           FROM Reserva r
+           WHERE r.sala.id IN :salaIds
+             AND r.data BETWEEN :dataInicial AND :dataFinal
+             AND r.status = :status
+           """)
+    List<IntervaloReservaDTO> findIntervalosPorSalasEPeriodo(
+            @Param("salaIds") Collection<Long> salaIds,
+            @Param("dataInicial") LocalDate dataInicial,
+            @Param("dataFinal") LocalDate dataFinal,
+            @Param("status") StatusReserva status
+    );
+
+    @EntityGraph(attributePaths = {"usuario", "sala"})
+    List<Reserva> findBySerieIdOrderByDataAsc(Long serieId);
+
+    @Query("""
+           SELECT new com.reservas.facisa.dto.IntervaloReservaDTO(r.id, r.sala.id, r.data, r.horaInicio, r.horaFim)
+           FROM Reserva r
+           WHERE r.serie.id = :serieId
+             AND r.status = :status
+             AND (r.data > :hoje OR (r.data = :hoje AND r.horaInicio > :agora))
+           """)
+    List<IntervaloReservaDTO> findIntervalosFuturosDaSerie(
+            @Param("serieId") Long serieId,
+            @Param("hoje") LocalDate hoje,
+            @Param("agora") LocalTime agora,
+            @Param("status") StatusReserva status
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           UPDATE Reserva r
+           SET r.status = :status,
+               r.atualizadoEm = :atualizadoEm
+           WHERE r.id IN :ids
+           """)
+    int atualizarStatusPorIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") StatusReserva status,
+            @Param("atualizadoEm") LocalDateTime atualizadoEm
+    );
+
+    @Query("""
+           SELECT r
+           FROM Reserva r
+           LEFT JOIN FETCH r.usuario
+           LEFT JOIN FETCH r.sala
+           ORDER BY r.data, r.horaInicio, r.id
+           """)
+    List<Reserva> findPrimeiraPagina(Limit limite);
+
+    @Query("""
+           SELECT r
+           FROM Reserva r
+           LEFT JOIN FETCH r.usuario
+           LEFT JOIN FETCH r.sala
+           WHERE r.data >= :data
+             AND (r.data > :data
+                  OR r.horaInicio > :horaInicio
+                  OR (r.horaInicio = :horaInicio AND r.id > :id))
+           ORDER BY r.data, r.horaInicio, r.id
+           """)
+    List<Reserva> findPaginaApos(
+            @Param("data") LocalDate data,
+            @Param("horaInicio") LocalTime horaInicio,
+            @Param("id") Long id,
+            Limit limite
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+           SELECT new com.reservas.facisa.dto.ReservaExportacaoDTO(
+                      r.id, u.id, u.nome, s.id, s.nome, r.data, r.horaInicio, r.horaFim, r.motivo, r.status)
+           FROM Reserva r
+           LEFT JOIN r.usuario u
+           LEFT JOIN r.sala s
+           WHERE r.data BETWEEN :dataInicial AND :dataFinal
+           ORDER BY r.data, r.horaInicio, r.id
+           """)
+    Stream<ReservaExportacaoDTO> streamParaExportacao(
+            @Param("dataInicial") LocalDate dataInicial,
+            @Param("dataFinal") LocalDate dataFinal
+    );
 }
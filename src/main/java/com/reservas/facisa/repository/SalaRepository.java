@@ -3,10 +3,15 @@ package com.reservas.facisa.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.reservas.facisa.dto.SalaResponseDTO;
 import com.reservas.facisa.model.Sala;
 import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
 
 public interface SalaRepository extends JpaRepository<Sala, Long> {
 
@@ -16,4 +21,26 @@ public interface SalaRepository extends JpaRepository<Sala, Long> {
     
     List<Sala> findByStatus(StatusSala status);
 
+    List<Sala> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite);
+
+    @Query("""
+           SELECT new com.reservas.facisa.dto.SalaResponseDTO(s.id, s.nome, s.tipo, s.capacidade, s.status)
+           FROM Sala s
+           ORDER BY s.id
+           """)
+    List<SalaResponseDTO> listarResumoOrdenadoPorId();
+
+    @Query("""
+           SELECT new com.reservas.facisa.dto.SalaResponseDTO(s.id, s.nome, s.tipo, s.capacidade, s.status)
+           FROM Sala s
+           WHERE s.status = :status
+             AND s.capacidade >= :capacidadeMinima
+             AND (:tipo IS NULL OR s.tipo = :tipo)
+           ORDER BY s.capacidade, s.id
+           """)
+    List<SalaResponseDTO> findCandidatas(
+            @Param("status") StatusSala status,
+            @Param("capacidadeMinima") int capacidadeMinima,
+            @Param("tipo") TipoSala tipo
+    );
 }
@@ -0,0 +1,15 @@
+package com.reservas.facisa.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.reservas.facisa.model.SerieReserva;
+
+public interface SerieReservaRepository extends JpaRepository<SerieReserva, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"usuario", "sala", "excecoes"})
+    Optional<SerieReserva> findById(Long id);
+}
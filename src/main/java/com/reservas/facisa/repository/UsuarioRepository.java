@@ -1,7 +1,9 @@
 package com.reservas.facisa.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.reservas.facisa.model.Usuario;
@@ -11,4 +13,6 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     boolean existsByEmailIgnoreCase(String email);
 
     Optional<Usuario> findByEmailIgnoreCase(String email);
+
+    List<Usuario> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite);
 }
@@ -0,0 +1,54 @@
+package com.reservas.facisa.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.reservas.facisa.config.AquecimentoProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carrega os índices em memória e o cache de segundo nível das salas ativas na inicialização.
+ * Roda no {@link ApplicationReadyEvent}, que é tratado antes de a aplicação se declarar pronta
+ * para receber tráfego, então a sonda de readiness só passa depois da carga. Desabilitado por
+ * {@code facisa.aquecimento.habilitado=false}, os índices ficam vazios e as consultas vão ao banco.
+ */
+@Slf4j
+@Component
+public class AquecimentoInicial {
+
+    private final IndiceSalas indiceSalas;
+    private final IndiceDisponibilidade indiceDisponibilidade;
+    private final SalaService salaService;
+    private final AquecimentoProperties propriedades;
+
+    public AquecimentoInicial(
+            IndiceSalas indiceSalas,
+            IndiceDisponibilidade indiceDisponibilidade,
+            SalaService salaService,
+            AquecimentoProperties propriedades
+    ) {
+        this.indiceSalas = indiceSalas;
+        this.indiceDisponibilidade = indiceDisponibilidade;
+        this.salaService = salaService;
+        this.propriedades = propriedades;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aquecer() {
+        if (!propriedades.habilitado()) {
+            log.info("Aquecimento inicial desabilitado: os índices em memória não serão carregados.");
+            return;
+        }
+
+        long inicio = System.nanoTime();
+
+        indiceSalas.reconstruir();
+        indiceDisponibilidade.reconstruir();
+        int salas = salaService.aquecerCache();
+
+        log.info("Aquecimento inicial concluído em {} ms ({} salas ativas no cache, {} dias de reservas).",
+                (System.nanoTime() - inicio) / 1_000_000, salas, propriedades.diasReservas());
+    }
+}
@@ -0,0 +1,222 @@
+package com.reservas.facisa.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reservas.facisa.config.BuscaHorariosProperties;
+import com.reservas.facisa.dto.HorarioDisponivelDTO;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.mapper.FormatoTemporal;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SalaRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Encontra os primeiros horários livres com a duração pedida nas salas que atendem à capacidade e
+ * ao tipo. Para cada sala e dia, percorre as reservas em ordem de início e devolve o começo de cada
+ * lacuna do expediente que comporta a duração, em vez de testar janela por janela.
+ */
+@Service
+@Timed("facisa.servico")
+public class BuscaHorariosService {
+
+    public static final int DIAS_MAXIMOS = 31;
+
+    private static final IndiceDisponibilidade.Intervalo[] VAZIO = new IndiceDisponibilidade.Intervalo[0];
+
+    private record SalaData(Long salaId, LocalDate data) {
+    }
+
+    private record Candidato(int inicio, SalaResponseDTO sala) {
+    }
+
+    private static final Comparator<Candidato> POR_INICIO_E_CAPACIDADE = Comparator
+            .comparingInt(Candidato::inicio)
+            .thenComparing(c -> c.sala().getCapacidade())
+            .thenComparing(c -> c.sala().getId());
+
+    private final ReservaRepository reservaRepository;
+    private final SalaRepository salaRepository;
+    private final IndiceDisponibilidade indiceDisponibilidade;
+    private final BuscaHorariosProperties propriedades;
+
+    public BuscaHorariosService(ReservaRepository reservaRepository,
+                                SalaRepository salaRepository,
+                                IndiceDisponibilidade indiceDisponibilidade,
+                                BuscaHorariosProperties propriedades) {
+        this.reservaRepository = reservaRepository;
+        this.salaRepository = salaRepository;
+        this.indiceDisponibilidade = indiceDisponibilidade;
+        this.propriedades = propriedades;
+    }
+
+    /**
+     * Retorna até {@code limite} horários ordenados por data e hora de início e, no mesmo horário,
+     * pela sala de menor capacidade que atende ao pedido.
+     */
+    @Transactional(readOnly = true)
+    public List<HorarioDisponivelDTO> buscarPrimeirosHorarios(int duracaoMinutos,
+                                                             String dataInicialStr,
+                                                             String dataFinalStr,
+                                                             Integer capacidadeMinima,
+                                                             TipoSala tipo,
+                                                             Integer limite) {
+
+        LocalDate dataInicial;
+        LocalDate dataFinal;
+        try {
+            dataInicial = FormatoTemporal.lerData(dataInicialStr);
+            dataFinal = FormatoTemporal.lerData(dataFinalStr);
+        } catch (DateTimeParseException e) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO, "Data em formato inválido. Use yyyy-MM-dd.");
+        }
+
+        if (dataFinal.isBefore(dataInicial)) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A data final deve ser igual ou posterior à data inicial.");
+        }
+        if (ChronoUnit.DAYS.between(dataInicial, dataFinal) >= DIAS_MAXIMOS) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A data final deve estar a no máximo " + DIAS_MAXIMOS + " dias da data inicial.");
+        }
+
+        int abertura = minutos(propriedades.abertura());
+        int fechamento = minutos(propriedades.fechamento());
+        if (duracaoMinutos <= 0 || duracaoMinutos > fechamento - abertura) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO,
+                    "A duração deve ser de 1 a " + (fechamento - abertura) + " minutos.");
+        }
+
+        int quantidade = propriedades.resolverLimite(limite);
+        int capacidade = capacidadeMinima != null ? Math.max(1, capacidadeMinima) : 1;
+
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDate primeiroDia = dataInicial.isBefore(agora.toLocalDate()) ? agora.toLocalDate() : dataInicial;
+        if (primeiroDia.isAfter(dataFinal)) {
+            return List.of();
+        }
+
+        List<SalaResponseDTO> salas = salaRepository.findCandidatas(StatusSala.ATIVA, capacidade, tipo);
+        if (salas.isEmpty()) {
+            return List.of();
+        }
+
+        Map<SalaData, IndiceDisponibilidade.Intervalo[]> doBanco = indiceDisponibilidade.cobre(primeiroDia, dataFinal)
+                ? null
+                : carregarDoBanco(salas, primeiroDia, dataFinal);
+
+        List<HorarioDisponivelDTO> horarios = new ArrayList<>(quantidade);
+        for (LocalDate data = primeiroDia; !data.isAfter(dataFinal) && horarios.size() < quantidade;
+             data = data.plusDays(1)) {
+
+            // Hoje, só a partir dos próximos cinco minutos cheios.
+            int piso = data.equals(agora.toLocalDate())
+                    ? Math.max(abertura, (agora.toLocalTime().toSecondOfDay() / 300 + 1) * 5)
+                    : abertura;
+
+            List<Candidato> candidatos = new ArrayList<>();
+            for (SalaResponseDTO sala : salas) {
+                IndiceDisponibilidade.Intervalo[] reservas = doBanco == null
+                        ? indiceDisponibilidade.doDia(sala.getId(), data)
+                        : doBanco.getOrDefault(new SalaData(sala.getId(), data), VAZIO);
+
+                varrerLacunas(reservas, piso, fechamento, duracaoMinutos,
+                        inicio -> candidatos.add(new Candidato(inicio, sala)));
+            }
+
+            candidatos.sort(POR_INICIO_E_CAPACIDADE);
+            for (Candidato candidato : candidatos) {
+                if (horarios.size() == quantidade) {
+                    break;
+                }
+                horarios.add(toHorario(candidato, data, duracaoMinutos));
+            }
+        }
+
+        return horarios;
+    }
+
+    /**
+     * Chama {@code lacuna} com o início de cada intervalo livre entre {@code piso} e {@code fechamento}
+     * que comporta {@code duracao} minutos. As reservas devem estar ordenadas pela hora de início.
+     */
+    private static void varrerLacunas(IndiceDisponibilidade.Intervalo[] reservas, int piso, int fechamento,
+                                      int duracao, IntConsumer lacuna) {
+        int livreDesde = piso;
+        for (IndiceDisponibilidade.Intervalo reserva : reservas) {
+            int inicio = minutos(reserva.inicio());
+            if (inicio >= fechamento) {
+                break;
+            }
+            if (inicio - livreDesde >= duracao) {
+                lacuna.accept(livreDesde);
+            }
+            livreDesde = Math.max(livreDesde, minutos(reserva.fim()));
+        }
+        if (fechamento - livreDesde >= duracao) {
+            lacuna.accept(livreDesde);
+        }
+    }
+
+    private Map<SalaData, IndiceDisponibilidade.Intervalo[]> carregarDoBanco(List<SalaResponseDTO> salas,
+                                                                            LocalDate dataInicial,
+                                                                            LocalDate dataFinal) {
+        Set<Long> salaIds = salas.stream().map(SalaResponseDTO::getId).collect(Collectors.toSet());
+
+        Map<SalaData, List<IndiceDisponibilidade.Intervalo>> agrupados = new HashMap<>();
+        for (IntervaloReservaDTO r : reservaRepository.findIntervalosPorSalasEPeriodo(
+                salaIds, dataInicial, dataFinal, StatusReserva.ATIVA)) {
+            agrupados.computeIfAbsent(new SalaData(r.getSalaId(), r.getData()), c -> new ArrayList<>())
+                    .add(new IndiceDisponibilidade.Intervalo(r.getReservaId(), r.getHoraInicio(), r.getHoraFim()));
+        }
+
+        Map<SalaData, IndiceDisponibilidade.Intervalo[]> mapa = new HashMap<>(agrupados.size() * 2);
+        agrupados.forEach((chave, lista) -> {
+            IndiceDisponibilidade.Intervalo[] dia = lista.toArray(VAZIO);
+            Arrays.sort(dia, Comparator.comparing(IndiceDisponibilidade.Intervalo::inicio));
+            mapa.put(chave, dia);
+        });
+        return mapa;
+    }
+
+    private static HorarioDisponivelDTO toHorario(Candidato candidato, LocalDate data, int duracaoMinutos) {
+        LocalTime inicio = LocalTime.ofSecondOfDay(candidato.inicio() * 60L);
+        SalaResponseDTO sala = candidato.sala();
+
+        return HorarioDisponivelDTO.builder()
+                .salaId(sala.getId())
+                .salaNome(sala.getNome())
+                .tipo(sala.getTipo())
+                .capacidade(sala.getCapacidade())
+                .data(FormatoTemporal.formatarData(data))
+                .horaInicio(FormatoTemporal.formatarHora(inicio))
+                .horaFim(FormatoTemporal.formatarHora(inicio.plusMinutes(duracaoMinutos)))
+                .build();
+    }
+
+    private static int minutos(LocalTime hora) {
+        return hora.toSecondOfDay() / 60;
+    }
+}
@@ -0,0 +1,87 @@
+package com.reservas.facisa.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.reservas.facisa.dto.PaginaDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+
+/**
+ * Codifica a chave do último item de uma página em um token opaco. As consultas buscam um item
+ * além do tamanho pedido só para saber se existe página seguinte.
+ */
+final class CursorPaginacao {
+
+    private static final String SEPARADOR = "|";
+
+    record ChaveReserva(LocalDate data, LocalTime horaInicio, Long id) {
+    }
+
+    private CursorPaginacao() {
+    }
+
+    static String codificar(Object... partes) {
+        StringBuilder texto = new StringBuilder();
+        for (Object parte : partes) {
+            if (!texto.isEmpty()) {
+                texto.append(SEPARADOR);
+            }
+            texto.append(parte);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decodificarId(String cursor) {
+        String[] partes = decodificar(cursor, 1);
+        try {
+            return Long.valueOf(partes[0]);
+        } catch (NumberFormatException e) {
+            throw cursorInvalido();
+        }
+    }
+
+    static ChaveReserva decodificarReserva(String cursor) {
+        String[] partes = decodificar(cursor, 3);
+        try {
+            return new ChaveReserva(LocalDate.parse(partes[0]), LocalTime.parse(partes[1]), Long.valueOf(partes[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw cursorInvalido();
+        }
+    }
+
+    static <E, D> PaginaDTO<D> montarPagina(List<E> encontrados, int tamanho,
+                                            Function<E, D> mapeador, Function<E, String> cursorDe) {
+        boolean temMais = encontrados.size() > tamanho;
+        List<E> pagina = temMais ? encontrados.subList(0, tamanho) : encontrados;
+
+        return new PaginaDTO<>(
+                pagina.stream().map(mapeador).toList(),
+                temMais ? cursorDe.apply(pagina.get(pagina.size() - 1)) : null
+        );
+    }
+
+    private static String[] decodificar(String cursor, int quantidadePartes) {
+        String texto;
+        try {
+            texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw cursorInvalido();
+        }
+
+        String[] partes = texto.split("\\|", -1);
+        if (partes.length != quantidadePartes) {
+            throw cursorInvalido();
+        }
+        return partes;
+    }
+
+    private static RegraNegocioException cursorInvalido() {
+        return new RegraNegocioException(CategoriaRegra.PARAMETRO, "Cursor de paginação inválido.");
+    }
+}
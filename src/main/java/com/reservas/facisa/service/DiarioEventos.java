@@ -0,0 +1,120 @@
+package com.reservas.facisa.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.model.EventoDominio;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publica os {@link EventoDominio} depois do commit, numerados em uma sequência única, e retém os
+ * últimos {@code facisa.eventos.capacidade-diario} para reaplicação. A numeração e a entrega aos
+ * {@code @EventListener} acontecem sob a mesma trava, então todos os ouvintes recebem os eventos
+ * na ordem da sequência; em particular, na ordem em que as gravações de cada sala foram
+ * confirmadas, já que as de mesma sala e data são serializadas por {@link TravasReserva} até o
+ * fim da transação.
+ *
+ * <p>Uma visão reconstruída lê {@link #ultimaSequencia()} como checkpoint antes de consultar o
+ * banco e, ao trocar o estado, reaplica {@link #desde(long, long)} os eventos que chegaram durante
+ * a carga. Tudo o que foi publicado até o checkpoint já estava confirmado no banco.
+ */
+@Slf4j
+@Component
+public class DiarioEventos {
+
+    private final ApplicationEventPublisher publicador;
+    private final int capacidade;
+    private final AtomicReferenceArray<EventoDominio> retidos;
+
+    private final ReentrantLock trava = new ReentrantLock();
+    private volatile long ultimaSequencia;
+
+    public DiarioEventos(ApplicationEventPublisher publicador, EventosProperties propriedades) {
+        this.publicador = publicador;
+        this.capacidade = propriedades.capacidadeDiario();
+        this.retidos = new AtomicReferenceArray<>(capacidade);
+    }
+
+    public void publicar(EventoDominio evento) {
+        publicar(List.of(evento));
+    }
+
+    /** Os eventos de uma transação são entregues juntos, na ordem da lista, se ela for confirmada. */
+    public void publicar(List<? extends EventoDominio> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        List<EventoDominio> copia = List.copyOf(eventos);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entregar(copia);
+                }
+            });
+        } else {
+            entregar(copia);
+        }
+    }
+
+    public long ultimaSequencia() {
+        return ultimaSequencia;
+    }
+
+    /**
+     * Eventos com sequência maior que {@code checkpoint} e até {@code ate}, em ordem. Vazio se
+     * algum deles já saiu do diário: a visão deve então recarregar tudo do banco.
+     */
+    public Optional<List<EventoDominio>> desde(long checkpoint, long ate) {
+        if (ate - checkpoint > capacidade) {
+            return Optional.empty();
+        }
+
+        List<EventoDominio> eventos = new ArrayList<>((int) Math.max(0, ate - checkpoint));
+        for (long sequencia = checkpoint + 1; sequencia <= ate; sequencia++) {
+            EventoDominio evento = retidos.get(posicao(sequencia));
+            if (evento == null || evento.sequencia() != sequencia) {
+                return Optional.empty();
+            }
+            eventos.add(evento);
+        }
+        return Optional.of(eventos);
+    }
+
+    private void entregar(List<EventoDominio> eventos) {
+        trava.lock();
+        try {
+            for (EventoDominio evento : eventos) {
+                long sequencia = ultimaSequencia + 1;
+                EventoDominio numerado = evento.comSequencia(sequencia);
+                retidos.set(posicao(sequencia), numerado);
+                ultimaSequencia = sequencia;
+
+                // A transação já foi confirmada: uma visão com defeito não deve interromper a
+                // entrega dos eventos seguintes nem transformar a resposta em erro.
+                try {
+                    publicador.publishEvent(numerado);
+                } catch (RuntimeException e) {
+                    log.error("Falha ao aplicar o evento {}.", numerado, e);
+                }
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private int posicao(long sequencia) {
+        return (int) (sequencia % capacidade);
+    }
+}
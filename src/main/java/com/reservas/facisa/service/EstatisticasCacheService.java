@@ -0,0 +1,42 @@
+package com.reservas.facisa.service;
+
+import java.util.List;
+
+import javax.cache.CacheManager;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reservas.facisa.config.CacheReferenciaConfig;
+import com.reservas.facisa.dto.EstatisticaCacheDTO;
+
+@Service
+public class EstatisticasCacheService {
+
+    private final CacheManager cacheManager;
+
+    public EstatisticasCacheService(CacheManager cacheManagerReferencia) {
+        this.cacheManager = cacheManagerReferencia;
+    }
+
+    public List<EstatisticaCacheDTO> listar() {
+        return CacheReferenciaConfig.REGIOES.stream()
+                .map(this::estatisticas)
+                .toList();
+    }
+
+    private EstatisticaCacheDTO estatisticas(String regiao) {
+        Cache<?, ?> cache = cacheManager.getCache(regiao).unwrap(Cache.class);
+        CacheStats stats = cache.stats();
+
+        return EstatisticaCacheDTO.builder()
+                .regiao(regiao)
+                .acertos(stats.hitCount())
+                .faltas(stats.missCount())
+                .taxaAcerto(stats.hitRate())
+                .remocoes(stats.evictionCount())
+                .tamanhoEstimado(cache.estimatedSize())
+                .build();
+    }
+}
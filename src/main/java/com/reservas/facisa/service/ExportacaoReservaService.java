@@ -0,0 +1,185 @@
+package com.reservas.facisa.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservas.facisa.dto.ReservaExportacaoDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.mapper.FormatoTemporal;
+import com.reservas.facisa.repository.ReservaRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exporta as reservas de um período linha a linha, direto do cursor do banco para a saída.
+ * As linhas chegam como projeção (sem entidades gerenciadas), então o consumo de memória
+ * não depende da quantidade de reservas exportadas.
+ */
+@Slf4j
+@Service
+public class ExportacaoReservaService {
+
+    private static final String CABECALHO_CSV =
+            "id,usuarioId,usuarioNome,salaId,salaNome,data,horaInicio,horaFim,motivo,status";
+
+    private final ReservaRepository reservaRepository;
+    private final TransactionTemplate transacaoSomenteLeitura;
+
+    public ExportacaoReservaService(ReservaRepository reservaRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.reservaRepository = reservaRepository;
+        this.transacaoSomenteLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoSomenteLeitura.setReadOnly(true);
+    }
+
+    public LocalDate lerData(String texto) {
+        try {
+            return FormatoTemporal.lerData(texto);
+        } catch (DateTimeParseException e) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO, "Data em formato inválido. Use yyyy-MM-dd.");
+        }
+    }
+
+    public void validarPeriodo(LocalDate dataInicial, LocalDate dataFinal) {
+        if (dataFinal.isBefore(dataInicial)) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A data final deve ser igual ou posterior à data inicial.");
+        }
+    }
+
+    /**
+     * Escreve as reservas com data entre {@code dataInicial} e {@code dataFinal} e retorna quantas foram
+     * exportadas. Roda em transação própria porque, na resposta em streaming, a escrita acontece fora
+     * da thread da requisição.
+     */
+    public long exportar(LocalDate dataInicial, LocalDate dataFinal, FormatoExportacao formato, OutputStream saida) {
+        validarPeriodo(dataInicial, dataFinal);
+
+        long inicio = System.nanoTime();
+        Long linhas = transacaoSomenteLeitura.execute(status -> {
+            Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+
+            try (Stream<ReservaExportacaoDTO> reservas = reservaRepository.streamParaExportacao(dataInicial, dataFinal)) {
+                long total = 0;
+                if (formato == FormatoExportacao.CSV) {
+                    escritor.write(CABECALHO_CSV);
+                    escritor.write('\n');
+                }
+
+                for (ReservaExportacaoDTO reserva : (Iterable<ReservaExportacaoDTO>) reservas::iterator) {
+                    if (formato == FormatoExportacao.CSV) {
+                        escreverCsv(escritor, reserva);
+                    } else {
+                        escreverNdjson(escritor, reserva);
+                    }
+                    total++;
+                }
+
+                escritor.flush();
+                return total;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("Exportação {} de {} a {}: {} reservas em {} ms.", formato, dataInicial, dataFinal, linhas,
+                (System.nanoTime() - inicio) / 1_000_000);
+        return linhas;
+    }
+
+    private static void escreverNdjson(Writer escritor, ReservaExportacaoDTO r) throws IOException {
+        escritor.write("{\"id\":");
+        escritor.write(String.valueOf(r.getId()));
+        escritor.write(",\"usuarioId\":");
+        escritor.write(String.valueOf(r.getUsuarioId()));
+        escritor.write(",\"usuarioNome\":");
+        escreverTextoJson(escritor, r.getUsuarioNome());
+        escritor.write(",\"salaId\":");
+        escritor.write(String.valueOf(r.getSalaId()));
+        escritor.write(",\"salaNome\":");
+        escreverTextoJson(escritor, r.getSalaNome());
+        escritor.write(",\"data\":\"");
+        escritor.write(FormatoTemporal.formatarData(r.getData()));
+        escritor.write("\",\"horaInicio\":\"");
+        escritor.write(FormatoTemporal.formatarHora(r.getHoraInicio()));
+        escritor.write("\",\"horaFim\":\"");
+        escritor.write(FormatoTemporal.formatarHora(r.getHoraFim()));
+        escritor.write("\",\"motivo\":");
+        escreverTextoJson(escritor, r.getMotivo());
+        escritor.write(",\"status\":\"");
+        escritor.write(r.getStatus().name());
+        escritor.write("\"}\n");
+    }
+
+    private static void escreverCsv(Writer escritor, ReservaExportacaoDTO r) throws IOException {
+        escritor.write(String.valueOf(r.getId()));
+        escritor.write(',');
+        escritor.write(String.valueOf(r.getUsuarioId()));
+        escritor.write(',');
+        escreverCampoCsv(escritor, r.getUsuarioNome());
+        escritor.write(',');
+        escritor.write(String.valueOf(r.getSalaId()));
+        escritor.write(',');
+        escreverCampoCsv(escritor, r.getSalaNome());
+        escritor.write(',');
+        escritor.write(FormatoTemporal.formatarData(r.getData()));
+        escritor.write(',');
+        escritor.write(FormatoTemporal.formatarHora(r.getHoraInicio()));
+        escritor.write(',');
+        escritor.write(FormatoTemporal.formatarHora(r.getHoraFim()));
+        escritor.write(',');
+        escreverCampoCsv(escritor, r.getMotivo());
+        escritor.write(',');
+        escritor.write(r.getStatus().name());
+        escritor.write('\n');
+    }
+
+    private static void escreverTextoJson(Writer escritor, String texto) throws IOException {
+        escritor.write('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"' -> escritor.write("\\\"");
+                case '\\' -> escritor.write("\\\\");
+                case '\n' -> escritor.write("\\n");
+                case '\r' -> escritor.write("\\r");
+                case '\t' -> escritor.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escritor.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        escritor.write(c);
+                    }
+                }
+            }
+        }
+        escritor.write('"');
+    }
+
+    private static void escreverCampoCsv(Writer escritor, String texto) throws IOException {
+        boolean precisaAspas = texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0
+                || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0;
+
+        if (!precisaAspas) {
+            escritor.write(texto);
+            return;
+        }
+
+        escritor.write('"');
+        escritor.write(texto.replace("\"", "\"\""));
+        escritor.write('"');
+    }
+}
@@ -0,0 +1,37 @@
+package com.reservas.facisa.service;
+
+import java.util.Locale;
+
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+
+public enum FormatoExportacao {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public static FormatoExportacao deParametro(String valor) {
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO,
+                    "Formato de exportação inválido. Use ndjson ou csv.");
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.reservas.facisa.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.reservas.facisa.config.AquecimentoProperties;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.model.EventoDominio;
+import com.reservas.facisa.model.EventoDominio.ReservaAlterada;
+import com.reservas.facisa.model.EventoDominio.ReservaCancelada;
+import com.reservas.facisa.model.EventoDominio.ReservaCriada;
+import com.reservas.facisa.model.EventoDominio.SalaAlterada;
+import com.reservas.facisa.model.EventoDominio.SalaInativada;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.repository.ReservaRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice em memória das reservas ATIVAS, agrupadas por (sala, data) e ordenadas pela hora de início.
+ * Cada combinação guarda também um {@link MapaOcupacao}, usado nas checagens de conflito. É mantido
+ * pelos eventos do {@link DiarioEventos}, aplicados como alterações pontuais depois de cada commit.
+ * Cobre de hoje até {@code facisa.aquecimento.dias-reservas} dias à frente, contados a partir da
+ * última carga. Fora dessa janela, ou enquanto não for carregado a partir do banco,
+ * {@link #cobre(LocalDate)} retorna {@code false} e as consultas devem recorrer ao {@link ReservaRepository}.
+ */
+@Slf4j
+@Component
+public class IndiceDisponibilidade {
+
+    private static final Intervalo[] VAZIO = new Intervalo[0];
+
+    private static final Comparator<Intervalo> POR_INICIO =
+            Comparator.comparing(Intervalo::inicio).thenComparing(Intervalo::reservaId);
+
+    private record Chave(Long salaId, LocalDate data) {
+    }
+
+    private record Cobertura(LocalDate inicio, LocalDate fim) {
+    }
+
+    record Intervalo(Long reservaId, LocalTime inicio, LocalTime fim) {
+    }
+
+    private record Dia(Intervalo[] intervalos, MapaOcupacao ocupacao) {
+
+        static Dia de(Intervalo[] intervalos) {
+            return new Dia(intervalos, MapaOcupacao.de(intervalos));
+        }
+    }
+
+    private static final Dia DIA_VAZIO = new Dia(VAZIO, MapaOcupacao.VAZIO);
+
+    private final ReservaRepository reservaRepository;
+    private final DiarioEventos diarioEventos;
+    private final int diasCobertura;
+
+    private final ReentrantLock trava = new ReentrantLock();
+
+    private volatile Map<Chave, Dia> dias = new ConcurrentHashMap<>();
+    private volatile Cobertura cobertura;
+
+    /** Última data aceita nas inserções; protegida pela trava. */
+    private LocalDate fimCarga;
+
+    /** Sequência do último evento recebido, aplicado ou não; protegida pela trava. */
+    private long ultimaRecebida;
+
+    public IndiceDisponibilidade(ReservaRepository reservaRepository,
+                                 DiarioEventos diarioEventos,
+                                 AquecimentoProperties aquecimento) {
+        this.reservaRepository = reservaRepository;
+        this.diarioEventos = diarioEventos;
+        this.diasCobertura = aquecimento.diasReservas();
+    }
+
+    public boolean cobre(LocalDate data) {
+        return cobre(data, data);
+    }
+
+    /** Indica se todas as datas de {@code inicio} a {@code fim} estão na janela carregada. */
+    public boolean cobre(LocalDate inicio, LocalDate fim) {
+        Cobertura atual = cobertura;
+        return atual != null && !inicio.isBefore(atual.inicio()) && !fim.isAfter(atual.fim());
+    }
+
+    public boolean estaLivre(Long salaId, LocalDate data, LocalTime horaInicio, LocalTime horaFim) {
+        return !dias.getOrDefault(new Chave(salaId, data), DIA_VAZIO).ocupacao().ocupado(horaInicio, horaFim);
+    }
+
+    /**
+     * Como {@link #estaLivre(Long, LocalDate, LocalTime, LocalTime)}, mas desconsidera a reserva
+     * {@code reservaIgnorada} (a que está sendo alterada). As reservas do dia só são percorridas
+     * quando o mapa de bits acusa ocupação.
+     */
+    public boolean estaLivre(Long salaId, LocalDate data, LocalTime horaInicio, LocalTime horaFim, Long reservaIgnorada) {
+        Dia dia = dias.getOrDefault(new Chave(salaId, data), DIA_VAZIO);
+
+        if (!dia.ocupacao().ocupado(horaInicio, horaFim)) {
+            return true;
+        }
+        if (reservaIgnorada == null) {
+            return false;
+        }
+
+        Intervalo[] intervalos = dia.intervalos();
+        int fimBusca = primeiroComInicioAPartirDe(intervalos, horaFim);
+        for (int i = fimBusca - 1; i >= 0; i--) {
+            if (intervalos[i].fim().isAfter(horaInicio) && !intervalos[i].reservaId().equals(reservaIgnorada)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Reservas ATIVAS da sala na data, em ordem de início; o array não deve ser alterado. */
+    Intervalo[] doDia(Long salaId, LocalDate data) {
+        return dias.getOrDefault(new Chave(salaId, data), DIA_VAZIO).intervalos();
+    }
+
+    /** Antes das demais visões, que podem ler o índice ao receber o mesmo evento. */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aplicar(EventoDominio evento) {
+        trava.lock();
+        try {
+            ultimaRecebida = evento.sequencia();
+            if (cobertura != null) {
+                aplicarEm(dias, evento, fimCarga);
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Carrega a janela a partir de hoje. Chamado pelo {@link AquecimentoInicial} e após ajustes em
+     * massa. Os eventos entregues durante a consulta ao banco foram aplicados só ao estado antigo e
+     * são reaplicados ao novo a partir do checkpoint; a consulta pode já refletir alguns deles, o
+     * que não muda o resultado.
+     */
+    public void reconstruir() {
+        LocalDate hoje = LocalDate.now();
+        LocalDate fim = hoje.plusDays(diasCobertura);
+
+        while (true) {
+            long checkpoint = diarioEventos.ultimaSequencia();
+            Map<Chave, Dia> novo = carregar(hoje, fim);
+
+            trava.lock();
+            try {
+                Optional<List<EventoDominio>> durante = diarioEventos.desde(checkpoint, ultimaRecebida);
+                if (durante.isPresent()) {
+                    durante.get().forEach(evento -> aplicarEm(novo, evento, fim));
+                    fimCarga = fim;
+                    dias = novo;
+                    cobertura = new Cobertura(hoje, fim);
+
+                    log.info("Índice de disponibilidade carregado: {} combinações de sala e data de {} a {} "
+                            + "({} eventos reaplicados).", novo.size(), hoje, fim, durante.get().size());
+                    return;
+                }
+            } finally {
+                trava.unlock();
+            }
+
+            log.warn("Mais eventos durante a carga do índice de disponibilidade do que o diário retém; recarregando.");
+        }
+    }
+
+    /**
+     * Compara o índice com as reservas ATIVAS do banco, corrige as combinações de sala e data
+     * divergentes e retorna quantas foram corrigidas.
+     */
+    public int verificarConsistencia() {
+        Cobertura atual = cobertura;
+        if (atual == null) {
+            return 0;
+        }
+
+        Map<Chave, Dia> banco = carregar(atual.inicio(), atual.fim());
+
+        Set<Chave> suspeitas = new HashSet<>(banco.keySet());
+        dias.keySet().stream().filter(chave -> cobre(chave.data())).forEach(suspeitas::add);
+        suspeitas.removeIf(chave -> Arrays.equals(
+                banco.getOrDefault(chave, DIA_VAZIO).intervalos(), dias.getOrDefault(chave, DIA_VAZIO).intervalos()));
+
+        int divergentes = 0;
+        trava.lock();
+        try {
+            for (Chave chave : suspeitas) {
+                Intervalo[] esperado = reservaRepository
+                        .findBySalaIdAndDataAndStatus(chave.salaId(), chave.data(), StatusReserva.ATIVA)
+                        .stream()
+                        .map(r -> new Intervalo(r.getId(), r.getHoraInicio(), r.getHoraFim()))
+                        .sorted(POR_INICIO)
+                        .toArray(Intervalo[]::new);
+
+                if (!Arrays.equals(esperado, dias.getOrDefault(chave, DIA_VAZIO).intervalos())) {
+                    divergentes++;
+                    if (esperado.length == 0) {
+                        dias.remove(chave);
+                    } else {
+                        dias.put(chave, Dia.de(esperado));
+                    }
+                }
+            }
+        } finally {
+            trava.unlock();
+        }
+
+        if (divergentes > 0) {
+            log.warn("Índice de disponibilidade divergente do banco em {} combinações de sala e data; corrigido.", divergentes);
+        }
+        return divergentes;
+    }
+
+    private Map<Chave, Dia> carregar(LocalDate dataInicial, LocalDate dataFinal) {
+        Map<Chave, List<Intervalo>> agrupados = new HashMap<>();
+
+        for (IntervaloReservaDTO r : reservaRepository.findIntervalosPorPeriodo(dataInicial, dataFinal, StatusReserva.ATIVA)) {
+            agrupados.computeIfAbsent(new Chave(r.getSalaId(), r.getData()), c -> new ArrayList<>())
+                    .add(new Intervalo(r.getReservaId(), r.getHoraInicio(), r.getHoraFim()));
+        }
+
+        Map<Chave, Dia> mapa = new ConcurrentHashMap<>(Math.max(16, agrupados.size() * 2));
+        agrupados.forEach((chave, lista) -> {
+            Intervalo[] dia = lista.toArray(VAZIO);
+            Arrays.sort(dia, POR_INICIO);
+            mapa.put(chave, Dia.de(dia));
+        });
+        return mapa;
+    }
+
+    private static void aplicarEm(Map<Chave, Dia> mapa, EventoDominio evento, LocalDate fimCarga) {
+        switch (evento) {
+            case ReservaCriada e -> {
+                if (!e.data().isAfter(fimCarga)) {
+                    inserir(mapa, new Chave(e.salaId(), e.data()), new Intervalo(e.reservaId(), e.horaInicio(), e.horaFim()));
+                }
+            }
+            case ReservaAlterada e -> {
+                retirar(mapa, new Chave(e.salaAnteriorId(), e.dataAnterior()), e.reservaId());
+                if (!e.data().isAfter(fimCarga)) {
+                    inserir(mapa, new Chave(e.salaId(), e.data()), new Intervalo(e.reservaId(), e.horaInicio(), e.horaFim()));
+                }
+            }
+            case ReservaCancelada e -> retirar(mapa, new Chave(e.salaId(), e.data()), e.reservaId());
+            case SalaAlterada e -> {
+            }
+            case SalaInativada e -> {
+            }
+        }
+    }
+
+    private static void inserir(Map<Chave, Dia> mapa, Chave chave, Intervalo intervalo) {
+        mapa.compute(chave, (c, dia) -> {
+            Intervalo[] base = dia == null ? VAZIO : semReserva(dia.intervalos(), intervalo.reservaId());
+            Intervalo[] novo = Arrays.copyOf(base, base.length + 1);
+
+            int pos = primeiroComInicioAPartirDe(base, intervalo.inicio());
+            System.arraycopy(base, pos, novo, pos + 1, base.length - pos);
+            novo[pos] = intervalo;
+            return Dia.de(novo);
+        });
+    }
+
+    private static void retirar(Map<Chave, Dia> mapa, Chave chave, Long reservaId) {
+        mapa.computeIfPresent(chave, (c, dia) -> {
+            Intervalo[] novo = semReserva(dia.intervalos(), reservaId);
+            return novo.length == 0 ? null : Dia.de(novo);
+        });
+    }
+
+    private static Intervalo[] semReserva(Intervalo[] dia, Long reservaId) {
+        for (int i = 0; i < dia.length; i++) {
+            if (dia[i].reservaId().equals(reservaId)) {
+                Intervalo[] novo = new Intervalo[dia.length - 1];
+                System.arraycopy(dia, 0, novo, 0, i);
+                System.arraycopy(dia, i + 1, novo, i, dia.length - i - 1);
+                return novo;
+            }
+        }
+        return dia;
+    }
+
+    private static int primeiroComInicioAPartirDe(Intervalo[] dia, LocalTime hora) {
+        int baixo = 0;
+        int alto = dia.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (dia[meio].inicio().isBefore(hora)) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
@@ -0,0 +1,201 @@
+package com.reservas.facisa.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.model.EventoDominio;
+import com.reservas.facisa.model.EventoDominio.ReservaAlterada;
+import com.reservas.facisa.model.EventoDominio.ReservaCancelada;
+import com.reservas.facisa.model.EventoDominio.ReservaCriada;
+import com.reservas.facisa.model.EventoDominio.SalaAlterada;
+import com.reservas.facisa.model.EventoDominio.SalaInativada;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.repository.SalaRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice em memória das salas ATIVAS, agrupadas por {@link TipoSala} e ordenadas pela capacidade.
+ * É mantido pelos eventos de sala do {@link DiarioEventos}; cada alteração publica um novo mapa,
+ * então as leituras não travam. Enquanto não for carregado,
+ * {@link #carregado()} retorna {@code false} e as consultas devem recorrer ao banco.
+ */
+@Slf4j
+@Component
+public class IndiceSalas {
+
+    private static final SalaResponseDTO[] VAZIO = new SalaResponseDTO[0];
+
+    private static final Comparator<SalaResponseDTO> POR_CAPACIDADE =
+            Comparator.comparing(SalaResponseDTO::getCapacidade).thenComparing(SalaResponseDTO::getId);
+
+    private final SalaRepository salaRepository;
+    private final DiarioEventos diarioEventos;
+
+    private final ReentrantLock trava = new ReentrantLock();
+
+    private volatile Map<TipoSala, SalaResponseDTO[]> salasPorTipo;
+
+    /** Sequência do último evento recebido, aplicado ou não; protegida pela trava. */
+    private long ultimaRecebida;
+
+    public IndiceSalas(SalaRepository salaRepository, DiarioEventos diarioEventos) {
+        this.salaRepository = salaRepository;
+        this.diarioEventos = diarioEventos;
+    }
+
+    public boolean carregado() {
+        return salasPorTipo != null;
+    }
+
+    /**
+     * Salas ativas do tipo informado (de todos, se {@code null}) com pelo menos {@code capacidadeMinima}
+     * lugares, em ordem de id.
+     */
+    public List<SalaResponseDTO> candidatas(TipoSala tipo, int capacidadeMinima) {
+        Map<TipoSala, SalaResponseDTO[]> atual = salasPorTipo;
+
+        List<SalaResponseDTO> candidatas = new ArrayList<>();
+        for (TipoSala t : tipo == null ? TipoSala.values() : new TipoSala[] {tipo}) {
+            SalaResponseDTO[] salas = atual.getOrDefault(t, VAZIO);
+            for (int i = primeiraComCapacidade(salas, capacidadeMinima); i < salas.length; i++) {
+                candidatas.add(salas[i]);
+            }
+        }
+
+        candidatas.sort(Comparator.comparing(SalaResponseDTO::getId));
+        return candidatas;
+    }
+
+    /** Antes do stream de disponibilidade, como o {@link IndiceDisponibilidade}. */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aplicar(EventoDominio evento) {
+        trava.lock();
+        try {
+            ultimaRecebida = evento.sequencia();
+            if (salasPorTipo != null) {
+                salasPorTipo = aplicarEm(salasPorTipo, evento);
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Chamado pelo {@link AquecimentoInicial}. Os eventos de sala entregues durante a consulta ao
+     * banco são reaplicados ao novo mapa a partir do checkpoint, como no {@link IndiceDisponibilidade}.
+     */
+    public void reconstruir() {
+        while (true) {
+            long checkpoint = diarioEventos.ultimaSequencia();
+            Map<TipoSala, SalaResponseDTO[]> novo = carregar();
+
+            trava.lock();
+            try {
+                Optional<List<EventoDominio>> durante = diarioEventos.desde(checkpoint, ultimaRecebida);
+                if (durante.isPresent()) {
+                    for (EventoDominio evento : durante.get()) {
+                        novo = aplicarEm(novo, evento);
+                    }
+                    salasPorTipo = novo;
+
+                    log.info("Índice de salas carregado: {} salas ativas ({} eventos reaplicados).",
+                            novo.values().stream().mapToInt(salas -> salas.length).sum(), durante.get().size());
+                    return;
+                }
+            } finally {
+                trava.unlock();
+            }
+
+            log.warn("Mais eventos durante a carga do índice de salas do que o diário retém; recarregando.");
+        }
+    }
+
+    private Map<TipoSala, SalaResponseDTO[]> carregar() {
+        Map<TipoSala, List<SalaResponseDTO>> agrupadas = new EnumMap<>(TipoSala.class);
+        for (SalaResponseDTO sala : salaRepository.listarResumoOrdenadoPorId()) {
+            if (sala.getStatus() == StatusSala.ATIVA) {
+                agrupadas.computeIfAbsent(sala.getTipo(), t -> new ArrayList<>()).add(sala);
+            }
+        }
+
+        Map<TipoSala, SalaResponseDTO[]> novo = new EnumMap<>(TipoSala.class);
+        agrupadas.forEach((tipo, salas) -> {
+            SalaResponseDTO[] ordenadas = salas.toArray(VAZIO);
+            Arrays.sort(ordenadas, POR_CAPACIDADE);
+            novo.put(tipo, ordenadas);
+        });
+        return novo;
+    }
+
+    private static Map<TipoSala, SalaResponseDTO[]> aplicarEm(Map<TipoSala, SalaResponseDTO[]> atual, EventoDominio evento) {
+        return switch (evento) {
+            case SalaAlterada e -> substituir(atual, e.salaId(), e.status() == StatusSala.ATIVA
+                    ? new SalaResponseDTO(e.salaId(), e.nome(), e.tipo(), e.capacidade(), e.status())
+                    : null);
+            case SalaInativada e -> substituir(atual, e.salaId(), null);
+            case ReservaCriada e -> atual;
+            case ReservaAlterada e -> atual;
+            case ReservaCancelada e -> atual;
+        };
+    }
+
+    private static Map<TipoSala, SalaResponseDTO[]> substituir(Map<TipoSala, SalaResponseDTO[]> atual,
+                                                               Long salaId, SalaResponseDTO nova) {
+        Map<TipoSala, SalaResponseDTO[]> novo = new EnumMap<>(TipoSala.class);
+        atual.forEach((tipo, salas) -> novo.put(tipo, semSala(salas, salaId)));
+
+        if (nova != null) {
+            SalaResponseDTO[] base = novo.getOrDefault(nova.getTipo(), VAZIO);
+            SalaResponseDTO[] comNova = Arrays.copyOf(base, base.length + 1);
+
+            int pos = Arrays.binarySearch(base, nova, POR_CAPACIDADE);
+            pos = pos < 0 ? -pos - 1 : pos;
+            System.arraycopy(base, pos, comNova, pos + 1, base.length - pos);
+            comNova[pos] = nova;
+            novo.put(nova.getTipo(), comNova);
+        }
+
+        return novo;
+    }
+
+    private static SalaResponseDTO[] semSala(SalaResponseDTO[] salas, Long salaId) {
+        for (int i = 0; i < salas.length; i++) {
+            if (salas[i].getId().equals(salaId)) {
+                SalaResponseDTO[] novo = new SalaResponseDTO[salas.length - 1];
+                System.arraycopy(salas, 0, novo, 0, i);
+                System.arraycopy(salas, i + 1, novo, i, salas.length - i - 1);
+                return novo;
+            }
+        }
+        return salas;
+    }
+
+    private static int primeiraComCapacidade(SalaResponseDTO[] salas, int capacidadeMinima) {
+        int baixo = 0;
+        int alto = salas.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (salas[meio].getCapacidade() < capacidadeMinima) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
@@ -0,0 +1,91 @@
+package com.reservas.facisa.service;
+
+import java.time.LocalTime;
+
+/**
+ * Ocupação de uma sala em um dia como mapa de bits de minutos: o bit {@code m} indica que o minuto
+ * {@code m} do dia está reservado. Como os horários são aceitos com precisão de minuto, a checagem
+ * de conflito é exata e se reduz a um AND com máscaras nas 23 palavras de 64 bits que cobrem o dia.
+ * As instâncias são imutáveis.
+ */
+final class MapaOcupacao {
+
+    static final int MINUTOS_POR_DIA = 24 * 60;
+
+    private static final int PALAVRAS = (MINUTOS_POR_DIA + 63) >>> 6;
+
+    static final MapaOcupacao VAZIO = new MapaOcupacao(new long[PALAVRAS]);
+
+    private final long[] bits;
+
+    private MapaOcupacao(long[] bits) {
+        this.bits = bits;
+    }
+
+    static MapaOcupacao de(IndiceDisponibilidade.Intervalo[] intervalos) {
+        long[] bits = new long[PALAVRAS];
+        for (IndiceDisponibilidade.Intervalo intervalo : intervalos) {
+            marcar(bits, minutoInicial(intervalo.inicio()), minutoFinal(intervalo.fim()));
+        }
+        return new MapaOcupacao(bits);
+    }
+
+    boolean ocupado(LocalTime horaInicio, LocalTime horaFim) {
+        return ocupado(minutoInicial(horaInicio), minutoFinal(horaFim));
+    }
+
+    /** Indica se algum minuto de {@code [inicio, fim)} está reservado. */
+    boolean ocupado(int inicio, int fim) {
+        if (fim <= inicio) {
+            return false;
+        }
+
+        int primeira = inicio >>> 6;
+        int ultima = (fim - 1) >>> 6;
+        long mascaraInicial = -1L << inicio;
+        long mascaraFinal = -1L >>> -fim;
+
+        if (primeira == ultima) {
+            return (bits[primeira] & mascaraInicial & mascaraFinal) != 0;
+        }
+        if ((bits[primeira] & mascaraInicial) != 0) {
+            return true;
+        }
+        for (int i = primeira + 1; i < ultima; i++) {
+            if (bits[i] != 0) {
+                return true;
+            }
+        }
+        return (bits[ultima] & mascaraFinal) != 0;
+    }
+
+    private static void marcar(long[] bits, int inicio, int fim) {
+        if (fim <= inicio) {
+            return;
+        }
+
+        int primeira = inicio >>> 6;
+        int ultima = (fim - 1) >>> 6;
+        long mascaraInicial = -1L << inicio;
+        long mascaraFinal = -1L >>> -fim;
+
+        if (primeira == ultima) {
+            bits[primeira] |= mascaraInicial & mascaraFinal;
+            return;
+        }
+        bits[primeira] |= mascaraInicial;
+        for (int i = primeira + 1; i < ultima; i++) {
+            bits[i] = -1L;
+        }
+        bits[ultima] |= mascaraFinal;
+    }
+
+    private static int minutoInicial(LocalTime hora) {
+        return hora.toSecondOfDay() / 60;
+    }
+
+    /** Arredonda para cima, para que um fim com segundos não deixe o último minuto de fora. */
+    private static int minutoFinal(LocalTime hora) {
+        return (hora.toSecondOfDay() + 59) / 60;
+    }
+}
@@ -0,0 +1,38 @@
+package com.reservas.facisa.service;
+
+import org.springframework.stereotype.Component;
+
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contadores de negócio publicados no Micrometer: conflitos de horário detectados, rejeições por
+ * {@link RegraNegocioException}, com a {@link CategoriaRegra} definida onde a exceção é lançada, e
+ * divergências encontradas na verificação do índice de disponibilidade.
+ */
+@Component
+public class MetricasNegocio {
+
+    public static final String ORIGEM_INDIVIDUAL = "individual";
+    public static final String ORIGEM_LOTE = "lote";
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricasNegocio(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void registrarConflito(String origem) {
+        meterRegistry.counter("facisa.reservas.conflitos", "origem", origem).increment();
+    }
+
+    public void registrarDivergencias(int combinacoes) {
+        meterRegistry.counter("facisa.indice.divergencias").increment(combinacoes);
+    }
+
+    public void registrarRejeicao(RegraNegocioException ex) {
+        meterRegistry.counter("facisa.regras.rejeicoes", "categoria", ex.getCategoria().getTag()).increment();
+    }
+}
@@ -0,0 +1,200 @@
+package com.reservas.facisa.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.reservas.facisa.config.MonitorSqlProperties;
+import com.reservas.facisa.dto.EstatisticaSqlDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Estatísticas por formato de comando SQL (execuções, linhas, tempo total e máximo) alimentadas
+ * pelo {@code DataSourceMonitorado}. Só vão ao log os comandos que passam de
+ * {@code facisa.sql.limite-lento} ou que caem na amostragem, com os parâmetros e o plano do
+ * {@code EXPLAIN}; os demais custam apenas a atualização dos contadores.
+ */
+@Slf4j
+@Component
+public class MonitorSql {
+
+    static final String OUTROS = "(demais formatos)";
+
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private static final int TAMANHO_MAXIMO_VALOR = 100;
+
+    private final long limiteLentoNanos;
+    private final double amostragem;
+    private final boolean explain;
+    private final int maximoFormatos;
+
+    /** Texto exato recebido do driver, para não normalizar de novo o mesmo comando a cada execução. */
+    private final ConcurrentHashMap<String, Estatistica> porTexto = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Estatistica> porFormato = new ConcurrentHashMap<>();
+
+    private static final class Estatistica {
+        final String sql;
+        final LongAdder execucoes = new LongAdder();
+        final LongAdder linhas = new LongAdder();
+        final LongAdder lentas = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator maximoNanos = new LongAccumulator(Long::max, 0);
+
+        Estatistica(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    public MonitorSql(MonitorSqlProperties propriedades) {
+        this.limiteLentoNanos = propriedades.limiteLento().toNanos();
+        this.amostragem = propriedades.amostragem();
+        this.explain = propriedades.explain();
+        this.maximoFormatos = propriedades.maximoFormatos();
+    }
+
+    /**
+     * Registra uma execução. {@code parametros} traz os valores ligados a partir do índice 1, nas
+     * primeiras {@code quantidadeParametros} posições; {@code conexao} é a conexão real, usada no
+     * {@code EXPLAIN} sem passar de novo pelo monitor.
+     */
+    public void registrar(String sql, long nanos, long linhas,
+                          Object[] parametros, int quantidadeParametros, Connection conexao) {
+        Estatistica estatistica = estatistica(sql);
+        estatistica.execucoes.increment();
+        estatistica.nanos.add(nanos);
+        estatistica.linhas.add(linhas);
+        estatistica.maximoNanos.accumulate(nanos);
+
+        boolean lento = nanos >= limiteLentoNanos;
+        if (lento) {
+            estatistica.lentas.increment();
+        }
+
+        if (lento && log.isWarnEnabled()) {
+            log.warn("SQL lento ({} ms, {} linhas): {}\n  parâmetros: {}{}",
+                    milissegundos(nanos), linhas, sql, parametros(parametros, quantidadeParametros),
+                    plano(sql, parametros, quantidadeParametros, conexao));
+        } else if (!lento && amostragem > 0 && ThreadLocalRandom.current().nextDouble() < amostragem
+                && log.isInfoEnabled()) {
+            log.info("SQL amostrado ({} ms, {} linhas): {}\n  parâmetros: {}{}",
+                    milissegundos(nanos), linhas, sql, parametros(parametros, quantidadeParametros),
+                    plano(sql, parametros, quantidadeParametros, conexao));
+        }
+    }
+
+    /** Formatos em ordem decrescente de tempo total. */
+    public List<EstatisticaSqlDTO> listar(int limite) {
+        return porFormato.values().stream()
+                .sorted(Comparator.comparingLong((Estatistica e) -> e.nanos.sum()).reversed())
+                .limit(limite)
+                .map(MonitorSql::paraDto)
+                .toList();
+    }
+
+    /** Zera as estatísticas, iniciando uma nova janela de observação. */
+    public void limpar() {
+        porTexto.clear();
+        porFormato.clear();
+    }
+
+    static String formato(String sql) {
+        String semEspacos = ESPACOS.matcher(sql.strip()).replaceAll(" ");
+        return LISTA_PARAMETROS.matcher(semEspacos).replaceAll("(?, ...)");
+    }
+
+    private Estatistica estatistica(String sql) {
+        Estatistica estatistica = porTexto.get(sql);
+        if (estatistica != null) {
+            return estatistica;
+        }
+
+        String formato = formato(sql);
+        estatistica = porFormato.get(formato);
+        if (estatistica == null) {
+            estatistica = porFormato.size() < maximoFormatos
+                    ? porFormato.computeIfAbsent(formato, Estatistica::new)
+                    : porFormato.computeIfAbsent(OUTROS, Estatistica::new);
+        }
+
+        // Listas IN de tamanhos variados geram vários textos para um formato; o limite evita que
+        // comandos montados com literais façam o mapa crescer sem fim.
+        if (porTexto.size() < maximoFormatos * 4) {
+            porTexto.putIfAbsent(sql, estatistica);
+        }
+        return estatistica;
+    }
+
+    private String plano(String sql, Object[] parametros, int quantidadeParametros, Connection conexao) {
+        if (!explain || conexao == null) {
+            return "";
+        }
+
+        String comando = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (!comando.startsWith("select") && !comando.startsWith("update") && !comando.startsWith("delete")) {
+            return "";
+        }
+
+        try (PreparedStatement ps = conexao.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < quantidadeParametros; i++) {
+                ps.setObject(i + 1, parametros[i]);
+            }
+            StringJoiner plano = new StringJoiner("\n  ", "\n  plano: ", "");
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plano.add(rs.getString(1));
+                }
+            }
+            return plano.toString();
+        } catch (SQLException e) {
+            return "\n  plano: indisponível (" + e.getMessage() + ")";
+        }
+    }
+
+    private static String parametros(Object[] parametros, int quantidade) {
+        StringJoiner texto = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < quantidade; i++) {
+            Object valor = parametros[i];
+            if (valor instanceof CharSequence) {
+                String s = valor.toString();
+                texto.add("'" + (s.length() > TAMANHO_MAXIMO_VALOR ? s.substring(0, TAMANHO_MAXIMO_VALOR) + "…" : s) + "'");
+            } else {
+                texto.add(String.valueOf(valor));
+            }
+        }
+        return texto.toString();
+    }
+
+    private static EstatisticaSqlDTO paraDto(Estatistica e) {
+        long execucoes = e.execucoes.sum();
+        long nanos = e.nanos.sum();
+
+        return EstatisticaSqlDTO.builder()
+                .sql(e.sql)
+                .execucoes(execucoes)
+                .linhas(e.linhas.sum())
+                .lentas(e.lentas.sum())
+                .tempoTotalMs(milissegundos(nanos))
+                .tempoMedioMs(execucoes > 0 ? milissegundos(nanos / execucoes) : 0)
+                .tempoMaximoMs(milissegundos(e.maximoNanos.get()))
+                .build();
+    }
+
+    private static double milissegundos(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
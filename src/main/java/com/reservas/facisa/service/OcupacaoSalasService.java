@@ -0,0 +1,172 @@
+package com.reservas.facisa.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reservas.facisa.dto.GradeOcupacaoDTO;
+import com.reservas.facisa.dto.GradeOcupacaoSalaDTO;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.mapper.FormatoTemporal;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SalaRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Monta a grade de ocupação salas × dias × faixas de horário de um período. Cada dia de cada sala
+ * vira um mapa de bits (uma faixa por bit), enviado em hexadecimal: com faixas de 30 minutos,
+ * 12 caracteres cobrem o dia inteiro. Períodos cobertos pelo {@link IndiceDisponibilidade} são
+ * montados da memória; os demais, de uma única leitura das reservas ativas do período.
+ */
+@Service
+@Timed("facisa.servico")
+public class OcupacaoSalasService {
+
+    public static final int MINUTOS_POR_FAIXA_PADRAO = 30;
+    public static final int DIAS_MAXIMOS = 31;
+
+    private static final Set<Integer> MINUTOS_POR_FAIXA_PERMITIDOS = Set.of(15, 30, 60);
+    private static final int MINUTOS_POR_DIA = 24 * 60;
+    private static final char[] HEXA = "0123456789abcdef".toCharArray();
+
+    private final ReservaRepository reservaRepository;
+    private final SalaRepository salaRepository;
+    private final IndiceDisponibilidade indiceDisponibilidade;
+
+    public OcupacaoSalasService(ReservaRepository reservaRepository,
+                                SalaRepository salaRepository,
+                                IndiceDisponibilidade indiceDisponibilidade) {
+        this.reservaRepository = reservaRepository;
+        this.salaRepository = salaRepository;
+        this.indiceDisponibilidade = indiceDisponibilidade;
+    }
+
+    @Transactional(readOnly = true)
+    public GradeOcupacaoDTO gerarGrade(String dataInicialStr, String dataFinalStr, Integer minutosPorFaixa) {
+
+        LocalDate dataInicial;
+        LocalDate dataFinal;
+        try {
+            dataInicial = FormatoTemporal.lerData(dataInicialStr);
+            dataFinal = FormatoTemporal.lerData(dataFinalStr);
+        } catch (DateTimeParseException e) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO, "Data em formato inválido. Use yyyy-MM-dd.");
+        }
+
+        int minutos = minutosPorFaixa != null ? minutosPorFaixa : MINUTOS_POR_FAIXA_PADRAO;
+        if (!MINUTOS_POR_FAIXA_PERMITIDOS.contains(minutos)) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO,
+                    "Tamanho de faixa inválido. Use 15, 30 ou 60 minutos.");
+        }
+
+        if (dataFinal.isBefore(dataInicial)) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A data final deve ser igual ou posterior à data inicial.");
+        }
+
+        int dias = (int) ChronoUnit.DAYS.between(dataInicial, dataFinal) + 1;
+        if (dias > DIAS_MAXIMOS) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A data final deve estar a no máximo " + DIAS_MAXIMOS + " dias da data inicial.");
+        }
+
+        int faixasPorDia = MINUTOS_POR_DIA / minutos;
+
+        List<SalaResponseDTO> salas = salaRepository.listarResumoOrdenadoPorId();
+        Map<Long, BitSet> ocupacaoPorSala = new HashMap<>(salas.size() * 2);
+        for (SalaResponseDTO sala : salas) {
+            ocupacaoPorSala.put(sala.getId(), new BitSet(dias * faixasPorDia));
+        }
+
+        if (indiceDisponibilidade.cobre(dataInicial, dataFinal)) {
+            LocalDate[] datas = new LocalDate[dias];
+            for (int dia = 0; dia < dias; dia++) {
+                datas[dia] = dataInicial.plusDays(dia);
+            }
+
+            for (SalaResponseDTO sala : salas) {
+                BitSet ocupacao = ocupacaoPorSala.get(sala.getId());
+                for (int dia = 0; dia < dias; dia++) {
+                    for (IndiceDisponibilidade.Intervalo intervalo
+                            : indiceDisponibilidade.doDia(sala.getId(), datas[dia])) {
+                        marcar(ocupacao, dia * faixasPorDia, intervalo.inicio(), intervalo.fim(), minutos);
+                    }
+                }
+            }
+        } else {
+            for (IntervaloReservaDTO intervalo : reservaRepository.findIntervalosPorPeriodo(
+                    dataInicial, dataFinal, StatusReserva.ATIVA)) {
+
+                BitSet ocupacao = ocupacaoPorSala.get(intervalo.getSalaId());
+                if (ocupacao != null) {
+                    int dia = (int) ChronoUnit.DAYS.between(dataInicial, intervalo.getData());
+                    marcar(ocupacao, dia * faixasPorDia, intervalo.getHoraInicio(), intervalo.getHoraFim(), minutos);
+                }
+            }
+        }
+
+        List<GradeOcupacaoSalaDTO> grade = new ArrayList<>(salas.size());
+        for (SalaResponseDTO sala : salas) {
+            BitSet ocupacao = ocupacaoPorSala.get(sala.getId());
+
+            List<String> porDia = new ArrayList<>(dias);
+            for (int dia = 0; dia < dias; dia++) {
+                porDia.add(codificar(ocupacao, dia * faixasPorDia, faixasPorDia));
+            }
+
+            grade.add(GradeOcupacaoSalaDTO.builder()
+                    .id(sala.getId())
+                    .nome(sala.getNome())
+                    .status(sala.getStatus())
+                    .ocupacao(porDia)
+                    .build());
+        }
+
+        return GradeOcupacaoDTO.builder()
+                .dataInicial(FormatoTemporal.formatarData(dataInicial))
+                .dataFinal(FormatoTemporal.formatarData(dataFinal))
+                .minutosPorFaixa(minutos)
+                .faixasPorDia(faixasPorDia)
+                .salas(grade)
+                .build();
+    }
+
+    /** Uma faixa fica ocupada se qualquer trecho dela estiver reservado. */
+    private static void marcar(BitSet ocupacao, int base, LocalTime horaInicio, LocalTime horaFim, int minutos) {
+        int inicio = horaInicio.toSecondOfDay() / 60;
+        int fim = horaFim.toSecondOfDay() / 60;
+        ocupacao.set(base + inicio / minutos, base + (fim + minutos - 1) / minutos);
+    }
+
+    /**
+     * Escreve {@code quantidade} bits a partir de {@code inicio} em hexadecimal, quatro faixas por
+     * caractere, com a faixa mais cedo no bit mais significativo.
+     */
+    private static String codificar(BitSet bits, int inicio, int quantidade) {
+        char[] hexa = new char[quantidade / 4];
+        for (int i = 0; i < hexa.length; i++) {
+            int posicao = inicio + i * 4;
+            int valor = (bits.get(posicao) ? 8 : 0)
+                    | (bits.get(posicao + 1) ? 4 : 0)
+                    | (bits.get(posicao + 2) ? 2 : 0)
+                    | (bits.get(posicao + 3) ? 1 : 0);
+            hexa[i] = HEXA[valor];
+        }
+        return new String(hexa);
+    }
+}
@@ -3,53 +3,89 @@ package com.reservas.facisa.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.PaginaDTO;
+import com.reservas.facisa.dto.ReservaLoteItemDTO;
+import com.reservas.facisa.dto.ReservaLoteRequestDTO;
+import com.reservas.facisa.dto.ReservaLoteResponseDTO;
 import com.reservas.facisa.dto.ReservaRequestDTO;
 import com.reservas.facisa.dto.ReservaResponseDTO;
 import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
 import com.reservas.facisa.exception.RegraNegocioException;
 import com.reservas.facisa.exception.RecursoNaoEncontradoException;
+import com.reservas.facisa.mapper.FormatoTemporal;
 import com.reservas.facisa.mapper.ReservaMapper;
-import com.reservas.facisa.mapper.SalaMapper;
+import com.reservas.facisa.model.EventoDominio.ReservaAlterada;
+import com.reservas.facisa.model.EventoDominio.ReservaCancelada;
+import com.reservas.facisa.model.EventoDominio.ReservaCriada;
 import com.reservas.facisa.model.Reserva;
 import com.reservas.facisa.model.Sala;
 import com.reservas.facisa.model.StatusReserva;
 import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
 import com.reservas.facisa.model.Usuario;
 import com.reservas.facisa.repository.ReservaRepository;
-import com.reservas.facisa.repository.SalaRepository;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed("facisa.servico")
 public class ReservaService {
 
     private final ReservaRepository reservaRepository;
     private final ReservaMapper reservaMapper;
     private final UsuarioService usuarioService;
     private final SalaService salaService;
-    private final SalaRepository salaRepository;
-    private final SalaMapper salaMapper;
-
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE; // yyyy-MM-dd
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private final IndiceDisponibilidade indiceDisponibilidade;
+    private final IndiceSalas indiceSalas;
+    private final TravasReserva travasReserva;
+    private final DiarioEventos diarioEventos;
+    private final VersoesConsulta versoesConsulta;
+    private final MetricasNegocio metricasNegocio;
+    private final RoteamentoLeitura roteamentoLeitura;
+
+    private record SalaData(Long salaId, LocalDate data) {
+    }
 
     public ReservaService(ReservaRepository reservaRepository,
                           ReservaMapper reservaMapper,
                           UsuarioService usuarioService,
                           SalaService salaService,
-                          SalaRepository salaRepository,
-                          SalaMapper salaMapper) {
+                          IndiceDisponibilidade indiceDisponibilidade,
+                          IndiceSalas indiceSalas,
+                          TravasReserva travasReserva,
+                          DiarioEventos diarioEventos,
+                          VersoesConsulta versoesConsulta,
+                          MetricasNegocio metricasNegocio,
+                          RoteamentoLeitura roteamentoLeitura) {
         this.reservaRepository = reservaRepository;
         this.reservaMapper = reservaMapper;
         this.usuarioService = usuarioService;
         this.salaService = salaService;
-        this.salaRepository = salaRepository;
-        this.salaMapper = salaMapper;
+        this.indiceDisponibilidade = indiceDisponibilidade;
+        this.indiceSalas = indiceSalas;
+        this.travasReserva = travasReserva;
+        this.diarioEventos = diarioEventos;
+        this.versoesConsulta = versoesConsulta;
+        this.metricasNegocio = metricasNegocio;
+        this.roteamentoLeitura = roteamentoLeitura;
     }
 
     @Transactional
@@ -59,35 +95,123 @@ public class ReservaService {
         Sala sala = salaService.buscarEntityPorId(dto.getSalaId());
 
         if (sala.getStatus() == StatusSala.INATIVA) {
-            throw new RegraNegocioException("Não é possível reservar uma sala inativa.");
+            throw new RegraNegocioException(CategoriaRegra.SALA_INATIVA, "Não é possível reservar uma sala inativa.");
         }
 
         Reserva reserva = reservaMapper.toEntity(dto, usuario, sala);
 
+        travasReserva.travarAteConcluirTransacao(sala.getId(), reserva.getData());
         validarReserva(reserva, null);
 
         reservaRepository.save(reserva);
+        diarioEventos.publicar(ReservaCriada.de(reserva));
+        versoesConsulta.reservasAlteradas(sala.getId());
+        roteamentoLeitura.registrarGravacao(usuario.getId());
 
         return reservaMapper.toResponse(reserva);
     }
 
-    public List<ReservaResponseDTO> listar() {
-        return reservaRepository.findAll()
-                .stream()
-                .map(reservaMapper::toResponse)
-                .collect(Collectors.toList());
+    @Transactional
+    public ReservaLoteResponseDTO criarEmLote(ReservaLoteRequestDTO lote) {
+
+        List<ReservaRequestDTO> pedidos = lote.getReservas();
+
+        Map<Long, Usuario> usuarios = usuarioService.buscarEntitiesPorIds(pedidos.stream()
+                .map(ReservaRequestDTO::getUsuarioId)
+                .collect(Collectors.toSet()));
+        Map<Long, Sala> salas = salaService.buscarEntitiesPorIds(pedidos.stream()
+                .map(ReservaRequestDTO::getSalaId)
+                .collect(Collectors.toSet()));
+
+        Reserva[] reservas = new Reserva[pedidos.size()];
+        String[] erros = new String[pedidos.size()];
+
+        for (int i = 0; i < pedidos.size(); i++) {
+            try {
+                reservas[i] = prepararItemDoLote(pedidos.get(i), usuarios, salas);
+            } catch (RegraNegocioException e) {
+                metricasNegocio.registrarRejeicao(e);
+                erros[i] = e.getMessage();
+            } catch (RecursoNaoEncontradoException e) {
+                erros[i] = e.getMessage();
+            } catch (DateTimeParseException e) {
+                erros[i] = "Data ou horário em formato inválido.";
+            }
+        }
+
+        List<Reserva> validas = Arrays.stream(reservas).filter(Objects::nonNull).toList();
+        if (!validas.isEmpty()) {
+            travasReserva.travarAteConcluirTransacao(validas);
+            marcarConflitosDoLote(reservas, erros);
+        }
+
+        boolean loteRejeitado = lote.isTudoOuNada() && Arrays.stream(erros).anyMatch(Objects::nonNull);
+
+        List<Reserva> aceitas = new ArrayList<>();
+        for (int i = 0; i < reservas.length; i++) {
+            if (erros[i] == null) {
+                if (loteRejeitado) {
+                    erros[i] = "Reserva não gravada: o lote contém itens rejeitados.";
+                } else {
+                    aceitas.add(reservas[i]);
+                }
+            }
+        }
+
+        reservaRepository.saveAll(aceitas);
+        diarioEventos.publicar(aceitas.stream().map(ReservaCriada::de).toList());
+        versoesConsulta.reservasAlteradas(aceitas.stream().map(r -> r.getSala().getId()).collect(Collectors.toSet()));
+        aceitas.forEach(r -> roteamentoLeitura.registrarGravacao(r.getUsuario().getId()));
+
+        List<ReservaLoteItemDTO> itens = new ArrayList<>(pedidos.size());
+        for (int i = 0; i < pedidos.size(); i++) {
+            itens.add(ReservaLoteItemDTO.builder()
+                    .indice(i)
+                    .sucesso(erros[i] == null)
+                    .reserva(erros[i] == null ? reservaMapper.toResponse(reservas[i]) : null)
+                    .erro(erros[i])
+                    .build());
+        }
+
+        return ReservaLoteResponseDTO.builder()
+                .criadas(aceitas.size())
+                .rejeitadas(pedidos.size() - aceitas.size())
+                .itens(itens)
+                .build();
     }
 
+    @Transactional(readOnly = true)
+    public PaginaDTO<ReservaResponseDTO> listarPagina(String cursor, int tamanho) {
+        Limit limite = Limit.of(tamanho + 1);
+
+        List<Reserva> reservas;
+        if (cursor == null) {
+            reservas = reservaRepository.findPrimeiraPagina(limite);
+        } else {
+            CursorPaginacao.ChaveReserva chave = CursorPaginacao.decodificarReserva(cursor);
+            reservas = reservaRepository.findPaginaApos(chave.data(), chave.horaInicio(), chave.id(), limite);
+        }
+
+        return CursorPaginacao.montarPagina(reservas, tamanho, reservaMapper::toResponse,
+                r -> CursorPaginacao.codificar(r.getData(), r.getHoraInicio(), r.getId()));
+    }
+
+    /**
+     * Busca na réplica e, se não encontrar, no principal: uma reserva recém-criada pode ainda não
+     * ter sido replicada, e quem a consulta pelo id costuma ser quem acabou de criá-la.
+     */
     public ReservaResponseDTO buscarPorId(Long id) {
-        Reserva reserva = reservaRepository.findById(id)
+        Reserva reserva = roteamentoLeitura.daReplica(() -> reservaRepository.findById(id))
+                .or(() -> roteamentoLeitura.<Optional<Reserva>>doPrincipal(() -> reservaRepository.findById(id)))
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Reserva não encontrada."));
         return reservaMapper.toResponse(reserva);
     }
 
     public List<ReservaResponseDTO> listarPorSalaEData(Long salaId, String dataStr) {
-        LocalDate data = LocalDate.parse(dataStr, DATE_FORMATTER);
+        LocalDate data = FormatoTemporal.lerData(dataStr);
 
-        List<Reserva> reservas = reservaRepository.findBySalaIdAndData(salaId, data);
+        // Responde com a ETag das versões do principal; lida na réplica, poderia associá-la a dados antigos.
+        List<Reserva> reservas = roteamentoLeitura.doPrincipal(() -> reservaRepository.findBySalaIdAndData(salaId, data));
 
         return reservas.stream()
                 .map(reservaMapper::toResponse)
@@ -95,7 +219,7 @@ public class ReservaService {
     }
 
     public List<ReservaResponseDTO> listarPorUsuario(Long usuarioId) {
-        List<Reserva> reservas = reservaRepository.findByUsuarioId(usuarioId);
+        List<Reserva> reservas = roteamentoLeitura.doUsuario(usuarioId, () -> reservaRepository.findByUsuarioId(usuarioId));
 
         return reservas.stream()
                 .map(reservaMapper::toResponse)
@@ -109,26 +233,37 @@ public class ReservaService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Reserva não encontrada."));
 
         if (reserva.getStatus() == StatusReserva.CANCELADA) {
-            throw new RegraNegocioException("Não é possível alterar uma reserva cancelada.");
+            throw new RegraNegocioException(CategoriaRegra.JA_CANCELADA,
+                    "Não é possível alterar uma reserva cancelada.");
         }
 
         LocalDateTime inicioAtual = LocalDateTime.of(reserva.getData(), reserva.getHoraInicio());
         if (!inicioAtual.isAfter(LocalDateTime.now())) {
-            throw new RegraNegocioException("Não é possível alterar uma reserva que já começou ou já passou.");
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "Não é possível alterar uma reserva que já começou ou já passou.");
         }
 
         Usuario usuario = usuarioService.buscarEntityPorId(dto.getUsuarioId());
         Sala sala = salaService.buscarEntityPorId(dto.getSalaId());
 
         if (sala.getStatus() == StatusSala.INATIVA) {
-            throw new RegraNegocioException("Não é possível reservar uma sala inativa.");
+            throw new RegraNegocioException(CategoriaRegra.SALA_INATIVA, "Não é possível reservar uma sala inativa.");
         }
 
+        Long salaAnteriorId = reserva.getSala().getId();
+        Long usuarioAnteriorId = reserva.getUsuario().getId();
+        LocalDate dataAnterior = reserva.getData();
+
         reservaMapper.updateEntityFromDto(dto, reserva, usuario, sala);
 
+        travasReserva.travarAteConcluirTransacao(salaAnteriorId, dataAnterior, sala.getId(), reserva.getData());
         validarReserva(reserva, reserva.getId());
 
         reservaRepository.save(reserva);
+        diarioEventos.publicar(ReservaAlterada.de(reserva, salaAnteriorId, dataAnterior));
+        versoesConsulta.reservasAlteradas(List.of(salaAnteriorId, sala.getId()));
+        roteamentoLeitura.registrarGravacao(usuarioAnteriorId);
+        roteamentoLeitura.registrarGravacao(usuario.getId());
 
         return reservaMapper.toResponse(reserva);
     }
@@ -140,71 +275,191 @@ public class ReservaService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Reserva não encontrada."));
 
         if (reserva.getStatus() == StatusReserva.CANCELADA) {
-            throw new RegraNegocioException("A reserva já está cancelada.");
+            throw new RegraNegocioException(CategoriaRegra.JA_CANCELADA, "A reserva já está cancelada.");
         }
 
         LocalDateTime inicio = LocalDateTime.of(reserva.getData(), reserva.getHoraInicio());
         LocalDateTime agora = LocalDateTime.now();
 
         if (!inicio.isAfter(agora)) {
-            throw new RegraNegocioException("Cancelamentos só podem ocorrer antes do horário de início da reserva.");
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "Cancelamentos só podem ocorrer antes do horário de início da reserva.");
         }
 
         reserva.setStatus(StatusReserva.CANCELADA);
         reservaRepository.save(reserva);
+        diarioEventos.publicar(ReservaCancelada.de(reserva));
+        versoesConsulta.reservasAlteradas(reserva.getSala().getId());
+        roteamentoLeitura.registrarGravacao(reserva.getUsuario().getId());
     }
 
-    public List<SalaResponseDTO> listarSalasDisponiveis(String dataStr, String horaInicioStr, String horaFimStr) {
+    /**
+     * Salas ativas livres no período, em ordem de id. Quando os índices em memória cobrem a data,
+     * só as salas do tipo e da capacidade pedidos são verificadas, sem consultar o banco.
+     */
+    public List<SalaResponseDTO> listarSalasDisponiveis(String dataStr, String horaInicioStr, String horaFimStr,
+                                                        TipoSala tipo, Integer capacidadeMinima) {
 
-        LocalDate data = LocalDate.parse(dataStr, DATE_FORMATTER);
-        LocalTime horaInicio = LocalTime.parse(horaInicioStr, TIME_FORMATTER);
-        LocalTime horaFim = LocalTime.parse(horaFimStr, TIME_FORMATTER);
+        LocalDate data = FormatoTemporal.lerData(dataStr);
+        LocalTime horaInicio = FormatoTemporal.lerHora(horaInicioStr);
+        LocalTime horaFim = FormatoTemporal.lerHora(horaFimStr);
 
         if (!horaFim.isAfter(horaInicio)) {
-            throw new RegraNegocioException("A hora de fim deve ser maior que a hora de início.");
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A hora de fim deve ser maior que a hora de início.");
         }
 
-        List<Sala> salasAtivas = salaRepository.findAll().stream()
-                .filter(s -> s.getStatus() == StatusSala.ATIVA)
-                .collect(Collectors.toList());
+        int capacidade = capacidadeMinima != null ? capacidadeMinima : 0;
 
-        return salasAtivas.stream()
-                .filter(sala -> estaDisponivel(sala, data, horaInicio, horaFim))
-                .map(salaMapper::toResponse)
-                .collect(Collectors.toList());
+        if (indiceSalas.carregado() && indiceDisponibilidade.cobre(data)) {
+            return indiceSalas.candidatas(tipo, capacidade)
+                    .stream()
+                    .filter(sala -> indiceDisponibilidade.estaLivre(sala.getId(), data, horaInicio, horaFim))
+                    .toList();
+        }
+
+        return roteamentoLeitura.daReplica(() -> reservaRepository.findSalasDisponiveis(
+                data,
+                horaInicio,
+                horaFim,
+                tipo,
+                capacidade,
+                StatusSala.ATIVA,
+                StatusReserva.ATIVA
+        ));
+    }
+
+    private Reserva prepararItemDoLote(ReservaRequestDTO dto, Map<Long, Usuario> usuarios, Map<Long, Sala> salas) {
+
+        Usuario usuario = usuarios.get(dto.getUsuarioId());
+        if (usuario == null) {
+            throw new RecursoNaoEncontradoException("Usuário não encontrado.");
+        }
+
+        Sala sala = salas.get(dto.getSalaId());
+        if (sala == null) {
+            throw new RecursoNaoEncontradoException("Sala não encontrada.");
+        }
+
+        if (sala.getStatus() == StatusSala.INATIVA) {
+            throw new RegraNegocioException(CategoriaRegra.SALA_INATIVA, "Não é possível reservar uma sala inativa.");
+        }
+
+        Reserva reserva = reservaMapper.toEntity(dto, usuario, sala);
+        validarPeriodo(reserva);
+        return reserva;
+    }
+
+    private void marcarConflitosDoLote(Reserva[] reservas, String[] erros) {
+
+        Set<Long> salaIds = new HashSet<>();
+        LocalDate dataInicial = null;
+        LocalDate dataFinal = null;
+
+        for (Reserva reserva : reservas) {
+            if (reserva != null) {
+                salaIds.add(reserva.getSala().getId());
+                dataInicial = dataInicial == null || reserva.getData().isBefore(dataInicial) ? reserva.getData() : dataInicial;
+                dataFinal = dataFinal == null || reserva.getData().isAfter(dataFinal) ? reserva.getData() : dataFinal;
+            }
+        }
+
+        Map<SalaData, List<IntervaloReservaDTO>> ocupados = reservaRepository
+                .findIntervalosPorSalasEPeriodo(salaIds, dataInicial, dataFinal, StatusReserva.ATIVA)
+                .stream()
+                .collect(Collectors.groupingBy(i -> new SalaData(i.getSalaId(), i.getData())));
+
+        Map<SalaData, List<Reserva>> aceitasNoLote = new HashMap<>();
+
+        for (int i = 0; i < reservas.length; i++) {
+            Reserva reserva = reservas[i];
+            if (reserva == null) {
+                continue;
+            }
+
+            SalaData chave = new SalaData(reserva.getSala().getId(), reserva.getData());
+
+            boolean conflitaComBanco = ocupados.getOrDefault(chave, List.of()).stream()
+                    .anyMatch(o -> reserva.getHoraInicio().isBefore(o.getHoraFim())
+                            && reserva.getHoraFim().isAfter(o.getHoraInicio()));
+
+            List<Reserva> doLote = aceitasNoLote.computeIfAbsent(chave, c -> new ArrayList<>());
+            boolean conflitaComLote = doLote.stream()
+                    .anyMatch(o -> reserva.getHoraInicio().isBefore(o.getHoraFim())
+                            && reserva.getHoraFim().isAfter(o.getHoraInicio()));
+
+            if (conflitaComBanco) {
+                erros[i] = "Já existe uma reserva para essa sala nesse horário.";
+                metricasNegocio.registrarConflito(MetricasNegocio.ORIGEM_LOTE);
+            } else if (conflitaComLote) {
+                erros[i] = "Conflita com outra reserva do mesmo lote.";
+                metricasNegocio.registrarConflito(MetricasNegocio.ORIGEM_LOTE);
+            } else {
+                doLote.add(reserva);
+            }
+        }
     }
 
-    private void validarReserva(Reserva reserva, Long idReservaIgnorar) {
+    private void validarPeriodo(Reserva reserva) {
 
         if (!reserva.getHoraFim().isAfter(reserva.getHoraInicio())) {
-            throw new RegraNegocioException("A hora de fim deve ser maior que a hora de início.");
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A hora de fim deve ser maior que a hora de início.");
         }
 
         LocalDateTime inicio = LocalDateTime.of(reserva.getData(), reserva.getHoraInicio());
         LocalDateTime agora = LocalDateTime.now();
 
         if (!inicio.isAfter(agora)) {
-            throw new RegraNegocioException("Não é possível criar ou alterar reservas no passado.");
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "Não é possível criar ou alterar reservas no passado.");
         }
+    }
 
-        List<Reserva> conflitos = reservaRepository.findReservasConflitantes(
-                reserva.getSala().getId(),
-                reserva.getData(),
-                reserva.getHoraInicio(),
-                reserva.getHoraFim(),
-                StatusReserva.ATIVA
-        );
-
-        boolean existeOutroConflito = conflitos.stream()
-                .anyMatch(r -> idReservaIgnorar == null || !r.getId().equals(idReservaIgnorar));
+    /**
+     * Valida o período e a ausência de conflito. Quem grava deve ter adquirido antes a trava de
+     * (sala, data) em {@link TravasReserva}: o índice é atualizado no commit, ainda com a trava
+     * mantida, então pode responder à checagem de conflito no lugar do banco quando cobre a data.
+     */
+    void validarReserva(Reserva reserva, Long idReservaIgnorar) {
+
+        validarPeriodo(reserva);
+
+        boolean existeOutroConflito;
+        if (indiceDisponibilidade.cobre(reserva.getData())) {
+            existeOutroConflito = !indiceDisponibilidade.estaLivre(
+                    reserva.getSala().getId(),
+                    reserva.getData(),
+                    reserva.getHoraInicio(),
+                    reserva.getHoraFim(),
+                    idReservaIgnorar
+            );
+        } else {
+            List<Reserva> conflitos = reservaRepository.findReservasConflitantes(
+                    reserva.getSala().getId(),
+                    reserva.getData(),
+                    reserva.getHoraInicio(),
+                    reserva.getHoraFim(),
+                    StatusReserva.ATIVA
+            );
+
+            existeOutroConflito = conflitos.stream()
+                    .anyMatch(r -> idReservaIgnorar == null || !r.getId().equals(idReservaIgnorar));
+        }
 
         if (existeOutroConflito) {
-            throw new RegraNegocioException("Já existe uma reserva para essa sala nesse horário.");
+            metricasNegocio.registrarConflito(MetricasNegocio.ORIGEM_INDIVIDUAL);
+            throw new RegraNegocioException(CategoriaRegra.CONFLITO_HORARIO,
+                    "Já existe uma reserva para essa sala nesse horário.");
         }
     }
 
     public boolean estaDisponivel(Sala sala, LocalDate data, LocalTime horaInicio, LocalTime horaFim) {
 
+        if (indiceDisponibilidade.cobre(data)) {
+            return indiceDisponibilidade.estaLivre(sala.getId(), data, horaInicio, horaFim);
+        }
+
         List<Reserva> conflitos = reservaRepository.findReservasConflitantes(
                 sala.getId(),
                 data,
@@ -0,0 +1,81 @@
+package com.reservas.facisa.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservas.facisa.config.ReplicaLeituraProperties;
+
+/**
+ * Escolhe o banco das leituras feitas fora de um método {@code @Transactional}. Uma transação
+ * somente leitura vai para a réplica; as leituras que precisam ver o último commit vão para o
+ * principal. Entre elas estão as que respondem com ETag, cujas versões mudam no commit do
+ * principal, e as do usuário que acabou de gravar. Sem réplica configurada, a leitura roda como
+ * está, sem abrir transação.
+ */
+@Component
+public class RoteamentoLeitura {
+
+    /** Acima disso, as marcas de gravação vencidas são descartadas na próxima gravação. */
+    private static final int LIMITE_MARCAS = 10_000;
+
+    private final boolean replicaHabilitada;
+    private final long janelaNanos;
+    private final TransactionTemplate somenteLeitura;
+    private final TransactionTemplate principal;
+
+    /** Usuário -> instante (nanoTime) até o qual suas leituras ficam no banco principal. */
+    private final ConcurrentHashMap<Long, Long> gravacoesRecentes = new ConcurrentHashMap<>();
+
+    public RoteamentoLeitura(PlatformTransactionManager transactionManager, ReplicaLeituraProperties propriedades) {
+        this.replicaHabilitada = propriedades.habilitada();
+        this.janelaNanos = propriedades.janelaLeituraPropria().toNanos();
+
+        this.somenteLeitura = new TransactionTemplate(transactionManager);
+        this.somenteLeitura.setReadOnly(true);
+        this.principal = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T daReplica(Supplier<T> leitura) {
+        return replicaHabilitada ? somenteLeitura.execute(status -> leitura.get()) : leitura.get();
+    }
+
+    public <T> T doPrincipal(Supplier<T> leitura) {
+        return replicaHabilitada ? principal.execute(status -> leitura.get()) : leitura.get();
+    }
+
+    /** Lê do principal se o usuário gravou dentro da janela; senão, da réplica. */
+    public <T> T doUsuario(Long usuarioId, Supplier<T> leitura) {
+        return gravouRecentemente(usuarioId) ? doPrincipal(leitura) : daReplica(leitura);
+    }
+
+    /**
+     * Marca já na gravação, antes do commit: a janela cobre também o intervalo entre o commit e a
+     * resposta. Se a transação for desfeita, o usuário só lê do principal por alguns segundos.
+     */
+    public void registrarGravacao(Long usuarioId) {
+        if (!replicaHabilitada || usuarioId == null) {
+            return;
+        }
+        long agora = System.nanoTime();
+        if (gravacoesRecentes.size() >= LIMITE_MARCAS) {
+            gravacoesRecentes.values().removeIf(ate -> ate - agora <= 0);
+        }
+        gravacoesRecentes.put(usuarioId, agora + janelaNanos);
+    }
+
+    private boolean gravouRecentemente(Long usuarioId) {
+        Long ate = gravacoesRecentes.get(usuarioId);
+        if (ate == null) {
+            return false;
+        }
+        if (ate - System.nanoTime() > 0) {
+            return true;
+        }
+        gravacoesRecentes.remove(usuarioId, ate);
+        return false;
+    }
+}
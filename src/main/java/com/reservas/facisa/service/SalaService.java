@@ -1,52 +1,80 @@
 package com.reservas.facisa.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reservas.facisa.dto.PaginaDTO;
 import com.reservas.facisa.dto.SalaRequestDTO;
 import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
 import com.reservas.facisa.exception.RegraNegocioException;
 import com.reservas.facisa.exception.RecursoNaoEncontradoException;
 import com.reservas.facisa.mapper.SalaMapper;
+import com.reservas.facisa.model.EventoDominio.SalaAlterada;
+import com.reservas.facisa.model.EventoDominio.SalaInativada;
 import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusSala;
 import com.reservas.facisa.repository.SalaRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("facisa.servico")
 public class SalaService {
 
     private final SalaRepository salaRepository;
     private final SalaMapper salaMapper;
-
-    public SalaService(SalaRepository salaRepository, SalaMapper salaMapper) {
+    private final VersoesConsulta versoesConsulta;
+    private final DiarioEventos diarioEventos;
+    private final RoteamentoLeitura roteamentoLeitura;
+
+    public SalaService(SalaRepository salaRepository,
+                       SalaMapper salaMapper,
+                       VersoesConsulta versoesConsulta,
+                       DiarioEventos diarioEventos,
+                       RoteamentoLeitura roteamentoLeitura) {
         this.salaRepository = salaRepository;
         this.salaMapper = salaMapper;
+        this.versoesConsulta = versoesConsulta;
+        this.diarioEventos = diarioEventos;
+        this.roteamentoLeitura = roteamentoLeitura;
     }
 
     @Transactional
     public SalaResponseDTO criar(SalaRequestDTO dto) {
 
         if (salaRepository.existsByNomeIgnoreCase(dto.getNome())) {
-            throw new RegraNegocioException("Já existe uma sala com esse nome.");
+            throw new RegraNegocioException(CategoriaRegra.DUPLICIDADE, "Já existe uma sala com esse nome.");
         }
 
         Sala sala = salaMapper.toEntity(dto);
         salaRepository.save(sala);
+        diarioEventos.publicar(SalaAlterada.de(sala));
+        versoesConsulta.salaAlterada(sala.getId());
 
         return salaMapper.toResponse(sala);
     }
 
-    public List<SalaResponseDTO> listar() {
-        return salaRepository.findAll()
-                .stream()
-                .map(salaMapper::toResponse)
-                .collect(Collectors.toList());
+    /** Lida no principal, como {@link #buscarPorId}: a resposta leva a ETag das versões gravadas nele. */
+    public PaginaDTO<SalaResponseDTO> listarPagina(String cursor, int tamanho) {
+        Long ultimoId = cursor == null ? 0L : CursorPaginacao.decodificarId(cursor);
+
+        List<Sala> salas = roteamentoLeitura.doPrincipal(
+                () -> salaRepository.findByIdGreaterThanOrderByIdAsc(ultimoId, Limit.of(tamanho + 1)));
+
+        return CursorPaginacao.montarPagina(salas, tamanho, salaMapper::toResponse,
+                s -> CursorPaginacao.codificar(s.getId()));
     }
 
     public SalaResponseDTO buscarPorId(Long id) {
-        Sala sala = salaRepository.findById(id)
+        Sala sala = roteamentoLeitura.doPrincipal(() -> salaRepository.findById(id))
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Sala não encontrada."));
 
         return salaMapper.toResponse(sala);
@@ -59,11 +87,20 @@ public class SalaService {
 
         if (!sala.getNome().equalsIgnoreCase(dto.getNome()) &&
             salaRepository.existsByNomeIgnoreCase(dto.getNome())) {
-            throw new RegraNegocioException("Já existe outra sala com esse nome.");
+            throw new RegraNegocioException(CategoriaRegra.DUPLICIDADE, "Já existe outra sala com esse nome.");
         }
 
+        StatusSala statusAnterior = sala.getStatus();
+
         salaMapper.updateEntityFromDto(dto, sala);
         salaRepository.save(sala);
+        versoesConsulta.salaAlterada(sala.getId());
+
+        if (statusAnterior == StatusSala.ATIVA && sala.getStatus() == StatusSala.INATIVA) {
+            diarioEventos.publicar(List.of(SalaAlterada.de(sala), new SalaInativada(0, sala.getId())));
+        } else {
+            diarioEventos.publicar(SalaAlterada.de(sala));
+        }
 
         return salaMapper.toResponse(sala);
     }
@@ -74,10 +111,27 @@ public class SalaService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Sala não encontrada."));
 
         salaRepository.delete(sala);
+        diarioEventos.publicar(new SalaInativada(0, id));
+        versoesConsulta.salaAlterada(id);
     }
 
     public Sala buscarEntityPorId(Long id) {
         return salaRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Sala não encontrada."));
     }
+
+    /**
+     * Lê as salas ativas para que entrem no cache de segundo nível e as primeiras reservas as
+     * encontrem sem ir ao banco. Retorna quantas foram carregadas. Chamado pelo {@link AquecimentoInicial}.
+     */
+    public int aquecerCache() {
+        List<Sala> ativas = salaRepository.findByStatus(StatusSala.ATIVA);
+        return ativas.size();
+    }
+
+    public Map<Long, Sala> buscarEntitiesPorIds(Collection<Long> ids) {
+        return salaRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Sala::getId, Function.identity()));
+    }
 }
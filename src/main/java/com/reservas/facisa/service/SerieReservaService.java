@@ -0,0 +1,263 @@
+package com.reservas.facisa.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.SerieReservaRequestDTO;
+import com.reservas.facisa.dto.SerieReservaResponseDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.exception.RecursoNaoEncontradoException;
+import com.reservas.facisa.mapper.FormatoTemporal;
+import com.reservas.facisa.mapper.SerieReservaMapper;
+import com.reservas.facisa.model.EventoDominio.ReservaCancelada;
+import com.reservas.facisa.model.EventoDominio.ReservaCriada;
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.SerieReserva;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SerieReservaRepository;
+
+@Service
+public class SerieReservaService {
+
+    static final int MAX_OCORRENCIAS = 260;
+
+    private final SerieReservaRepository serieReservaRepository;
+    private final ReservaRepository reservaRepository;
+    private final SerieReservaMapper serieReservaMapper;
+    private final UsuarioService usuarioService;
+    private final SalaService salaService;
+    private final DiarioEventos diarioEventos;
+    private final TravasReserva travasReserva;
+    private final VersoesConsulta versoesConsulta;
+    private final RoteamentoLeitura roteamentoLeitura;
+
+    public SerieReservaService(SerieReservaRepository serieReservaRepository,
+                               ReservaRepository reservaRepository,
+                               SerieReservaMapper serieReservaMapper,
+                               UsuarioService usuarioService,
+                               SalaService salaService,
+                               DiarioEventos diarioEventos,
+                               TravasReserva travasReserva,
+                               VersoesConsulta versoesConsulta,
+                               RoteamentoLeitura roteamentoLeitura) {
+        this.serieReservaRepository = serieReservaRepository;
+        this.reservaRepository = reservaRepository;
+        this.serieReservaMapper = serieReservaMapper;
+        this.usuarioService = usuarioService;
+        this.salaService = salaService;
+        this.diarioEventos = diarioEventos;
+        this.travasReserva = travasReserva;
+        this.versoesConsulta = versoesConsulta;
+        this.roteamentoLeitura = roteamentoLeitura;
+    }
+
+    @Transactional
+    public SerieReservaResponseDTO criar(SerieReservaRequestDTO dto) {
+
+        Usuario usuario = usuarioService.buscarEntityPorId(dto.getUsuarioId());
+        Sala sala = salaService.buscarEntityPorId(dto.getSalaId());
+
+        if (sala.getStatus() == StatusSala.INATIVA) {
+            throw new RegraNegocioException(CategoriaRegra.SALA_INATIVA, "Não é possível reservar uma sala inativa.");
+        }
+
+        SerieReserva serie = serieReservaMapper.toEntity(dto, usuario, sala);
+
+        LocalDateTime agora = LocalDateTime.now();
+        if (!LocalDateTime.of(serie.getDataInicio(), serie.getHoraInicio()).isAfter(agora)) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "Não é possível criar ou alterar reservas no passado.");
+        }
+
+        List<Reserva> ocorrencias = expandir(serie, agora);
+
+        reservarOcorrencias(serie, ocorrencias);
+        roteamentoLeitura.registrarGravacao(usuario.getId());
+
+        return serieReservaMapper.toResponse(serie, ocorrencias);
+    }
+
+    /** Busca na réplica e, se a série ainda não tiver chegado lá, no principal. */
+    public SerieReservaResponseDTO buscarPorId(Long id) {
+        return roteamentoLeitura.daReplica(() -> buscarResposta(id))
+                .or(() -> roteamentoLeitura.<Optional<SerieReservaResponseDTO>>doPrincipal(() -> buscarResposta(id)))
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Série de reservas não encontrada."));
+    }
+
+    /**
+     * Substitui as ocorrências que ainda não começaram pelas geradas a partir da nova definição.
+     * As ocorrências passadas continuam ligadas à série como estavam, então uma série já iniciada
+     * pode ser editada mantendo a sua data de início original.
+     */
+    @Transactional
+    public SerieReservaResponseDTO atualizar(Long id, SerieReservaRequestDTO dto) {
+
+        SerieReserva serie = buscarEntityPorId(id);
+
+        if (serie.getStatus() == StatusReserva.CANCELADA) {
+            throw new RegraNegocioException(CategoriaRegra.JA_CANCELADA, "Não é possível alterar uma série cancelada.");
+        }
+
+        Usuario usuario = usuarioService.buscarEntityPorId(dto.getUsuarioId());
+        Sala sala = salaService.buscarEntityPorId(dto.getSalaId());
+
+        if (sala.getStatus() == StatusSala.INATIVA) {
+            throw new RegraNegocioException(CategoriaRegra.SALA_INATIVA, "Não é possível reservar uma sala inativa.");
+        }
+
+        Long salaAnteriorId = serie.getSala().getId();
+        Long usuarioAnteriorId = serie.getUsuario().getId();
+        serieReservaMapper.updateEntityFromDto(dto, serie, usuario, sala);
+        List<Reserva> ocorrencias = expandir(serie, LocalDateTime.now());
+
+        cancelarOcorrenciasFuturas(serie, usuarioAnteriorId);
+        reservarOcorrencias(serie, ocorrencias);
+        versoesConsulta.reservasAlteradas(List.of(salaAnteriorId, sala.getId()));
+        roteamentoLeitura.registrarGravacao(usuarioAnteriorId);
+        roteamentoLeitura.registrarGravacao(usuario.getId());
+
+        return serieReservaMapper.toResponse(serie, reservaRepository.findBySerieIdOrderByDataAsc(id));
+    }
+
+    @Transactional
+    public void cancelar(Long id) {
+
+        SerieReserva serie = buscarEntityPorId(id);
+
+        if (serie.getStatus() == StatusReserva.CANCELADA) {
+            throw new RegraNegocioException(CategoriaRegra.JA_CANCELADA, "A série já está cancelada.");
+        }
+
+        cancelarOcorrenciasFuturas(serie, serie.getUsuario().getId());
+
+        serie.setStatus(StatusReserva.CANCELADA);
+        serieReservaRepository.save(serie);
+        roteamentoLeitura.registrarGravacao(serie.getUsuario().getId());
+    }
+
+    private Optional<SerieReservaResponseDTO> buscarResposta(Long id) {
+        return serieReservaRepository.findById(id)
+                .map(serie -> serieReservaMapper.toResponse(serie, reservaRepository.findBySerieIdOrderByDataAsc(id)));
+    }
+
+    private SerieReserva buscarEntityPorId(Long id) {
+        return serieReservaRepository.findById(id)
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Série de reservas não encontrada."));
+    }
+
+    /** Gera as ocorrências da série que começam depois de {@code aPartirDe}, na cadência contada de {@code dataInicio}. */
+    private List<Reserva> expandir(SerieReserva serie, LocalDateTime aPartirDe) {
+
+        if (!serie.getHoraFim().isAfter(serie.getHoraInicio())) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A hora de fim deve ser maior que a hora de início.");
+        }
+
+        if (serie.getDataFim().isBefore(serie.getDataInicio())) {
+            throw new RegraNegocioException(CategoriaRegra.PERIODO,
+                    "A data de fim deve ser igual ou posterior à data de início.");
+        }
+
+        List<Reserva> ocorrencias = new ArrayList<>();
+        for (LocalDate data = serie.getDataInicio();
+             !data.isAfter(serie.getDataFim());
+             data = data.plusWeeks(serie.getIntervaloSemanas())) {
+
+            if (serie.getExcecoes().contains(data)
+                    || !LocalDateTime.of(data, serie.getHoraInicio()).isAfter(aPartirDe)) {
+                continue;
+            }
+            if (ocorrencias.size() == MAX_OCORRENCIAS) {
+                throw new RegraNegocioException(CategoriaRegra.SERIE,
+                        "A série pode gerar no máximo " + MAX_OCORRENCIAS + " ocorrências.");
+            }
+
+            ocorrencias.add(Reserva.builder()
+                    .usuario(serie.getUsuario())
+                    .sala(serie.getSala())
+                    .serie(serie)
+                    .data(data)
+                    .horaInicio(serie.getHoraInicio())
+                    .horaFim(serie.getHoraFim())
+                    .motivo(serie.getMotivo())
+                    .status(StatusReserva.ATIVA)
+                    .build());
+        }
+
+        if (ocorrencias.isEmpty()) {
+            throw new RegraNegocioException(CategoriaRegra.SERIE, "A série não gera nenhuma ocorrência.");
+        }
+
+        return ocorrencias;
+    }
+
+    private void reservarOcorrencias(SerieReserva serie, List<Reserva> ocorrencias) {
+
+        travasReserva.travarAteConcluirTransacao(ocorrencias);
+
+        Map<LocalDate, List<IntervaloReservaDTO>> ocupados = reservaRepository
+                .findIntervalosPorSalasEPeriodo(
+                        List.of(serie.getSala().getId()),
+                        ocorrencias.get(0).getData(),
+                        ocorrencias.get(ocorrencias.size() - 1).getData(),
+                        StatusReserva.ATIVA)
+                .stream()
+                .collect(Collectors.groupingBy(IntervaloReservaDTO::getData));
+
+        List<String> conflitos = ocorrencias.stream()
+                .filter(o -> ocupados.getOrDefault(o.getData(), List.of()).stream()
+                        .anyMatch(r -> o.getHoraInicio().isBefore(r.getHoraFim())
+                                && o.getHoraFim().isAfter(r.getHoraInicio())))
+                .map(o -> FormatoTemporal.formatarData(o.getData()))
+                .toList();
+
+        if (!conflitos.isEmpty()) {
+            throw new RegraNegocioException(CategoriaRegra.CONFLITO_HORARIO,
+                    "Já existe uma reserva para essa sala nesse horário nas datas: " + String.join(", ", conflitos) + ".");
+        }
+
+        serieReservaRepository.save(serie);
+        reservaRepository.saveAll(ocorrencias);
+        diarioEventos.publicar(ocorrencias.stream().map(ReservaCriada::de).toList());
+        versoesConsulta.reservasAlteradas(serie.getSala().getId());
+    }
+
+    private void cancelarOcorrenciasFuturas(SerieReserva serie, Long usuarioId) {
+
+        LocalDateTime agora = LocalDateTime.now();
+
+        List<IntervaloReservaDTO> futuras = reservaRepository.findIntervalosFuturosDaSerie(
+                serie.getId(), agora.toLocalDate(), agora.toLocalTime(), StatusReserva.ATIVA);
+
+        if (futuras.isEmpty()) {
+            return;
+        }
+
+        reservaRepository.atualizarStatusPorIds(
+                futuras.stream().map(IntervaloReservaDTO::getReservaId).toList(),
+                StatusReserva.CANCELADA,
+                agora);
+        diarioEventos.publicar(futuras.stream()
+                .map(r -> new ReservaCancelada(0, r.getReservaId(), usuarioId, r.getSalaId(), r.getData()))
+                .toList());
+        // Na edição, a série já aponta para a sala nova; as canceladas podem estar em outra.
+        versoesConsulta.reservasAlteradas(futuras.stream()
+                .map(IntervaloReservaDTO::getSalaId)
+                .distinct()
+                .toList());
+    }
+}
@@ -0,0 +1,547 @@
+package com.reservas.facisa.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.reservas.facisa.config.StreamDisponibilidadeProperties;
+import com.reservas.facisa.dto.AlteracoesDisponibilidadeDTO;
+import com.reservas.facisa.dto.IntervaloDisponibilidadeDTO;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.mapper.FormatoTemporal;
+import com.reservas.facisa.model.EventoDominio;
+import com.reservas.facisa.model.EventoDominio.ReservaAlterada;
+import com.reservas.facisa.model.EventoDominio.ReservaCancelada;
+import com.reservas.facisa.model.EventoDominio.ReservaCriada;
+import com.reservas.facisa.model.EventoDominio.SalaAlterada;
+import com.reservas.facisa.model.EventoDominio.SalaInativada;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.repository.ReservaRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Assinaturas de {@code GET /reservas/stream}. Cada uma acompanha um conjunto de combinações de
+ * sala e data e recebe, a partir dos eventos do {@link DiarioEventos}, só o que mudou nelas.
+ *
+ * <p>Os eventos não são enviados na hora: cada assinatura guarda o estado mais recente de cada
+ * reserva alterada, e o acumulado é enviado a cada {@code facisa.stream.agrupamento}. Uma rajada
+ * de alterações da mesma reserva vira um item só. As pendências de uma assinatura são limitadas a
+ * {@code facisa.stream.maximo-pendentes}; acima disso, são descartadas e a assinatura recebe um
+ * snapshot no próximo envio. Uma conexão ociosa custa apenas o {@link SseEmitter} e as suas
+ * combinações.
+ *
+ * <p>A thread de agendamento só escolhe as assinaturas com algo a enviar. A escrita, e a consulta
+ * de um snapshot, acontecem numa thread virtual da própria assinatura, um envio de cada vez: um
+ * cliente lento não atrasa os outros. Um envio que passa de {@code facisa.stream.timeout-escrita}
+ * descarta a assinatura, e o cliente continua pelo {@code Last-Event-ID} ao reconectar.
+ *
+ * <p>O id de cada evento SSE é a sequência do diário. Na reconexão, o {@code Last-Event-ID}
+ * serve de checkpoint: se o diário ainda retém os eventos seguintes, só eles são enviados; se
+ * não, a assinatura recomeça com um snapshot.
+ */
+@Slf4j
+@Component
+public class StreamDisponibilidade {
+
+    static final String SNAPSHOT = "snapshot";
+    static final String DELTA = "delta";
+
+    private record Chave(Long salaId, LocalDate data) {
+    }
+
+    /** Estado mais recente de uma reserva; {@code intervalo} nulo indica que saiu da assinatura. */
+    private record Pendente(long sequencia, IntervaloDisponibilidadeDTO intervalo) {
+    }
+
+    private final DiarioEventos diarioEventos;
+    private final IndiceDisponibilidade indiceDisponibilidade;
+    private final ReservaRepository reservaRepository;
+    private final RoteamentoLeitura roteamentoLeitura;
+
+    private final long timeoutMillis;
+    private final long timeoutEscritaNanos;
+    private final int maximoCombinacoes;
+    private final int maximoPendentes;
+
+    private final Set<Assinatura> assinaturas = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Chave, Set<Assinatura>> porChave = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Assinatura> comPendencias = new ConcurrentLinkedQueue<>();
+
+    /** Assinaturas com um envio despachado e ainda não concluído. */
+    private final Set<Assinatura> emEnvio = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService agendamento = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("stream-disponibilidade").daemon().factory());
+
+    private final ExecutorService remetentes = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("stream-disponibilidade-envio-", 0).factory());
+
+    public StreamDisponibilidade(DiarioEventos diarioEventos,
+                                 IndiceDisponibilidade indiceDisponibilidade,
+                                 ReservaRepository reservaRepository,
+                                 RoteamentoLeitura roteamentoLeitura,
+                                 StreamDisponibilidadeProperties propriedades) {
+        this.diarioEventos = diarioEventos;
+        this.indiceDisponibilidade = indiceDisponibilidade;
+        this.reservaRepository = reservaRepository;
+        this.roteamentoLeitura = roteamentoLeitura;
+        this.timeoutMillis = propriedades.timeout().toMillis();
+        this.timeoutEscritaNanos = propriedades.timeoutEscrita().toNanos();
+        this.maximoCombinacoes = propriedades.maximoCombinacoes();
+        this.maximoPendentes = propriedades.maximoPendentes();
+
+        long agrupamento = propriedades.agrupamento().toMillis();
+        long heartbeat = propriedades.heartbeat().toMillis();
+        long verificacao = Math.max(1, propriedades.timeoutEscrita().toMillis() / 2);
+        agendamento.scheduleWithFixedDelay(this::enviarPendentes, agrupamento, agrupamento, TimeUnit.MILLISECONDS);
+        agendamento.scheduleWithFixedDelay(this::enviarHeartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        agendamento.scheduleWithFixedDelay(this::descartarTravadas, verificacao, verificacao, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre uma assinatura das combinações de {@code salaIds} e {@code datas}. Com
+     * {@code ultimoEventoId}, tenta continuar de onde a conexão anterior parou.
+     */
+    public SseEmitter assinar(Collection<Long> salaIds, Collection<String> datas, Long ultimoEventoId) {
+        if (salaIds.isEmpty() || datas.isEmpty()) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO, "Informe ao menos uma sala e uma data.");
+        }
+        if ((long) salaIds.size() * datas.size() > maximoCombinacoes) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO,
+                    "Uma assinatura pode acompanhar no máximo " + maximoCombinacoes
+                    + " combinações de sala e data.");
+        }
+
+        Set<Chave> chaves = new HashSet<>();
+        for (String texto : datas) {
+            LocalDate data = lerData(texto);
+            salaIds.forEach(salaId -> chaves.add(new Chave(salaId, data)));
+        }
+
+        SseEmitter emitter = criarEmitter(timeoutMillis);
+        Assinatura assinatura = new Assinatura(emitter, chaves);
+        emitter.onCompletion(() -> remover(assinatura));
+        emitter.onTimeout(() -> remover(assinatura));
+        emitter.onError(erro -> remover(assinatura));
+
+        // Registrada antes do checkpoint: o que for entregue depois dele chega às pendências, e o
+        // que já tinha sido entregue está no banco e no índice.
+        registrar(assinatura);
+        long checkpoint = diarioEventos.ultimaSequencia();
+
+        // Um id à frente do diário vem de antes de um reinício da aplicação.
+        Optional<List<EventoDominio>> perdidos = ultimoEventoId == null || ultimoEventoId > checkpoint
+                ? Optional.empty()
+                : diarioEventos.desde(ultimoEventoId, checkpoint);
+
+        synchronized (assinatura) {
+            if (perdidos.isPresent()) {
+                assinatura.ultimoId = Math.max(assinatura.ultimoId, ultimoEventoId);
+                perdidos.get().stream().filter(assinatura::interessa).forEach(assinatura::acumular);
+            } else {
+                assinatura.snapshotPendente = true;
+            }
+        }
+        agendar(assinatura);
+        return emitter;
+    }
+
+    private static LocalDate lerData(String texto) {
+        try {
+            return FormatoTemporal.lerData(texto);
+        } catch (DateTimeParseException e) {
+            throw new RegraNegocioException(CategoriaRegra.PARAMETRO, "Data em formato inválido. Use yyyy-MM-dd.");
+        }
+    }
+
+    public int assinaturasAtivas() {
+        return assinaturas.size();
+    }
+
+    /** Envios despachados que ainda não terminaram, inclusive os que esperam pela sua thread. */
+    public int enviosEmAndamento() {
+        return emEnvio.size();
+    }
+
+    /** Depois do índice de disponibilidade, de onde os snapshots são lidos. */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aplicar(EventoDominio evento) {
+        switch (evento) {
+            case ReservaCriada e -> notificar(new Chave(e.salaId(), e.data()), evento);
+            case ReservaAlterada e -> {
+                Chave anterior = new Chave(e.salaAnteriorId(), e.dataAnterior());
+                Chave atual = new Chave(e.salaId(), e.data());
+                notificar(atual, evento);
+                if (!anterior.equals(atual)) {
+                    porChave.getOrDefault(anterior, Set.of()).stream()
+                            .filter(a -> !a.chaves.contains(atual))
+                            .forEach(a -> a.receber(evento));
+                }
+            }
+            case ReservaCancelada e -> notificar(new Chave(e.salaId(), e.data()), evento);
+            case SalaAlterada e -> {
+            }
+            case SalaInativada e -> assinaturas.stream()
+                    .filter(a -> a.acompanhaSala(e.salaId()))
+                    .forEach(a -> a.receber(evento));
+        }
+    }
+
+    /**
+     * Despacha o envio do que as assinaturas acumularam, sem esperar por ele. Chamado a cada
+     * {@code facisa.stream.agrupamento}.
+     */
+    public void enviarPendentes() {
+        Assinatura assinatura;
+        while ((assinatura = comPendencias.poll()) != null) {
+            agendar(assinatura);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        agendamento.shutdownNow();
+        remetentes.shutdownNow();
+        assinaturas.forEach(a -> a.emitter.complete());
+    }
+
+    /** Sobrescrito nos testes para simular um cliente que não lê a resposta. */
+    SseEmitter criarEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void notificar(Chave chave, EventoDominio evento) {
+        Set<Assinatura> interessadas = porChave.get(chave);
+        if (interessadas != null) {
+            interessadas.forEach(a -> a.receber(evento));
+        }
+    }
+
+    /** Inicia a thread de envio da assinatura, se ela ainda não tiver uma em andamento. */
+    private void agendar(Assinatura assinatura) {
+        synchronized (assinatura) {
+            assinatura.envioSolicitado = true;
+            if (assinatura.enviando) {
+                return;
+            }
+            assinatura.enviando = true;
+            assinatura.enviandoDesde = System.nanoTime();
+            emEnvio.add(assinatura);
+        }
+        remetentes.execute(() -> enviarEmSequencia(assinatura));
+    }
+
+    /** Um envio de cada vez: um snapshot nunca chega depois de um delta mais novo. */
+    private void enviarEmSequencia(Assinatura assinatura) {
+        while (true) {
+            synchronized (assinatura) {
+                if (!assinatura.envioSolicitado || !assinaturas.contains(assinatura)) {
+                    assinatura.enviando = false;
+                    assinatura.remetente = null;
+                    emEnvio.remove(assinatura);
+                    return;
+                }
+                assinatura.envioSolicitado = false;
+                assinatura.enviandoDesde = System.nanoTime();
+                assinatura.remetente = Thread.currentThread();
+            }
+            enviar(assinatura);
+        }
+    }
+
+    /**
+     * Descarta as assinaturas cujo envio passou de {@code facisa.stream.timeout-escrita}. O emitter
+     * é encerrado numa thread virtual: {@link SseEmitter#complete()} espera a escrita travada.
+     */
+    private void descartarTravadas() {
+        long agora = System.nanoTime();
+        for (Assinatura assinatura : emEnvio) {
+            if (agora - assinatura.enviandoDesde <= timeoutEscritaNanos) {
+                continue;
+            }
+            emEnvio.remove(assinatura);
+            if (remover(assinatura)) {
+                log.info("Assinatura do stream descartada: envio sem resposta há mais de {} ms.",
+                        TimeUnit.NANOSECONDS.toMillis(timeoutEscritaNanos));
+                Thread remetente = assinatura.remetente;
+                if (remetente != null) {
+                    remetente.interrupt();
+                }
+                remetentes.execute(assinatura.emitter::complete);
+            }
+        }
+    }
+
+    private void enviar(Assinatura assinatura) {
+        boolean snapshot;
+        AlteracoesDisponibilidadeDTO delta;
+        boolean heartbeat;
+        long id;
+
+        synchronized (assinatura) {
+            assinatura.naFila.set(false);
+            snapshot = assinatura.snapshotPendente;
+            delta = snapshot ? null : assinatura.retirarDelta();
+            heartbeat = assinatura.heartbeatPendente;
+            // O que chegar daqui em diante vai num próximo envio, depois do snapshot.
+            assinatura.snapshotPendente = false;
+            assinatura.heartbeatPendente = false;
+            assinatura.pendentes.clear();
+            assinatura.salasInativadas.clear();
+            id = assinatura.ultimoId;
+        }
+
+        try {
+            if (snapshot) {
+                long checkpoint = diarioEventos.ultimaSequencia();
+                AlteracoesDisponibilidadeDTO conteudo = AlteracoesDisponibilidadeDTO.builder()
+                        .reservas(ativas(assinatura.chaves))
+                        .build();
+                synchronized (assinatura) {
+                    assinatura.ultimoId = Math.max(assinatura.ultimoId, checkpoint);
+                }
+                // O checkpoint, e não o último id recebido: os eventos posteriores a ele podem não
+                // estar no snapshot e vão no próximo delta, ou na reconexão.
+                assinatura.emitter.send(SseEmitter.event()
+                        .name(SNAPSHOT)
+                        .id(Long.toString(checkpoint))
+                        .data(conteudo, MediaType.APPLICATION_JSON));
+            } else if (delta != null) {
+                assinatura.emitter.send(SseEmitter.event()
+                        .name(DELTA)
+                        .id(Long.toString(id))
+                        .data(delta, MediaType.APPLICATION_JSON));
+            } else if (heartbeat) {
+                assinatura.emitter.send(SseEmitter.event().comment(""));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado ou emitter já encerrado: o container completa a requisição.
+            remover(assinatura);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao montar o envio de uma assinatura do stream; a conexão será encerrada.", e);
+            remover(assinatura);
+            assinatura.emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Mantém as conexões ociosas abertas em proxies que encerram conexões sem tráfego. Uma
+     * assinatura que já tem um evento a enviar não recebe o comentário.
+     */
+    private void enviarHeartbeat() {
+        for (Assinatura assinatura : assinaturas) {
+            synchronized (assinatura) {
+                assinatura.heartbeatPendente = true;
+            }
+            agendar(assinatura);
+        }
+    }
+
+    /**
+     * Reservas ativas das combinações: do índice quando ele cobre as datas, senão do banco
+     * principal, que já tem tudo o que o diário publicou.
+     */
+    private List<IntervaloDisponibilidadeDTO> ativas(Set<Chave> chaves) {
+        LocalDate primeira = chaves.stream().map(Chave::data).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate ultima = chaves.stream().map(Chave::data).max(Comparator.naturalOrder()).orElseThrow();
+
+        List<IntervaloDisponibilidadeDTO> reservas = new ArrayList<>();
+        if (indiceDisponibilidade.cobre(primeira, ultima)) {
+            for (Chave chave : chaves) {
+                for (IndiceDisponibilidade.Intervalo i : indiceDisponibilidade.doDia(chave.salaId(), chave.data())) {
+                    reservas.add(intervalo(i.reservaId(), chave.salaId(), chave.data(), i.inicio(), i.fim()));
+                }
+            }
+        } else {
+            Set<Long> salas = new HashSet<>();
+            chaves.forEach(chave -> salas.add(chave.salaId()));
+
+            List<IntervaloReservaDTO> doBanco = roteamentoLeitura.doPrincipal(() -> reservaRepository
+                    .findIntervalosPorSalasEPeriodo(salas, primeira, ultima, StatusReserva.ATIVA));
+            for (IntervaloReservaDTO r : doBanco) {
+                if (chaves.contains(new Chave(r.getSalaId(), r.getData()))) {
+                    reservas.add(intervalo(r.getReservaId(), r.getSalaId(), r.getData(), r.getHoraInicio(), r.getHoraFim()));
+                }
+            }
+        }
+
+        reservas.sort(Comparator.comparing(IntervaloDisponibilidadeDTO::getId));
+        return reservas;
+    }
+
+    private void registrar(Assinatura assinatura) {
+        assinaturas.add(assinatura);
+        assinatura.chaves.forEach(chave -> porChave.compute(chave, (c, atuais) -> {
+            Set<Assinatura> novas = atuais == null ? ConcurrentHashMap.newKeySet() : atuais;
+            novas.add(assinatura);
+            return novas;
+        }));
+    }
+
+    private boolean remover(Assinatura assinatura) {
+        if (!assinaturas.remove(assinatura)) {
+            return false;
+        }
+        assinatura.chaves.forEach(chave -> porChave.computeIfPresent(chave, (c, atuais) -> {
+            atuais.remove(assinatura);
+            return atuais.isEmpty() ? null : atuais;
+        }));
+        return true;
+    }
+
+    private static IntervaloDisponibilidadeDTO intervalo(Long reservaId, Long salaId, LocalDate data,
+                                                         LocalTime inicio, LocalTime fim) {
+        return IntervaloDisponibilidadeDTO.builder()
+                .id(reservaId)
+                .salaId(salaId)
+                .data(FormatoTemporal.formatarData(data))
+                .horaInicio(FormatoTemporal.formatarHora(inicio))
+                .horaFim(FormatoTemporal.formatarHora(fim))
+                .build();
+    }
+
+    private final class Assinatura {
+
+        final SseEmitter emitter;
+        final Set<Chave> chaves;
+
+        /** Marca se a assinatura já está em {@link #comPendencias}, para entrar na fila uma vez só. */
+        final AtomicBoolean naFila = new AtomicBoolean();
+
+        // Protegidos pelo monitor da assinatura.
+        final Map<Long, Pendente> pendentes = new HashMap<>();
+        final Set<Long> salasInativadas = new LinkedHashSet<>();
+        boolean snapshotPendente;
+        boolean heartbeatPendente;
+        long ultimoId;
+
+        // Também protegidos pelo monitor: no máximo uma thread envia para a assinatura.
+        boolean envioSolicitado;
+        boolean enviando;
+
+        // Lidos pela verificação de escritas travadas, fora do monitor.
+        volatile long enviandoDesde;
+        volatile Thread remetente;
+
+        Assinatura(SseEmitter emitter, Set<Chave> chaves) {
+            this.emitter = emitter;
+            this.chaves = Set.copyOf(chaves);
+        }
+
+        boolean acompanhaSala(Long salaId) {
+            return chaves.stream().anyMatch(chave -> chave.salaId().equals(salaId));
+        }
+
+        /** O mesmo critério de {@link StreamDisponibilidade#aplicar}, para os eventos reaplicados. */
+        boolean interessa(EventoDominio evento) {
+            return switch (evento) {
+                case ReservaCriada e -> chaves.contains(new Chave(e.salaId(), e.data()));
+                case ReservaAlterada e -> chaves.contains(new Chave(e.salaId(), e.data()))
+                        || chaves.contains(new Chave(e.salaAnteriorId(), e.dataAnterior()));
+                case ReservaCancelada e -> chaves.contains(new Chave(e.salaId(), e.data()));
+                case SalaAlterada e -> false;
+                case SalaInativada e -> acompanhaSala(e.salaId());
+            };
+        }
+
+        /** Chamado na thread que entrega os eventos do diário; não pode bloquear. */
+        void receber(EventoDominio evento) {
+            synchronized (this) {
+                acumular(evento);
+            }
+            enfileirar();
+        }
+
+        void enfileirar() {
+            if (naFila.compareAndSet(false, true)) {
+                comPendencias.add(this);
+            }
+        }
+
+        void acumular(EventoDominio evento) {
+            ultimoId = Math.max(ultimoId, evento.sequencia());
+            if (snapshotPendente) {
+                return;
+            }
+
+            switch (evento) {
+                case ReservaCriada e -> pendente(e.sequencia(), e.reservaId(),
+                        intervalo(e.reservaId(), e.salaId(), e.data(), e.horaInicio(), e.horaFim()));
+                case ReservaAlterada e -> pendente(e.sequencia(), e.reservaId(),
+                        chaves.contains(new Chave(e.salaId(), e.data()))
+                                ? intervalo(e.reservaId(), e.salaId(), e.data(), e.horaInicio(), e.horaFim())
+                                : null);
+                case ReservaCancelada e -> pendente(e.sequencia(), e.reservaId(), null);
+                case SalaAlterada e -> {
+                }
+                case SalaInativada e -> salasInativadas.add(e.salaId());
+            }
+
+            if (pendentes.size() + salasInativadas.size() > maximoPendentes) {
+                pendentes.clear();
+                salasInativadas.clear();
+                snapshotPendente = true;
+            }
+        }
+
+        /** Um evento reaplicado na reconexão pode chegar depois de outro mais novo da mesma reserva. */
+        private void pendente(long sequencia, Long reservaId, IntervaloDisponibilidadeDTO intervalo) {
+            pendentes.merge(reservaId, new Pendente(sequencia, intervalo),
+                    (atual, novo) -> novo.sequencia() >= atual.sequencia() ? novo : atual);
+        }
+
+        AlteracoesDisponibilidadeDTO retirarDelta() {
+            if (pendentes.isEmpty() && salasInativadas.isEmpty()) {
+                return null;
+            }
+
+            List<IntervaloDisponibilidadeDTO> reservas = new ArrayList<>();
+            List<Long> removidas = new ArrayList<>();
+            pendentes.forEach((reservaId, pendente) -> {
+                if (pendente.intervalo() != null) {
+                    reservas.add(pendente.intervalo());
+                } else {
+                    removidas.add(reservaId);
+                }
+            });
+            reservas.sort(Comparator.comparing(IntervaloDisponibilidadeDTO::getId));
+            removidas.sort(Comparator.naturalOrder());
+
+            return AlteracoesDisponibilidadeDTO.builder()
+                    .reservas(reservas)
+                    .removidas(removidas)
+                    .salasInativadas(List.copyOf(salasInativadas))
+                    .build();
+        }
+    }
+}
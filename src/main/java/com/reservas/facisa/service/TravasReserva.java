@@ -0,0 +1,123 @@
+package com.reservas.facisa.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.model.Reserva;
+
+/**
+ * Travas particionadas por (sala, data). A verificação de conflito e a gravação de reservas da mesma
+ * sala no mesmo dia ficam serializadas até o fim da transação, enquanto salas e dias diferentes
+ * seguem em paralelo (exceto colisões ocasionais na mesma partição).
+ */
+@Component
+public class TravasReserva {
+
+    private static final int PARTICOES_PADRAO = 1024;
+    private static final Duration ESPERA_PADRAO = Duration.ofSeconds(5);
+
+    private final ReentrantLock[] travas;
+    private final long esperaNanos;
+
+    public TravasReserva() {
+        this(PARTICOES_PADRAO, ESPERA_PADRAO);
+    }
+
+    TravasReserva(int particoes, Duration espera) {
+        if (Integer.bitCount(particoes) != 1) {
+            throw new IllegalArgumentException("A quantidade de partições deve ser uma potência de 2.");
+        }
+
+        this.travas = new ReentrantLock[particoes];
+        for (int i = 0; i < particoes; i++) {
+            travas[i] = new ReentrantLock();
+        }
+        this.esperaNanos = espera.toNanos();
+    }
+
+    /**
+     * Adquire a trava de (sala, data) e a mantém até o commit ou rollback da transação atual.
+     * Fora de uma transação não há gravação a proteger e a chamada não bloqueia.
+     */
+    public void travarAteConcluirTransacao(Long salaId, LocalDate data) {
+        travarParticoes(new int[] {particao(salaId, data)});
+    }
+
+    /**
+     * Adquire as travas da posição anterior e da nova posição de uma reserva que está sendo
+     * alterada, na mesma ordem crescente de partição usada para lotes.
+     */
+    public void travarAteConcluirTransacao(Long salaAnteriorId, LocalDate dataAnterior, Long salaId, LocalDate data) {
+        travarParticoes(IntStream.of(particao(salaAnteriorId, dataAnterior), particao(salaId, data))
+                .distinct()
+                .sorted()
+                .toArray());
+    }
+
+    /**
+     * Adquire, em ordem crescente de partição para evitar deadlock, as travas de todas as
+     * combinações de sala e data das reservas informadas.
+     */
+    public void travarAteConcluirTransacao(Collection<Reserva> reservas) {
+        travarParticoes(reservas.stream()
+                .mapToInt(r -> particao(r.getSala().getId(), r.getData()))
+                .distinct()
+                .sorted()
+                .toArray());
+    }
+
+    private void travarParticoes(int[] particoes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        List<ReentrantLock> adquiridas = new ArrayList<>(particoes.length);
+        try {
+            for (int particao : particoes) {
+                ReentrantLock trava = travas[particao];
+                if (!trava.tryLock(esperaNanos, TimeUnit.NANOSECONDS)) {
+                    liberar(adquiridas);
+                    throw new RegraNegocioException(CategoriaRegra.CONCORRENCIA,
+                            "A sala está sendo reservada por outra solicitação. Tente novamente.");
+                }
+                adquiridas.add(trava);
+            }
+        } catch (InterruptedException e) {
+            liberar(adquiridas);
+            Thread.currentThread().interrupt();
+            throw new RegraNegocioException(CategoriaRegra.CONCORRENCIA,
+                    "A reserva foi interrompida. Tente novamente.", e);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                liberar(adquiridas);
+            }
+        });
+    }
+
+    private static void liberar(List<ReentrantLock> travas) {
+        for (int i = travas.size() - 1; i >= 0; i--) {
+            travas.get(i).unlock();
+        }
+    }
+
+    private int particao(Long salaId, LocalDate data) {
+        int hash = 31 * salaId.hashCode() + data.hashCode();
+        hash ^= (hash >>> 16);
+        return hash & (travas.length - 1);
+    }
+}
@@ -1,35 +1,48 @@
 package com.reservas.facisa.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reservas.facisa.dto.PaginaDTO;
 import com.reservas.facisa.dto.UsuarioRequestDTO;
 import com.reservas.facisa.dto.UsuarioResponseDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
 import com.reservas.facisa.exception.RegraNegocioException;
 import com.reservas.facisa.exception.RecursoNaoEncontradoException;
 import com.reservas.facisa.mapper.UsuarioMapper;
 import com.reservas.facisa.model.Usuario;
 import com.reservas.facisa.repository.UsuarioRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("facisa.servico")
 public class UsuarioService {
 
     private final UsuarioRepository usuarioRepository;
     private final UsuarioMapper usuarioMapper;
+    private final VersoesConsulta versoesConsulta;
 
-    public UsuarioService(UsuarioRepository usuarioRepository, UsuarioMapper usuarioMapper) {
+    public UsuarioService(UsuarioRepository usuarioRepository,
+                          UsuarioMapper usuarioMapper,
+                          VersoesConsulta versoesConsulta) {
         this.usuarioRepository = usuarioRepository;
         this.usuarioMapper = usuarioMapper;
+        this.versoesConsulta = versoesConsulta;
     }
 
     @Transactional
     public UsuarioResponseDTO criar(UsuarioRequestDTO dto) {
 
         if (usuarioRepository.existsByEmailIgnoreCase(dto.getEmail())) {
-            throw new RegraNegocioException("Já existe um usuário com esse e-mail.");
+            throw new RegraNegocioException(CategoriaRegra.DUPLICIDADE, "Já existe um usuário com esse e-mail.");
         }
 
         Usuario usuario = usuarioMapper.toEntity(dto);
@@ -38,13 +51,17 @@ public class UsuarioService {
         return usuarioMapper.toResponse(usuario);
     }
 
-    public List<UsuarioResponseDTO> listar() {
-        return usuarioRepository.findAll()
-                .stream()
-                .map(usuarioMapper::toResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PaginaDTO<UsuarioResponseDTO> listarPagina(String cursor, int tamanho) {
+        Long ultimoId = cursor == null ? 0L : CursorPaginacao.decodificarId(cursor);
+
+        List<Usuario> usuarios = usuarioRepository.findByIdGreaterThanOrderByIdAsc(ultimoId, Limit.of(tamanho + 1));
+
+        return CursorPaginacao.montarPagina(usuarios, tamanho, usuarioMapper::toResponse,
+                u -> CursorPaginacao.codificar(u.getId()));
     }
 
+    @Transactional(readOnly = true)
     public UsuarioResponseDTO buscarPorId(Long id) {
         Usuario usuario = usuarioRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Usuário não encontrado."));
@@ -58,11 +75,12 @@ public class UsuarioService {
 
         if (!usuario.getEmail().equalsIgnoreCase(dto.getEmail()) &&
             usuarioRepository.existsByEmailIgnoreCase(dto.getEmail())) {
-            throw new RegraNegocioException("Já existe outro usuário com esse e-mail.");
+            throw new RegraNegocioException(CategoriaRegra.DUPLICIDADE, "Já existe outro usuário com esse e-mail.");
         }
 
         usuarioMapper.updateEntityFromDto(dto, usuario);
         usuarioRepository.save(usuario);
+        versoesConsulta.usuarioAlterado();
 
         return usuarioMapper.toResponse(usuario);
     }
@@ -73,10 +91,17 @@ public class UsuarioService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Usuário não encontrado."));
 
         usuarioRepository.delete(usuario);
+        versoesConsulta.usuarioAlterado();
     }
 
     public Usuario buscarEntityPorId(Long id) {
         return usuarioRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Usuário não encontrado."));
     }
+
+    public Map<Long, Usuario> buscarEntitiesPorIds(Collection<Long> ids) {
+        return usuarioRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Usuario::getId, Function.identity()));
+    }
 }
@@ -0,0 +1,35 @@
+package com.reservas.facisa.service;
+
+import org.springframework.stereotype.Component;
+
+import com.reservas.facisa.dto.VerificacaoIndiceDTO;
+
+/**
+ * Confere o {@link IndiceDisponibilidade} contra o banco, reconstrói as combinações de sala e data
+ * divergentes e conta as divergências em {@code facisa.indice.divergencias}. Chamada pelo
+ * agendamento de {@link com.reservas.facisa.config.VerificacaoIndiceConfig} e por
+ * {@code POST /admin/indice/verificacao}.
+ */
+@Component
+public class VerificacaoIndiceDisponibilidade {
+
+    private final IndiceDisponibilidade indiceDisponibilidade;
+    private final MetricasNegocio metricasNegocio;
+
+    public VerificacaoIndiceDisponibilidade(IndiceDisponibilidade indiceDisponibilidade,
+                                            MetricasNegocio metricasNegocio) {
+        this.indiceDisponibilidade = indiceDisponibilidade;
+        this.metricasNegocio = metricasNegocio;
+    }
+
+    public VerificacaoIndiceDTO verificar() {
+        long inicio = System.nanoTime();
+        int divergentes = indiceDisponibilidade.verificarConsistencia();
+        metricasNegocio.registrarDivergencias(divergentes);
+
+        return VerificacaoIndiceDTO.builder()
+                .divergentes(divergentes)
+                .duracaoMs((System.nanoTime() - inicio) / 1_000_000)
+                .build();
+    }
+}
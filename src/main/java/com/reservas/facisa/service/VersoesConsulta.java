@@ -0,0 +1,95 @@
+package com.reservas.facisa.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Contadores de versão das consultas de salas e reservas, usados como ETag forte nos endpoints de
+ * leitura. Cada gravação incrementa os contadores que afeta depois do commit, então a ETag pode ser
+ * comparada com {@code If-None-Match} antes de qualquer acesso ao banco. A geração, fixada na
+ * inicialização, impede que uma ETag anterior a um restart coincida com os contadores zerados.
+ */
+@Component
+public class VersoesConsulta {
+
+    private final String geracao = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong catalogoSalas = new AtomicLong();
+    private final AtomicLong usuarios = new AtomicLong();
+    private final ConcurrentHashMap<Long, Versoes> porSala = new ConcurrentHashMap<>();
+
+    private static final class Versoes {
+        final AtomicLong sala = new AtomicLong();
+        final AtomicLong reservas = new AtomicLong();
+    }
+
+    private static final Versoes INICIAIS = new Versoes();
+
+    /** ETag das páginas de {@code GET /salas}. */
+    public String etagCatalogoSalas() {
+        return "\"" + geracao + "-c" + catalogoSalas.get() + "\"";
+    }
+
+    /** ETag de {@code GET /salas/{id}}. */
+    public String etagSala(Long salaId) {
+        return "\"" + geracao + "-s" + salaId + "-" + consultar(salaId).sala.get() + "\"";
+    }
+
+    /**
+     * ETag das reservas de uma sala. A resposta traz os nomes da sala e dos usuários, então muda
+     * também quando eles mudam.
+     */
+    public String etagReservasDaSala(Long salaId) {
+        Versoes versoes = consultar(salaId);
+        return "\"" + geracao + "-r" + salaId + "-" + versoes.sala.get() + "-" + versoes.reservas.get()
+                + "-" + usuarios.get() + "\"";
+    }
+
+    public void salaAlterada(Long salaId) {
+        aposCommit(() -> {
+            versoes(salaId).sala.incrementAndGet();
+            catalogoSalas.incrementAndGet();
+        });
+    }
+
+    public void reservasAlteradas(Long salaId) {
+        aposCommit(() -> versoes(salaId).reservas.incrementAndGet());
+    }
+
+    public void reservasAlteradas(Collection<Long> salaIds) {
+        List<Long> copia = List.copyOf(salaIds);
+        aposCommit(() -> copia.forEach(salaId -> versoes(salaId).reservas.incrementAndGet()));
+    }
+
+    public void usuarioAlterado() {
+        aposCommit(usuarios::incrementAndGet);
+    }
+
+    /** Não cria entrada: ids consultados que nunca foram alterados não ocupam memória. */
+    private Versoes consultar(Long salaId) {
+        return porSala.getOrDefault(salaId, INICIAIS);
+    }
+
+    private Versoes versoes(Long salaId) {
+        return porSala.computeIfAbsent(salaId, id -> new Versoes());
+    }
+
+    private static void aposCommit(Runnable op) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    op.run();
+                }
+            });
+        } else {
+            op.run();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+CREATE TABLE usuarios (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email VARCHAR(150) NOT NULL,
+    nome VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_usuario_email UNIQUE (email)
+);
+
+CREATE TABLE salas (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    capacidade INTEGER NOT NULL,
+    nome VARCHAR(100) NOT NULL,
+    status ENUM ('ATIVA', 'INATIVA') NOT NULL,
+    tipo ENUM ('AUDITORIO', 'LABORATORIO', 'OUTRO', 'SALA_AULA') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_sala_nome UNIQUE (nome)
+);
+
+CREATE TABLE reservas (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    atualizado_em TIMESTAMP(6),
+    criado_em TIMESTAMP(6) NOT NULL,
+    data_reserva DATE NOT NULL,
+    hora_fim TIME(0) NOT NULL,
+    hora_inicio TIME(0) NOT NULL,
+    motivo VARCHAR(255) NOT NULL,
+    status ENUM ('ATIVA', 'CANCELADA') NOT NULL,
+    sala_id BIGINT NOT NULL,
+    usuario_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reserva_sala FOREIGN KEY (sala_id) REFERENCES salas (id),
+    CONSTRAINT fk_reserva_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id)
+);
+
+CREATE INDEX idx_reserva_sala_data_status_inicio ON reservas (sala_id, data_reserva, status, hora_inicio);
+
+CREATE INDEX idx_reserva_usuario_data ON reservas (usuario_id, data_reserva);
+
+CREATE INDEX idx_reserva_status_data ON reservas (status, data_reserva);
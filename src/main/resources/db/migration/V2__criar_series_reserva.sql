@@ -0,0 +1,30 @@
+CREATE TABLE series_reserva (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    atualizado_em TIMESTAMP(6),
+    criado_em TIMESTAMP(6) NOT NULL,
+    data_fim DATE NOT NULL,
+    data_inicio DATE NOT NULL,
+    hora_fim TIME(0) NOT NULL,
+    hora_inicio TIME(0) NOT NULL,
+    intervalo_semanas INTEGER NOT NULL,
+    motivo VARCHAR(255) NOT NULL,
+    status ENUM ('ATIVA', 'CANCELADA') NOT NULL,
+    sala_id BIGINT NOT NULL,
+    usuario_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_serie_sala FOREIGN KEY (sala_id) REFERENCES salas (id),
+    CONSTRAINT fk_serie_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id)
+);
+
+CREATE TABLE series_reserva_excecoes (
+    serie_id BIGINT NOT NULL,
+    data_excecao DATE NOT NULL,
+    PRIMARY KEY (serie_id, data_excecao),
+    CONSTRAINT fk_excecao_serie FOREIGN KEY (serie_id) REFERENCES series_reserva (id)
+);
+
+ALTER TABLE reservas ADD COLUMN serie_id BIGINT;
+
+ALTER TABLE reservas ADD CONSTRAINT fk_reserva_serie FOREIGN KEY (serie_id) REFERENCES series_reserva (id);
+
+CREATE INDEX idx_reserva_serie_data ON reservas (serie_id, data_reserva);
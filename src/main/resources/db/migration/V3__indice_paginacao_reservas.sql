@@ -0,0 +1 @@
+CREATE INDEX idx_reserva_data_inicio_id ON reservas (data_reserva, hora_inicio, id);
@@ -0,0 +1,24 @@
+-- Identificadores passam a vir de sequências com incremento 50: o Hibernate reserva um bloco de
+-- ids por chamada (otimizador pooled-lo) e consegue agrupar os INSERTs em lotes JDBC.
+-- Cada sequência recomeça depois do maior id já gravado, e o default da coluna passa a usá-la,
+-- então INSERTs feitos fora do Hibernate não colidem com os blocos reservados.
+
+CREATE SEQUENCE usuarios_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE usuarios_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM usuarios);
+ALTER TABLE usuarios ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE usuarios ALTER COLUMN id SET DEFAULT NEXT VALUE FOR usuarios_seq;
+
+CREATE SEQUENCE salas_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE salas_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM salas);
+ALTER TABLE salas ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE salas ALTER COLUMN id SET DEFAULT NEXT VALUE FOR salas_seq;
+
+CREATE SEQUENCE series_reserva_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE series_reserva_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM series_reserva);
+ALTER TABLE series_reserva ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE series_reserva ALTER COLUMN id SET DEFAULT NEXT VALUE FOR series_reserva_seq;
+
+CREATE SEQUENCE reservas_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE reservas_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM reservas);
+ALTER TABLE reservas ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE reservas ALTER COLUMN id SET DEFAULT NEXT VALUE FOR reservas_seq;
@@ -0,0 +1,188 @@
+package com.reservas.facisa.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.FacisaApplication;
+
+/**
+ * Reinicia a aplicação no perfil {@code persistente} sobre um H2 em arquivo já populado e compara a
+ * inicialização com e sem o aquecimento ({@code facisa.aquecimento.habilitado}): tempo até o
+ * {@code run} retornar, que inclui a carga, e a latência das primeiras requisições de leitura.
+ * Cada comando SQL espera {@code facisa.latencia-sql-ms}, como em um banco remoto. Os modos se
+ * alternam por {@code benchmark.rodadas} rodadas, para que o JIT da primeira não favoreça um deles;
+ * vale a última rodada de cada modo.
+ *
+ * <p>Parâmetros (propriedades de sistema): {@code benchmark.rodadas}, {@code benchmark.requisicoes}
+ * e {@code facisa.latencia-sql-ms}.
+ */
+@Tag("benchmark")
+class AquecimentoBenchmarkTest {
+
+    private static final int RODADAS = Integer.getInteger("benchmark.rodadas", 3);
+    private static final int REQUISICOES = Integer.getInteger("benchmark.requisicoes", 30);
+    private static final long LATENCIA_SQL_MS = Long.getLong("facisa.latencia-sql-ms", 2);
+
+    private static final int SALAS = 200;
+    private static final int USUARIOS = 50;
+    private static final LocalDate PRIMEIRO_DIA = LocalDate.now().plusDays(1);
+    private static final int DIAS = 120;
+
+    @TempDir
+    Path dados;
+
+    @Test
+    void compararInicializacaoComESemAquecimento() throws Exception {
+        System.setProperty("facisa.latencia-sql-ms", Long.toString(LATENCIA_SQL_MS));
+
+        int reservas;
+        try (ConfigurableApplicationContext contexto = iniciar(false)) {
+            reservas = popular(contexto.getBean(JdbcTemplate.class));
+        }
+
+        Resultado frio = null;
+        Resultado aquecido = null;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            frio = executar(false, reservas);
+            aquecido = executar(true, reservas);
+        }
+
+        System.out.printf("%n%d salas, %d reservas em %d dias, latência SQL=%d ms, %d primeiras requisições, arquivo=%d KB%n",
+                SALAS, reservas, DIAS, LATENCIA_SQL_MS, REQUISICOES, tamanhoDados() / 1024);
+        System.out.printf("%-10s | %14s | %12s | %8s | %8s | %8s%n",
+                "modo", "inicializ. ms", "1ª req. ms", "p50 ms", "máx ms", "total ms");
+        frio.imprimir("sem carga");
+        aquecido.imprimir("aquecido");
+    }
+
+    private Resultado executar(boolean aquecimento, int reservasEsperadas) throws Exception {
+        long inicio = System.nanoTime();
+        ConfigurableApplicationContext contexto = iniciar(aquecimento);
+        Resultado resultado = new Resultado((System.nanoTime() - inicio) / 1_000_000.0);
+
+        try {
+            assertEquals(reservasEsperadas, contexto.getBean(JdbcTemplate.class)
+                    .queryForObject("SELECT COUNT(*) FROM reservas", Integer.class), "Reservas perdidas no reinício");
+
+            String base = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+            try (HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+                for (int i = 0; i < REQUISICOES; i++) {
+                    HttpRequest requisicao = HttpRequest.newBuilder(URI.create(base + caminho(i))).GET().build();
+                    long antes = System.nanoTime();
+                    HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                    resultado.latencias[i] = System.nanoTime() - antes;
+                    assertEquals(200, resposta.statusCode(), caminho(i));
+                }
+            }
+            return resultado;
+        } finally {
+            contexto.close();
+        }
+    }
+
+    /** Alterna salas livres, reservas de uma sala no dia e primeiros horários, sempre em datas diferentes. */
+    private static String caminho(int i) {
+        LocalDate data = PRIMEIRO_DIA.plusDays(i * 7L % DIAS);
+        return switch (i % 3) {
+            case 0 -> "/salas/disponiveis?data=" + data + "&hora_inicio=09:00&hora_fim=11:00&capacidade_minima=30";
+            case 1 -> "/reservas?sala_id=" + (1 + i * 13 % SALAS) + "&data=" + data;
+            default -> "/salas/horarios-livres?duracao_minutos=60&data_inicial=" + data
+                    + "&data_final=" + data.plusDays(6);
+        };
+    }
+
+    private ConfigurableApplicationContext iniciar(boolean aquecimento) {
+        return new SpringApplicationBuilder(FacisaApplication.class)
+                .logStartupInfo(false)
+                .run("--server.port=0",
+                        "--spring.profiles.active=persistente",
+                        "--FACISA_DADOS=" + dados,
+                        "--facisa.aquecimento.habilitado=" + aquecimento,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector=com.reservas.facisa.support.LatenciaSql",
+                        "--spring.devtools.restart.enabled=false",
+                        "--spring.devtools.livereload.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+    }
+
+    private int popular(JdbcTemplate jdbcTemplate) {
+        List<Object[]> usuarios = new ArrayList<>();
+        for (long id = 1; id <= USUARIOS; id++) {
+            usuarios.add(new Object[] {id, "Usuário " + id, "usuario" + id + "@facisa.edu"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO usuarios (id, nome, email) VALUES (?, ?, ?)", usuarios);
+
+        List<Object[]> salas = new ArrayList<>();
+        for (long id = 1; id <= SALAS; id++) {
+            salas.add(new Object[] {id, "Sala " + id, 20 + (int) (id % 5) * 10});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', ?, 'ATIVA')",
+                salas);
+
+        List<Object[]> reservas = new ArrayList<>();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (long salaId = 1; salaId <= SALAS; salaId++) {
+            for (int dia = 0; dia < DIAS; dia++) {
+                LocalTime inicio = LocalTime.of(8 + (int) (salaId + dia) % 10, 0);
+                reservas.add(new Object[] {
+                        1 + salaId % USUARIOS, salaId, Date.valueOf(PRIMEIRO_DIA.plusDays(dia)),
+                        Time.valueOf(inicio), Time.valueOf(inicio.plusHours(2)), agora
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (?, ?, ?, ?, ?, 'Benchmark', 'ATIVA', ?)
+                """, reservas);
+        return reservas.size();
+    }
+
+    private long tamanhoDados() throws Exception {
+        try (var arquivos = Files.list(dados)) {
+            return arquivos.mapToLong(arquivo -> arquivo.toFile().length()).sum();
+        }
+    }
+
+    private static class Resultado {
+        private final double inicializacaoMs;
+        private final long[] latencias = new long[REQUISICOES];
+
+        private Resultado(double inicializacaoMs) {
+            this.inicializacaoMs = inicializacaoMs;
+        }
+
+        private void imprimir(String modo) {
+            long[] ordenadas = latencias.clone();
+            Arrays.sort(ordenadas);
+
+            System.out.printf("%-10s | %14.0f | %12.1f | %8.1f | %8.1f | %8.1f%n",
+                    modo, inicializacaoMs, latencias[0] / 1_000_000.0,
+                    ordenadas[ordenadas.length / 2] / 1_000_000.0,
+                    ordenadas[ordenadas.length - 1] / 1_000_000.0,
+                    Arrays.stream(latencias).sum() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.reservas.facisa.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.service.ExportacaoReservaService;
+import com.reservas.facisa.service.FormatoExportacao;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark_exportacao",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class ExportacaoReservasBenchmarkTest {
+
+    private static final int[] QUANTIDADES_RESERVAS = {100_000, 1_000_000};
+    private static final int SALAS = 500;
+    private static final LocalDate PRIMEIRO_DIA = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExportacaoReservaService exportacaoReservaService;
+
+    @Test
+    void medirVazaoEHeapDaExportacao() throws Exception {
+        System.out.printf("%n%-10s | %-7s | %-10s | %-12s | %-9s | %-22s%n",
+                "reservas", "formato", "tempo (s)", "linhas/s", "MB/s", "pico da geração antiga acima da base (MB)");
+
+        int inseridas = 0;
+        for (int quantidade : QUANTIDADES_RESERVAS) {
+            inseridas = popularAte(inseridas, quantidade);
+            LocalDate ultimoDia = PRIMEIRO_DIA.plusDays(quantidade / (SALAS * 10) + 1);
+
+            for (FormatoExportacao formato : FormatoExportacao.values()) {
+                ContadorBytes saida = new ContadorBytes();
+                MedidorHeap medidor = new MedidorHeap();
+
+                long inicio = System.nanoTime();
+                long linhas = exportacaoReservaService.exportar(PRIMEIRO_DIA, ultimoDia, formato, saida);
+                double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+                long picoHeap = medidor.encerrar();
+
+                assertEquals(quantidade, linhas);
+                System.out.printf("%-10d | %-7s | %10.2f | %12.0f | %9.1f | %22.1f%n",
+                        quantidade, formato, segundos, linhas / segundos,
+                        saida.bytes / segundos / (1024 * 1024), picoHeap / (1024.0 * 1024));
+            }
+        }
+    }
+
+    private int popularAte(int inseridas, int quantidade) {
+        if (inseridas == 0) {
+            jdbcTemplate.update("INSERT INTO usuarios (id, nome, email) VALUES (1, 'Benchmark', 'benchmark@facisa.edu')");
+            List<Object[]> salas = new ArrayList<>(SALAS);
+            for (long id = 1; id <= SALAS; id++) {
+                salas.add(new Object[] {id, "Sala " + id});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', 40, 'ATIVA')", salas);
+        }
+
+        // Dez reservas de uma hora por sala e dia, das 8h às 18h.
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> lote = new ArrayList<>(10_000);
+        for (int i = inseridas; i < quantidade; i++) {
+            LocalTime inicio = LocalTime.of(8 + i % 10, 0);
+            lote.add(new Object[] {
+                    i + 1L, 1L + (i / 10) % SALAS, Date.valueOf(PRIMEIRO_DIA.plusDays(i / (SALAS * 10))),
+                    Time.valueOf(inicio), Time.valueOf(inicio.plusHours(1)), agora
+            });
+            if (lote.size() == 10_000) {
+                inserir(lote);
+            }
+        }
+        inserir(lote);
+        return quantidade;
+    }
+
+    private void inserir(List<Object[]> lote) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (id, usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (?, 1, ?, ?, ?, ?, 'Aula regular', 'ATIVA', ?)
+                """, lote);
+        lote.clear();
+    }
+
+    private static class ContadorBytes extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    private static class MedidorHeap {
+
+        private final MemoryPoolMXBean geracaoAntiga = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(p -> p.getType() == MemoryType.HEAP
+                        && (p.getName().contains("Old") || p.getName().contains("Tenured")))
+                .findFirst()
+                .orElseThrow();
+        private final AtomicBoolean ativo = new AtomicBoolean(true);
+        private final AtomicLong pico = new AtomicLong();
+        private final long base;
+        private final Thread amostrador;
+
+        MedidorHeap() {
+            System.gc();
+            base = geracaoAntiga.getUsage().getUsed();
+            amostrador = Thread.ofPlatform().daemon().start(() -> {
+                while (ativo.get()) {
+                    pico.accumulateAndGet(geracaoAntiga.getUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        long encerrar() throws InterruptedException {
+            ativo.set(false);
+            amostrador.join();
+            return Math.max(0, pico.get() - base);
+        }
+    }
+}
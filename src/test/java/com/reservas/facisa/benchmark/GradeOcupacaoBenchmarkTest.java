@@ -0,0 +1,142 @@
+package com.reservas.facisa.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.service.IndiceDisponibilidade;
+
+/**
+ * Mede {@code GET /salas/ocupacao} para 500 salas × 7 dias, com oito reservas por sala e dia,
+ * e compara com o painel atual, que chama {@code GET /reservas?sala_id=&data=} uma vez por sala e dia.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark_grade_ocupacao",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class GradeOcupacaoBenchmarkTest {
+
+    private static final int SALAS = 500;
+    private static final int DIAS = 7;
+    private static final int RESERVAS_POR_DIA = 8;
+    private static final double LIMITE_P50_MS = 50;
+
+    private static final LocalDate SEGUNDA = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IndiceDisponibilidade indiceDisponibilidade;
+
+    @Test
+    void gradeDaSemanaDeveResponderEmMenosDe50ms() throws Exception {
+        popular();
+
+        HttpClient cliente = HttpClient.newHttpClient();
+        String base = "http://localhost:" + porta;
+        HttpRequest grade = HttpRequest.newBuilder(URI.create(base + "/salas/ocupacao?data_inicial=" + SEGUNDA
+                + "&data_final=" + SEGUNDA.plusDays(DIAS - 1))).build();
+
+        HttpResponse<byte[]> resposta = cliente.send(grade, HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, resposta.statusCode());
+        int bytes = resposta.body().length;
+
+        double[] tempoGrade = medir(40, 30, () -> cliente.send(grade, HttpResponse.BodyHandlers.ofByteArray()));
+
+        double[] porSalaEDia = medir(1, 3, () -> {
+            for (long salaId = 1; salaId <= SALAS; salaId++) {
+                for (int dia = 0; dia < DIAS; dia++) {
+                    cliente.send(HttpRequest.newBuilder(URI.create(base + "/reservas?sala_id=" + salaId
+                            + "&data=" + SEGUNDA.plusDays(dia))).build(), HttpResponse.BodyHandlers.ofByteArray());
+                }
+            }
+        });
+
+        System.out.printf("%n%-36s | %-20s%n", "estratégia (" + SALAS + " salas × " + DIAS + " dias)", "p50 / p95 ms");
+        System.out.printf("%-36s | %8.2f / %-9.2f%n", "GET /salas/ocupacao (" + bytes + " bytes)", tempoGrade[0], tempoGrade[1]);
+        System.out.printf("%-36s | %8.2f / %-9.2f%n", "GET /reservas por sala e dia", porSalaEDia[0], porSalaEDia[1]);
+
+        assertTrue(tempoGrade[0] < LIMITE_P50_MS,
+                () -> "p50 da grade acima de " + LIMITE_P50_MS + " ms: " + tempoGrade[0]);
+    }
+
+    private double[] medir(int aquecimento, int iteracoes, Requisicao requisicao) throws Exception {
+        for (int i = 0; i < aquecimento; i++) {
+            requisicao.executar();
+        }
+
+        double[] tempos = new double[iteracoes];
+        for (int i = 0; i < iteracoes; i++) {
+            long inicio = System.nanoTime();
+            requisicao.executar();
+            tempos[i] = (System.nanoTime() - inicio) / 1_000_000.0;
+        }
+
+        Arrays.sort(tempos);
+        return new double[] {tempos[iteracoes / 2], tempos[(int) Math.ceil(iteracoes * 0.95) - 1]};
+    }
+
+    private void popular() {
+        jdbcTemplate.update("INSERT INTO usuarios (id, nome, email) VALUES (1, 'Benchmark', 'benchmark@facisa.edu')");
+
+        List<Object[]> salas = new ArrayList<>(SALAS);
+        for (long id = 1; id <= SALAS; id++) {
+            salas.add(new Object[] {id, "Sala " + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', 40, 'ATIVA')", salas);
+
+        // Oito aulas de 1h30 por dia, deslocadas por sala; um décimo delas cancelado.
+        List<Object[]> reservas = new ArrayList<>(SALAS * DIAS * RESERVAS_POR_DIA);
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (long salaId = 1; salaId <= SALAS; salaId++) {
+            for (int dia = 0; dia < DIAS; dia++) {
+                for (int aula = 0; aula < RESERVAS_POR_DIA; aula++) {
+                    LocalTime inicio = LocalTime.of(7, 0).plusMinutes(aula * 120L + salaId % 4 * 10);
+                    String status = reservas.size() % 10 == 0 ? "CANCELADA" : "ATIVA";
+                    reservas.add(new Object[] {
+                            salaId, Date.valueOf(SEGUNDA.plusDays(dia)), Time.valueOf(inicio),
+                            Time.valueOf(inicio.plusMinutes(90)), status, agora
+                    });
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (1, ?, ?, ?, ?, 'Benchmark', ?, ?)
+                """, reservas);
+
+        jdbcTemplate.execute("ANALYZE");
+        indiceDisponibilidade.reconstruir();
+    }
+
+    @FunctionalInterface
+    private interface Requisicao {
+        void executar() throws Exception;
+    }
+}
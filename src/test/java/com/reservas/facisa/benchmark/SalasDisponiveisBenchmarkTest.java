@@ -0,0 +1,135 @@
+package com.reservas.facisa.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SalaRepository;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark_salas_disponiveis",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class SalasDisponiveisBenchmarkTest {
+
+    private static final int[] QUANTIDADES_SALAS = {10, 100, 1_000, 10_000};
+
+    private static final LocalDate DATA = LocalDate.now().plusDays(7);
+    private static final LocalTime INICIO = LocalTime.of(10, 0);
+    private static final LocalTime FIM = LocalTime.of(12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SalaRepository salaRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Test
+    void compararLatenciaPorQuantidadeDeSalas() {
+        System.out.printf("%n%-8s | %-26s | %-26s%n", "salas", "loop por sala (p50/p95 ms)", "anti-join (p50/p95 ms)");
+
+        for (int quantidade : QUANTIDADES_SALAS) {
+            popular(quantidade);
+
+            int iteracoes = quantidade >= 10_000 ? 5 : 30;
+
+            IntSupplier loopPorSala = () -> {
+                int livres = 0;
+                for (Sala sala : salaRepository.findByStatus(StatusSala.ATIVA)) {
+                    if (reservaRepository.findReservasConflitantes(
+                            sala.getId(), DATA, INICIO, FIM, StatusReserva.ATIVA).isEmpty()) {
+                        livres++;
+                    }
+                }
+                return livres;
+            };
+
+            IntSupplier antiJoin = () -> reservaRepository
+                    .findSalasDisponiveis(DATA, INICIO, FIM, null, 0, StatusSala.ATIVA, StatusReserva.ATIVA)
+                    .size();
+
+            assertEquals(loopPorSala.getAsInt(), antiJoin.getAsInt());
+
+            double[] loop = medir(loopPorSala, iteracoes);
+            double[] conjunto = medir(antiJoin, iteracoes);
+
+            System.out.printf("%-8d | %10.2f / %-13.2f | %10.2f / %-13.2f%n",
+                    quantidade, loop[0], loop[1], conjunto[0], conjunto[1]);
+        }
+    }
+
+    private double[] medir(IntSupplier consulta, int iteracoes) {
+        for (int i = 0; i < Math.max(3, iteracoes / 5); i++) {
+            consulta.getAsInt();
+        }
+
+        double[] tempos = new double[iteracoes];
+        for (int i = 0; i < iteracoes; i++) {
+            long inicio = System.nanoTime();
+            consulta.getAsInt();
+            tempos[i] = (System.nanoTime() - inicio) / 1_000_000.0;
+        }
+
+        Arrays.sort(tempos);
+        return new double[] {tempos[iteracoes / 2], tempos[(int) Math.ceil(iteracoes * 0.95) - 1]};
+    }
+
+    private void popular(int quantidadeSalas) {
+        jdbcTemplate.update("DELETE FROM reservas");
+        jdbcTemplate.update("DELETE FROM salas");
+        jdbcTemplate.update("DELETE FROM usuarios");
+
+        jdbcTemplate.update("INSERT INTO usuarios (id, nome, email) VALUES (1, 'Benchmark', 'benchmark@facisa.edu')");
+
+        List<Object[]> salas = new ArrayList<>(quantidadeSalas);
+        for (long id = 1; id <= quantidadeSalas; id++) {
+            String status = id % 10 == 0 ? "INATIVA" : "ATIVA";
+            salas.add(new Object[] {id, "Sala " + id, "SALA_AULA", 40, status});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, ?, ?, ?)", salas);
+
+        // Um terço das salas fica ocupado na janela consultada; as demais têm reservas em outros horários.
+        List<Object[]> reservas = new ArrayList<>(quantidadeSalas * 3);
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        long reservaId = 1;
+        for (long salaId = 1; salaId <= quantidadeSalas; salaId++) {
+            reservas.add(reserva(reservaId++, salaId, DATA, LocalTime.of(8, 0), LocalTime.of(9, 30), agora));
+            reservas.add(reserva(reservaId++, salaId, DATA.plusDays(1), INICIO, FIM, agora));
+            if (salaId % 3 == 0) {
+                reservas.add(reserva(reservaId++, salaId, DATA, LocalTime.of(11, 0), LocalTime.of(13, 0), agora));
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (id, usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (?, 1, ?, ?, ?, ?, 'Benchmark', 'ATIVA', ?)
+                """, reservas);
+    }
+
+    private static Object[] reserva(long id, long salaId, LocalDate data, LocalTime inicio, LocalTime fim, Timestamp agora) {
+        return new Object[] {id, salaId, Date.valueOf(data), Time.valueOf(inicio), Time.valueOf(fim), agora};
+    }
+}
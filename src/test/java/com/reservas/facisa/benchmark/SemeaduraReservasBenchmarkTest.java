@@ -0,0 +1,120 @@
+package com.reservas.facisa.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservas.facisa.dto.EstatisticaSqlDTO;
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.service.MonitorSql;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Carga inicial de {@code benchmark.reservas} reservas pelo JPA ({@code saveAll} em blocos de
+ * {@code benchmark.bloco}, com flush e clear a cada bloco), medindo a vazão e quantas idas ao
+ * banco o Hibernate fez para os INSERTs, segundo o {@link MonitorSql}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark_semeadura",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class SemeaduraReservasBenchmarkTest {
+
+    private static final int RESERVAS = Integer.getInteger("benchmark.reservas", 100_000);
+    private static final int BLOCO = Integer.getInteger("benchmark.bloco", 1_000);
+    private static final int SALAS = 200;
+    private static final int USUARIOS = 100;
+    private static final LocalDate PRIMEIRO_DIA = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MonitorSql monitorSql;
+
+    @Test
+    void medirCargaInicialDeReservas() {
+        List<Long> salas = inserir("salas", SALAS,
+                "INSERT INTO salas (nome, tipo, capacidade, status) VALUES ('Sala %d', 'SALA_AULA', 40, 'ATIVA')");
+        List<Long> usuarios = inserir("usuarios", USUARIOS,
+                "INSERT INTO usuarios (nome, email) VALUES ('Usuário %1$d', 'usuario%1$d@facisa.edu')");
+
+        semear(salas, usuarios, BLOCO);
+        reservaRepository.deleteAllInBatch();
+        monitorSql.limpar();
+
+        long inicio = System.nanoTime();
+        semear(salas, usuarios, RESERVAS);
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+
+        EstatisticaSqlDTO inserts = monitorSql.listar(Integer.MAX_VALUE).stream()
+                .filter(e -> e.getSql().toLowerCase().startsWith("insert into reservas"))
+                .findFirst()
+                .orElseThrow();
+
+        System.out.printf("%n%d reservas em blocos de %d: %.2f s, %.0f reservas/s, %d execuções de INSERT (%.1f linhas por ida)%n",
+                RESERVAS, BLOCO, segundos, RESERVAS / segundos, inserts.getExecucoes(),
+                (double) inserts.getLinhas() / inserts.getExecucoes());
+
+        assertEquals(RESERVAS, reservaRepository.count());
+    }
+
+    private void semear(List<Long> salas, List<Long> usuarios, int quantidade) {
+        for (int feitas = 0; feitas < quantidade; feitas += BLOCO) {
+            int ate = Math.min(quantidade, feitas + BLOCO);
+            int primeira = feitas;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Reserva> bloco = new ArrayList<>(ate - primeira);
+                for (int i = primeira; i < ate; i++) {
+                    LocalTime hora = LocalTime.of(7 + i % 14, 0);
+                    bloco.add(Reserva.builder()
+                            .sala(entityManager.getReference(Sala.class, salas.get(i % salas.size())))
+                            .usuario(entityManager.getReference(Usuario.class, usuarios.get(i % usuarios.size())))
+                            .data(PRIMEIRO_DIA.plusDays(i / (salas.size() * 14)))
+                            .horaInicio(hora)
+                            .horaFim(hora.plusHours(1))
+                            .motivo("Carga inicial")
+                            .status(StatusReserva.ATIVA)
+                            .build());
+                }
+                reservaRepository.saveAll(bloco);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private List<Long> inserir(String tabela, int quantidade, String comando) {
+        for (int i = 1; i <= quantidade; i++) {
+            jdbcTemplate.update(comando.formatted(i));
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM " + tabela + " ORDER BY id", Long.class);
+    }
+}
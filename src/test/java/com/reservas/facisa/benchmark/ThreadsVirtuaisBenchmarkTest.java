@@ -0,0 +1,253 @@
+package com.reservas.facisa.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.FacisaApplication;
+import com.reservas.facisa.service.IndiceDisponibilidade;
+import com.reservas.facisa.service.IndiceSalas;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Carga HTTP concorrente contra a aplicação com o Tomcat em threads de plataforma e depois em threads
+ * virtuais ({@code spring.threads.virtual.enabled}). Cada comando SQL espera
+ * {@code facisa.latencia-sql-ms} para simular a ida e volta a um banco remoto, e o JFR registra
+ * qualquer thread virtual presa à thread portadora ({@code jdk.VirtualThreadPinned}).
+ *
+ * <p>Parâmetros (propriedades de sistema): {@code benchmark.concorrencia}, {@code benchmark.aquecimento-s}, {@code benchmark.duracao-s},
+ * {@code benchmark.pool-conexoes}, {@code benchmark.tomcat-threads} e {@code facisa.latencia-sql-ms}.
+ */
+@Tag("benchmark")
+class ThreadsVirtuaisBenchmarkTest {
+
+    private static final int CONCORRENCIA = Integer.getInteger("benchmark.concorrencia", 200);
+    private static final int DURACAO_S = Integer.getInteger("benchmark.duracao-s", 15);
+    private static final int AQUECIMENTO_S = Integer.getInteger("benchmark.aquecimento-s", 10);
+    private static final int POOL_CONEXOES = Integer.getInteger("benchmark.pool-conexoes", 250);
+    private static final int TOMCAT_THREADS = Integer.getInteger("benchmark.tomcat-threads", 200);
+    private static final long LATENCIA_SQL_MS = Long.getLong("facisa.latencia-sql-ms", 10);
+
+    private static final int SALAS = 200;
+    private static final int USUARIOS = 50;
+    private static final LocalDate PRIMEIRO_DIA = LocalDate.now().plusDays(1);
+    private static final int DIAS = 30;
+
+    @Test
+    void compararThreadsDePlataformaEVirtuais() throws Exception {
+        System.setProperty("facisa.latencia-sql-ms", Long.toString(LATENCIA_SQL_MS));
+
+        Resultado plataforma = executar(false);
+        Resultado virtuais = executar(true);
+
+        System.out.printf("%nconcorrência=%d, latência SQL=%d ms, pool=%d conexões, tomcat=%d threads, %d s por modo%n",
+                CONCORRENCIA, LATENCIA_SQL_MS, POOL_CONEXOES, TOMCAT_THREADS, DURACAO_S);
+        System.out.printf("%-10s | %10s | %8s | %8s | %8s | %8s | %6s | %6s%n",
+                "modo", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "máx ms", "erros", "pinned");
+        plataforma.imprimir("plataforma");
+        virtuais.imprimir("virtuais");
+        virtuais.pinosPorLocal.forEach((local, total) -> System.out.printf("  pinned %4d x %s%n", total, local));
+
+        assertEquals(0, plataforma.erros.get(), "Erros no modo de threads de plataforma");
+        assertEquals(0, virtuais.erros.get(), "Erros no modo de threads virtuais");
+        assertTrue(virtuais.pinosPorLocal.keySet().stream().noneMatch(local -> local.startsWith("com.reservas")),
+                () -> "Threads virtuais presas em código da aplicação: " + virtuais.pinosPorLocal);
+    }
+
+    private Resultado executar(boolean threadsVirtuais) throws Exception {
+        ConfigurableApplicationContext contexto = new SpringApplicationBuilder(FacisaApplication.class)
+                .logStartupInfo(false)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + threadsVirtuais,
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark_threads_" + threadsVirtuais + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_CONEXOES,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector=com.reservas.facisa.support.LatenciaSql",
+                        "--spring.devtools.restart.enabled=false",
+                        "--spring.devtools.livereload.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+        try (RecordingStream jfr = new RecordingStream()) {
+            popular(contexto.getBean(JdbcTemplate.class));
+            contexto.getBean(IndiceDisponibilidade.class).reconstruir();
+            contexto.getBean(IndiceSalas.class).reconstruir();
+
+            String base = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+
+            Resultado resultado = new Resultado();
+            jfr.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+            jfr.onEvent("jdk.VirtualThreadPinned", evento -> {
+                resultado.pinned.incrementAndGet();
+                String local = evento.getStackTrace() == null ? "?" : evento.getStackTrace().getFrames().stream()
+                        .filter(RecordedFrame::isJavaFrame)
+                        .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName())
+                        .filter(nome -> !nome.startsWith("java.") && !nome.startsWith("jdk."))
+                        .findFirst()
+                        .orElse("?");
+                resultado.pinosPorLocal.merge(local, 1, Integer::sum);
+            });
+            jfr.startAsync();
+
+            gerarCarga(base, AQUECIMENTO_S, new Resultado());
+            gerarCarga(base, DURACAO_S, resultado);
+            return resultado;
+        } finally {
+            contexto.close();
+        }
+    }
+
+    private void gerarCarga(String base, int segundos, Resultado resultado) throws InterruptedException {
+        HttpClient cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        long inicio = System.nanoTime();
+
+        try (ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCORRENCIA; i++) {
+                clientes.submit(() -> {
+                    List<Long> latencias = new ArrayList<>();
+                    while (System.nanoTime() < fim) {
+                        HttpRequest requisicao = proximaRequisicao(base);
+                        long antes = System.nanoTime();
+                        try {
+                            HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                            if (resposta.statusCode() >= 500) {
+                                resultado.erros.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            resultado.erros.incrementAndGet();
+                        }
+                        latencias.add(System.nanoTime() - antes);
+                    }
+                    resultado.latencias.add(latencias);
+                });
+            }
+        }
+
+        resultado.segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+        cliente.close();
+    }
+
+    /** 70% consulta de salas livres, 20% reservas de uma sala no dia e 10% criação de reserva. */
+    private HttpRequest proximaRequisicao(String base) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate data = PRIMEIRO_DIA.plusDays(random.nextInt(DIAS));
+        int sorteio = random.nextInt(10);
+
+        if (sorteio < 7) {
+            int hora = 7 + random.nextInt(12);
+            return HttpRequest.newBuilder(URI.create(base + "/salas/disponiveis?data=" + data
+                            + "&hora_inicio=" + String.format("%02d:00", hora)
+                            + "&hora_fim=" + String.format("%02d:00", hora + 2)))
+                    .GET()
+                    .build();
+        }
+
+        if (sorteio < 9) {
+            return HttpRequest.newBuilder(URI.create(base + "/reservas?sala_id=" + (1 + random.nextInt(SALAS)) + "&data=" + data))
+                    .GET()
+                    .build();
+        }
+
+        int hora = 7 + random.nextInt(14);
+        String corpo = """
+                {"usuarioId": %d, "salaId": %d, "data": "%s", "horaInicio": "%02d:00", "horaFim": "%02d:30", "motivo": "Carga"}
+                """.formatted(1 + random.nextInt(USUARIOS), 1 + random.nextInt(SALAS), data, hora, hora);
+        return HttpRequest.newBuilder(URI.create(base + "/reservas"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private void popular(JdbcTemplate jdbcTemplate) {
+        List<Object[]> usuarios = new ArrayList<>();
+        for (long id = 1; id <= USUARIOS; id++) {
+            usuarios.add(new Object[] {id, "Usuário " + id, "usuario" + id + "@facisa.edu"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO usuarios (id, nome, email) VALUES (?, ?, ?)", usuarios);
+
+        List<Object[]> salas = new ArrayList<>();
+        for (long id = 1; id <= SALAS; id++) {
+            salas.add(new Object[] {id, "Sala " + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', 40, 'ATIVA')",
+                salas);
+
+        List<Object[]> reservas = new ArrayList<>();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (long salaId = 1; salaId <= SALAS; salaId++) {
+            for (int dia = 0; dia < DIAS; dia += 2) {
+                LocalTime inicio = LocalTime.of(8 + (int) (salaId + dia) % 10, 0);
+                reservas.add(new Object[] {
+                        1 + salaId % USUARIOS, salaId, Date.valueOf(PRIMEIRO_DIA.plusDays(dia)),
+                        Time.valueOf(inicio), Time.valueOf(inicio.plusHours(2)), agora
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (?, ?, ?, ?, ?, 'Benchmark', 'ATIVA', ?)
+                """, reservas);
+    }
+
+    private static class Resultado {
+        private final Queue<List<Long>> latencias = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger erros = new AtomicInteger();
+        private final AtomicInteger pinned = new AtomicInteger();
+        private final Map<String, Integer> pinosPorLocal = new ConcurrentHashMap<>();
+        private double segundos;
+
+        private void imprimir(String modo) {
+            long[] todas = latencias.stream().flatMap(List::stream).mapToLong(Long::longValue).toArray();
+            Arrays.sort(todas);
+
+            System.out.printf("%-10s | %10.0f | %8.1f | %8.1f | %8.1f | %8.1f | %6d | %6d%n",
+                    modo, todas.length / segundos,
+                    percentil(todas, 0.50), percentil(todas, 0.99), percentil(todas, 0.999),
+                    todas.length == 0 ? 0 : todas[todas.length - 1] / 1_000_000.0,
+                    erros.get(), pinned.get());
+        }
+
+        private static double percentil(long[] ordenadas, double p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            return ordenadas[(int) Math.min(ordenadas.length - 1, Math.ceil(ordenadas.length * p) - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.reservas.facisa.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.SalaRepository;
+import com.reservas.facisa.repository.UsuarioRepository;
+import com.reservas.facisa.support.CapturadorSql;
+
+/**
+ * GETs condicionais com {@code If-None-Match}: enquanto nada muda, a resposta é 304 sem nenhum
+ * comando SQL; uma gravação que afeta a consulta troca a ETag.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:consultas_condicionais",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.reservas.facisa.support.CapturadorSql"
+})
+@AutoConfigureMockMvc
+class ConsultasCondicionaisTest {
+
+    private static final String DATA = LocalDate.now().plusDays(4).toString();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SalaRepository salaRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private Usuario usuario;
+    private Sala sala;
+
+    @BeforeEach
+    void setUp() {
+        long sufixo = System.nanoTime();
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Professora ETag")
+                .email("etag" + sufixo + "@facisa.edu")
+                .build());
+        sala = salaRepository.save(Sala.builder()
+                .nome("Sala ETag " + sufixo)
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(40)
+                .status(StatusSala.ATIVA)
+                .build());
+    }
+
+    @Test
+    void pollSemAlteracaoDeveResponder304SemConsultarOBanco() throws Exception {
+        for (String uri : new String[] {"/salas", "/salas/" + sala.getId(), reservasDaSala()}) {
+            String etag = etag(uri);
+
+            CapturadorSql.limpar();
+            mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+            assertEquals(0, CapturadorSql.comandos().size(), () -> uri + ": " + CapturadorSql.comandos());
+        }
+    }
+
+    @Test
+    void reservaNaSalaDeveTrocarSomenteAEtagDasReservas() throws Exception {
+        String etagReservas = etag(reservasDaSala());
+        String etagSala = etag("/salas/" + sala.getId());
+
+        mockMvc.perform(post("/reservas").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"usuarioId": %d, "salaId": %d, "data": "%s", "horaInicio": "10:00", "horaFim": "12:00", "motivo": "Aula"}
+                        """.formatted(usuario.getId(), sala.getId(), DATA)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(reservasDaSala()).header(HttpHeaders.IF_NONE_MATCH, etagReservas))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/salas/" + sala.getId()).header(HttpHeaders.IF_NONE_MATCH, etagSala))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void alteracaoDaSalaDeveTrocarAsEtagsDoCatalogoEDasReservas() throws Exception {
+        String etagCatalogo = etag("/salas");
+        String etagReservas = etag(reservasDaSala());
+
+        mockMvc.perform(put("/salas/" + sala.getId()).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"nome": "%s", "tipo": "SALA_AULA", "capacidade": 45, "status": "ATIVA"}
+                        """.formatted(sala.getNome())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/salas").header(HttpHeaders.IF_NONE_MATCH, etagCatalogo))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(reservasDaSala()).header(HttpHeaders.IF_NONE_MATCH, etagReservas))
+                .andExpect(status().isOk());
+    }
+
+    private String reservasDaSala() {
+        return "/reservas?sala_id=" + sala.getId() + "&data=" + DATA;
+    }
+
+    private String etag(String uri) throws Exception {
+        String etag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(etag, uri);
+        return etag;
+    }
+}
@@ -0,0 +1,137 @@
+package com.reservas.facisa.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.reservas.facisa.support.CapturadorSql;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Conta os comandos SQL emitidos por requisição nos endpoints que devolvem reservas. Cada reserva
+ * da massa tem usuário e sala próprios, então um carregamento tardio em {@code ReservaMapper}
+ * aparece como consultas extras proporcionais ao tamanho da resposta.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:consultas_por_endpoint",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.reservas.facisa.support.CapturadorSql"
+})
+@AutoConfigureMockMvc
+class ConsultasPorEndpointTest {
+
+    private static final int RESERVAS = 20;
+    private static final LocalDate DATA = LocalDate.now().plusDays(3);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static boolean populado;
+
+    @BeforeEach
+    void setUp() {
+        if (!populado) {
+            popular();
+            populado = true;
+        }
+        // Sem isso o cache de segundo nível esconderia parte das consultas de usuário e sala.
+        entityManagerFactory.getCache().evictAll();
+        CapturadorSql.limpar();
+    }
+
+    @Test
+    void listagemPaginadaDeveUsarUmaConsulta() throws Exception {
+        assertConsultas(1, "/reservas?limite=" + RESERVAS);
+    }
+
+    @Test
+    void listagemPorSalaEDataDeveUsarUmaConsulta() throws Exception {
+        assertConsultas(1, "/reservas?sala_id=1&data=" + DATA);
+    }
+
+    @Test
+    void listagemPorUsuarioDeveUsarUmaConsulta() throws Exception {
+        assertConsultas(1, "/reservas?usuario_id=1");
+    }
+
+    @Test
+    void buscaPorIdDeveUsarUmaConsulta() throws Exception {
+        assertConsultas(1, "/reservas/1");
+    }
+
+    @Test
+    void buscaDeSerieDeveUsarUmaConsultaParaSerieEOutraParaOcorrencias() throws Exception {
+        assertConsultas(2, "/reservas/series/1");
+    }
+
+    private void assertConsultas(int esperadas, String url) throws Exception {
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+
+        List<String> comandos = CapturadorSql.comandos();
+        assertEquals(esperadas, comandos.size(),
+                () -> "GET " + url + " emitiu " + comandos.size() + " comandos SQL:\n" + String.join("\n", comandos));
+    }
+
+    private void popular() {
+        for (long id = 1; id <= RESERVAS; id++) {
+            jdbcTemplate.update("INSERT INTO usuarios (id, nome, email) VALUES (?, ?, ?)",
+                    id, "Usuário " + id, "usuario" + id + "@facisa.edu");
+            jdbcTemplate.update("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', 40, 'ATIVA')",
+                    id, "Sala " + id);
+        }
+
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                INSERT INTO series_reserva (id, usuario_id, sala_id, data_inicio, data_fim, hora_inicio, hora_fim,
+                                            intervalo_semanas, motivo, status, criado_em)
+                VALUES (1, 2, 2, ?, ?, '07:00', '08:00', 1, 'Série', 'ATIVA', ?)
+                """, Date.valueOf(DATA), Date.valueOf(DATA.plusWeeks(3)), agora);
+        jdbcTemplate.update("INSERT INTO series_reserva_excecoes (serie_id, data_excecao) VALUES (1, ?)",
+                Date.valueOf(DATA.plusWeeks(1)));
+
+        // Usuário 1 e sala 1 aparecem em todas as reservas avulsas, sempre com o outro lado variando.
+        List<Object[]> reservas = new ArrayList<>();
+        for (long id = 1; id <= RESERVAS; id++) {
+            LocalTime inicio = LocalTime.of(8, 0).plusMinutes(30 * id);
+            reservas.add(new Object[] {
+                    id, id % 2 == 0 ? 1L : id, id % 2 == 0 ? id : 1L, Date.valueOf(DATA),
+                    Time.valueOf(inicio), Time.valueOf(inicio.plusMinutes(30)), null, agora
+            });
+        }
+        for (int semana : new int[] {0, 2, 3}) {
+            reservas.add(new Object[] {
+                    100L + semana, 2L, 2L, Date.valueOf(DATA.plusWeeks(semana)),
+                    Time.valueOf(LocalTime.of(7, 0)), Time.valueOf(LocalTime.of(8, 0)), 1L, agora
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (id, usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, serie_id,
+                                      motivo, status, criado_em)
+                VALUES (?, ?, ?, ?, ?, ?, ?, 'Contagem de consultas', 'ATIVA', ?)
+                """, reservas);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reservas.facisa.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Uma reserva gravada direto no banco não passa pelo diário de eventos: o índice só a enxerga
+ * depois da verificação, que a conta como divergência.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:indice_endpoint")
+@AutoConfigureMockMvc
+class IndiceEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void verificacaoDeveCorrigirEContarAsDivergencias() throws Exception {
+        mockMvc.perform(post("/admin/indice/verificacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.divergentes").value(0));
+
+        jdbcTemplate.update("INSERT INTO usuarios (nome, email) VALUES ('Usuária', 'indice@facisa.edu')");
+        jdbcTemplate.update("INSERT INTO salas (nome, tipo, capacidade, status) VALUES ('Sala Índice', 'SALA_AULA', 40, 'ATIVA')");
+        jdbcTemplate.update("""
+                INSERT INTO reservas (usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES ((SELECT MAX(id) FROM usuarios), (SELECT MAX(id) FROM salas), ?, '10:00', '11:00', 'Aula', 'ATIVA', CURRENT_TIMESTAMP)
+                """, LocalDate.now().plusDays(2));
+
+        mockMvc.perform(post("/admin/indice/verificacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.divergentes").value(1));
+        mockMvc.perform(post("/admin/indice/verificacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.divergentes").value(0));
+
+        assertEquals(1.0, meterRegistry.counter("facisa.indice.divergencias").count());
+    }
+}
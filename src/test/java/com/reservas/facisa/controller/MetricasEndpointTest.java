@@ -0,0 +1,88 @@
+package com.reservas.facisa.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.SalaRepository;
+import com.reservas.facisa.repository.UsuarioRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metricas_endpoint",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class MetricasEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SalaRepository salaRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void deveExporMetricasDoFluxoDeReservaNoFormatoPrometheus() throws Exception {
+        Usuario usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Professora Métricas")
+                .email("metricas@facisa.edu")
+                .build());
+        Sala sala = salaRepository.save(Sala.builder()
+                .nome("Sala Métricas")
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(40)
+                .status(StatusSala.ATIVA)
+                .build());
+
+        String data = LocalDate.now().plusDays(5).toString();
+        String reserva = """
+                {"usuarioId": %d, "salaId": %d, "data": "%s", "horaInicio": "10:00", "horaFim": "12:00", "motivo": "Aula"}
+                """.formatted(usuario.getId(), sala.getId(), data);
+
+        mockMvc.perform(post("/reservas").contentType(MediaType.APPLICATION_JSON).content(reserva))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/reservas").contentType(MediaType.APPLICATION_JSON).content(reserva))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/salas/disponiveis")
+                        .param("data", data)
+                        .param("hora_inicio", "08:00")
+                        .param("hora_fim", "09:00"))
+                .andExpect(status().isOk());
+
+        String metricas = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertContem(metricas, "facisa_reservas_conflitos_total{origem=\"individual\"} 1.0");
+        assertContem(metricas, "facisa_regras_rejeicoes_total{categoria=\"conflito_horario\"} 1.0");
+        assertContem(metricas, "facisa_servico_seconds_bucket{class=\"com.reservas.facisa.service.ReservaService\"");
+        assertContem(metricas, "method=\"criar\"");
+        assertContem(metricas, "method=\"listarSalasDisponiveis\"");
+        assertContem(metricas, "uri=\"/reservas\"");
+        assertContem(metricas, "uri=\"/salas/disponiveis\"");
+        assertContem(metricas, "http_server_requests_seconds_bucket{");
+        assertContem(metricas, "facisa_http_consultas_sql_comandos_count{method=\"POST\",uri=\"/reservas\"} 2");
+    }
+
+    private static void assertContem(String metricas, String trecho) {
+        assertTrue(metricas.contains(trecho), () -> "Métrica ausente: " + trecho + "\n" + metricas);
+    }
+}
@@ -0,0 +1,68 @@
+package com.reservas.facisa.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Com {@code limite-lento=0} toda execução conta como lenta e passa pelo log completo, com o
+ * {@code EXPLAIN}, então o teste cobre também esse caminho.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:monitor_sql_endpoint",
+        "facisa.sql.limite-lento=0ms"
+})
+@AutoConfigureMockMvc
+class MonitorSqlEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void deveAgruparExecucoesPorFormatoComLinhasETempos() throws Exception {
+        jdbcTemplate.update("INSERT INTO salas (nome, tipo, capacidade, status) VALUES ('Sala A', 'SALA_AULA', 40, 'ATIVA')");
+        jdbcTemplate.update("INSERT INTO salas (nome, tipo, capacidade, status) VALUES ('Sala B', 'LABORATORIO', 30, 'ATIVA')");
+
+        mockMvc.perform(delete("/admin/sql")).andExpect(status().isNoContent());
+
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.queryForList("SELECT id FROM salas WHERE capacidade >= ?", Long.class, 10 * i);
+        }
+
+        JsonNode estatisticas = objectMapper.readTree(mockMvc.perform(get("/admin/sql"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+
+        JsonNode consulta = null;
+        for (JsonNode e : estatisticas) {
+            if (e.get("sql").asString().equals("SELECT id FROM salas WHERE capacidade >= ?")) {
+                consulta = e;
+            }
+        }
+
+        assertNotNull(consulta, estatisticas::toString);
+        assertEquals(3, consulta.get("execucoes").asLong());
+        assertEquals(6, consulta.get("linhas").asLong());
+        assertEquals(3, consulta.get("lentas").asLong());
+        assertTrue(consulta.get("tempoMaximoMs").asDouble() <= consulta.get("tempoTotalMs").asDouble());
+    }
+}
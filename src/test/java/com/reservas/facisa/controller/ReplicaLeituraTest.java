@@ -0,0 +1,143 @@
+package com.reservas.facisa.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SalaRepository;
+import com.reservas.facisa.repository.UsuarioRepository;
+import com.reservas.facisa.support.ReplicacaoLocal;
+
+/**
+ * Roteamento entre o banco principal e uma réplica H2 local, alimentada só quando o teste chama
+ * {@link ReplicacaoLocal#sincronizar()}: o que ainda não foi replicado só aparece nas leituras
+ * que devem ir ao principal.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaLeituraTest.PRINCIPAL,
+        "facisa.replica.url=" + ReplicaLeituraTest.REPLICA,
+        "facisa.replica.janela-leitura-propria=1m",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class ReplicaLeituraTest {
+
+    static final String PRINCIPAL = "jdbc:h2:mem:replica_principal;DB_CLOSE_DELAY=-1";
+    static final String REPLICA = "jdbc:h2:mem:replica_leitura;DB_CLOSE_DELAY=-1";
+
+    /** Criada antes do contexto: o aquecimento já pode ler da réplica na inicialização. */
+    private static final ReplicacaoLocal REPLICACAO = new ReplicacaoLocal(PRINCIPAL, REPLICA);
+
+    private static final LocalDate DATA = LocalDate.now().plusDays(3);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private SalaRepository salaRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    private Usuario usuario;
+    private Sala sala;
+
+    @BeforeEach
+    void setUp() {
+        long sufixo = System.nanoTime();
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Professora Réplica")
+                .email("replica" + sufixo + "@facisa.edu")
+                .build());
+        sala = salaRepository.save(Sala.builder()
+                .nome("Sala Réplica " + sufixo)
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(40)
+                .status(StatusSala.ATIVA)
+                .build());
+        REPLICACAO.sincronizar();
+    }
+
+    @Test
+    void leituraSomenteLeituraDeveVerAReplicaAtrasadaAteASincronizacao() throws Exception {
+        Reserva reserva = gravarDiretoNoPrincipal(usuario, LocalTime.of(8, 0));
+
+        mockMvc.perform(get("/reservas").param("usuario_id", usuario.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        REPLICACAO.sincronizar();
+
+        mockMvc.perform(get("/reservas").param("usuario_id", usuario.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(reserva.getId()));
+    }
+
+    @Test
+    void quemAcabouDeReservarDeveLerAsPropriasReservasNoPrincipal() throws Exception {
+        String corpo = mockMvc.perform(post("/reservas").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"usuarioId": %d, "salaId": %d, "data": "%s", "horaInicio": "10:00", "horaFim": "12:00", "motivo": "Aula"}
+                        """.formatted(usuario.getId(), sala.getId(), DATA)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(corpo.contains("\"motivo\":\"Aula\""), corpo);
+
+        mockMvc.perform(get("/reservas").param("usuario_id", usuario.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].horaInicio").value("10:00"));
+    }
+
+    @Test
+    void buscaPorIdDeveRecorrerAoPrincipalQuandoAReplicaNaoTemAReserva() throws Exception {
+        Reserva reserva = gravarDiretoNoPrincipal(usuario, LocalTime.of(14, 0));
+
+        mockMvc.perform(get("/reservas/" + reserva.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(reserva.getId()));
+    }
+
+    @Test
+    void consultaComEtagDeveLerDoPrincipal() throws Exception {
+        gravarDiretoNoPrincipal(usuario, LocalTime.of(16, 0));
+
+        mockMvc.perform(get("/reservas").param("sala_id", sala.getId().toString()).param("data", DATA.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private Reserva gravarDiretoNoPrincipal(Usuario dono, LocalTime inicio) {
+        return reservaRepository.save(Reserva.builder()
+                .usuario(dono)
+                .sala(sala)
+                .data(DATA)
+                .horaInicio(inicio)
+                .horaFim(inicio.plusHours(1))
+                .motivo("Gravada fora da API")
+                .status(StatusReserva.ATIVA)
+                .build());
+    }
+}
@@ -0,0 +1,284 @@
+package com.reservas.facisa.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.reservas.facisa.dto.AlteracoesDisponibilidadeDTO;
+import com.reservas.facisa.dto.IntervaloDisponibilidadeDTO;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.SalaRepository;
+import com.reservas.facisa.repository.UsuarioRepository;
+import com.reservas.facisa.service.StreamDisponibilidade;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Assinaturas de {@code GET /reservas/stream}. Com agrupamento e heartbeat de uma hora, nada é
+ * enviado sozinho durante o teste: depois do snapshot, cada envio acontece quando o teste chama
+ * {@code enviarPendentes()} e espera os envios despachados terminarem.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stream_disponibilidade",
+        "spring.jpa.show-sql=false",
+        "facisa.stream.agrupamento=1h",
+        "facisa.stream.heartbeat=1h",
+        "facisa.stream.maximo-combinacoes=4",
+        "facisa.stream.maximo-pendentes=3"
+})
+@AutoConfigureMockMvc
+class StreamDisponibilidadeTest {
+
+    private static final LocalDate DATA = LocalDate.now().plusDays(4);
+
+    private record Evento(String nome, long id, AlteracoesDisponibilidadeDTO alteracoes) {
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StreamDisponibilidade streamDisponibilidade;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private SalaRepository salaRepository;
+
+    private final List<MvcResult> abertas = new ArrayList<>();
+
+    private Usuario usuario;
+    private Sala sala;
+    private Sala outraSala;
+
+    @BeforeEach
+    void setUp() {
+        long sufixo = System.nanoTime();
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Professor Stream")
+                .email("stream" + sufixo + "@facisa.edu")
+                .build());
+        sala = salaRepository.save(novaSala("Sala Stream " + sufixo));
+        outraSala = salaRepository.save(novaSala("Sala Vizinha " + sufixo));
+    }
+
+    @AfterEach
+    void encerrarConexoes() {
+        abertas.forEach(resultado -> resultado.getRequest().getAsyncContext().complete());
+        assertEquals(0, streamDisponibilidade.assinaturasAtivas());
+    }
+
+    @Test
+    void deveEnviarSnapshotAoConectar() throws Exception {
+        long existente = reservar(sala, "08:00", "10:00");
+        reservar(outraSala, "08:00", "10:00");
+
+        MvcResult conexao = assinar(null, sala);
+
+        List<Evento> eventos = eventos(conexao);
+        assertEquals(1, eventos.size());
+        assertEquals("snapshot", eventos.get(0).nome());
+
+        List<IntervaloDisponibilidadeDTO> reservas = eventos.get(0).alteracoes().getReservas();
+        assertEquals(1, reservas.size());
+        assertEquals(existente, reservas.get(0).getId());
+        assertEquals("08:00", reservas.get(0).getHoraInicio());
+        assertEquals(DATA.toString(), reservas.get(0).getData());
+    }
+
+    @Test
+    void deveAgruparUmaRajadaDeAlteracoesNumDeltaSo() throws Exception {
+        long movida = reservar(sala, "08:00", "09:00");
+        MvcResult conexao = assinar(null, sala);
+        long snapshot = eventos(conexao).get(0).id();
+
+        long criada = reservar(sala, "10:00", "11:00");
+        alterar(criada, sala, "10:00", "12:00");
+        long cancelada = reservar(sala, "14:00", "15:00");
+        mockMvc.perform(delete("/reservas/" + cancelada)).andExpect(status().isNoContent());
+        alterar(movida, outraSala, "08:00", "09:00");
+        reservar(outraSala, "16:00", "17:00");
+
+        List<Evento> eventos = eventos(conexao);
+        assertEquals(2, eventos.size());
+
+        Evento delta = eventos.get(1);
+        assertEquals("delta", delta.nome());
+        assertTrue(delta.id() > snapshot);
+        assertEquals(1, delta.alteracoes().getReservas().size());
+        assertEquals(criada, delta.alteracoes().getReservas().get(0).getId());
+        assertEquals("12:00", delta.alteracoes().getReservas().get(0).getHoraFim());
+        assertEquals(List.of(movida, cancelada), delta.alteracoes().getRemovidas());
+    }
+
+    @Test
+    void reconexaoDeveReceberSoOQueFoiPerdido() throws Exception {
+        reservar(sala, "08:00", "09:00");
+        MvcResult primeira = assinar(null, sala);
+        long checkpoint = eventos(primeira).get(0).id();
+
+        long perdida = reservar(sala, "13:00", "14:00");
+        reservar(outraSala, "13:00", "14:00");
+
+        MvcResult segunda = assinar(checkpoint, sala);
+
+        List<Evento> eventos = eventos(segunda);
+        assertEquals(1, eventos.size());
+        assertEquals("delta", eventos.get(0).nome());
+        assertEquals(perdida, eventos.get(0).alteracoes().getReservas().get(0).getId());
+        assertEquals(1, eventos.get(0).alteracoes().getReservas().size());
+    }
+
+    @Test
+    void reconexaoComIdDesconhecidoDeveRecomecarComSnapshot() throws Exception {
+        reservar(sala, "08:00", "09:00");
+
+        MvcResult conexao = assinar(Long.MAX_VALUE, sala);
+
+        List<Evento> eventos = eventos(conexao);
+        assertEquals(1, eventos.size());
+        assertEquals("snapshot", eventos.get(0).nome());
+        assertEquals(1, eventos.get(0).alteracoes().getReservas().size());
+    }
+
+    @Test
+    void pendenciasAcimaDoLimiteDevemVirarSnapshot() throws Exception {
+        MvcResult conexao = assinar(null, sala);
+        eventos(conexao);
+
+        for (int hora = 8; hora < 12; hora++) {
+            reservar(sala, "%02d:00".formatted(hora), "%02d:30".formatted(hora));
+        }
+
+        List<Evento> eventos = eventos(conexao);
+        assertEquals("snapshot", eventos.get(1).nome());
+        assertEquals(4, eventos.get(1).alteracoes().getReservas().size());
+    }
+
+    @Test
+    void deveAvisarQuandoUmaSalaAcompanhadaForInativada() throws Exception {
+        MvcResult conexao = assinar(null, sala, outraSala);
+        eventos(conexao);
+
+        mockMvc.perform(put("/salas/" + outraSala.getId()).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"nome": "%s", "tipo": "SALA_AULA", "capacidade": 40, "status": "INATIVA"}
+                        """.formatted(outraSala.getNome())))
+                .andExpect(status().isOk());
+
+        List<Evento> eventos = eventos(conexao);
+        assertEquals(List.of(outraSala.getId()), eventos.get(1).alteracoes().getSalasInativadas());
+    }
+
+    @Test
+    void assinaturaComCombinacoesDemaisDeveSerRecusada() throws Exception {
+        mockMvc.perform(get("/reservas/stream")
+                        .param("sala_id", sala.getId().toString(), outraSala.getId().toString(), "999")
+                        .param("data", DATA.toString(), DATA.plusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void assinaturaComDataInvalidaDeveSerRecusada() throws Exception {
+        mockMvc.perform(get("/reservas/stream")
+                        .param("sala_id", sala.getId().toString())
+                        .param("data", "31/12/2030"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MvcResult assinar(Long ultimoEventoId, Sala... salas) throws Exception {
+        var requisicao = get("/reservas/stream").param("data", DATA.toString());
+        for (Sala s : salas) {
+            requisicao.param("sala_id", s.getId().toString());
+        }
+        if (ultimoEventoId != null) {
+            requisicao.header("Last-Event-ID", ultimoEventoId);
+        }
+
+        MvcResult resultado = mockMvc.perform(requisicao)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        abertas.add(resultado);
+        return resultado;
+    }
+
+    /** Envia o que estiver pendente e devolve todos os eventos recebidos pela conexão até agora. */
+    private List<Evento> eventos(MvcResult conexao) throws Exception {
+        streamDisponibilidade.enviarPendentes();
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (streamDisponibilidade.enviosEmAndamento() > 0) {
+            assertTrue(System.nanoTime() < limite, "Os envios do stream não terminaram.");
+            Thread.sleep(5);
+        }
+
+        List<Evento> eventos = new ArrayList<>();
+        for (String bloco : conexao.getResponse().getContentAsString().split("\n\n")) {
+            String nome = null;
+            long id = 0;
+            String dados = null;
+            for (String linha : bloco.split("\n")) {
+                if (linha.startsWith("event:")) {
+                    nome = linha.substring("event:".length());
+                } else if (linha.startsWith("id:")) {
+                    id = Long.parseLong(linha.substring("id:".length()));
+                } else if (linha.startsWith("data:")) {
+                    dados = linha.substring("data:".length());
+                }
+            }
+            if (nome != null) {
+                eventos.add(new Evento(nome, id, objectMapper.readValue(dados, AlteracoesDisponibilidadeDTO.class)));
+            }
+        }
+        return eventos;
+    }
+
+    private long reservar(Sala destino, String inicio, String fim) throws Exception {
+        String corpo = mockMvc.perform(post("/reservas").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"usuarioId": %d, "salaId": %d, "data": "%s", "horaInicio": "%s", "horaFim": "%s", "motivo": "Aula"}
+                        """.formatted(usuario.getId(), destino.getId(), DATA, inicio, fim)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(corpo).get("id").asLong();
+    }
+
+    private void alterar(long reservaId, Sala destino, String inicio, String fim) throws Exception {
+        mockMvc.perform(put("/reservas/" + reservaId).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"usuarioId": %d, "salaId": %d, "data": "%s", "horaInicio": "%s", "horaFim": "%s", "motivo": "Aula"}
+                        """.formatted(usuario.getId(), destino.getId(), DATA, inicio, fim)))
+                .andExpect(status().isOk());
+    }
+
+    private static Sala novaSala(String nome) {
+        return Sala.builder()
+                .nome(nome)
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(40)
+                .status(StatusSala.ATIVA)
+                .build();
+    }
+}
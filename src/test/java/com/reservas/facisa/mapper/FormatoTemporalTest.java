@@ -0,0 +1,53 @@
+package com.reservas.facisa.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+class FormatoTemporalTest {
+
+    @Test
+    void deveFormatarELerTodosOsMinutosDoDiaComoODateTimeFormatter() {
+        for (int minuto = 0; minuto < 24 * 60; minuto++) {
+            LocalTime hora = LocalTime.of(minuto / 60, minuto % 60);
+            String texto = hora.format(FormatoTemporal.TIME_FORMATTER);
+
+            assertEquals(texto, FormatoTemporal.formatarHora(hora));
+            assertEquals(hora, FormatoTemporal.lerHora(texto));
+        }
+        assertEquals("10:15", FormatoTemporal.formatarHora(LocalTime.of(10, 15, 42)));
+    }
+
+    @Test
+    void deveFormatarELerDatasComoOIsoLocalDate() {
+        LocalDate inicio = LocalDate.of(2023, 12, 1);
+        for (LocalDate data = inicio; data.isBefore(inicio.plusYears(3)); data = data.plusDays(1)) {
+            String texto = data.format(FormatoTemporal.DATE_FORMATTER);
+
+            assertEquals(texto, FormatoTemporal.formatarData(data));
+            assertEquals(data, FormatoTemporal.lerData(texto));
+        }
+        // Mesma posição na tabela de datas formatadas (1.024 dias de distância).
+        assertEquals("2026-09-20", FormatoTemporal.formatarData(LocalDate.of(2026, 9, 20)));
+        assertEquals("2029-07-10", FormatoTemporal.formatarData(LocalDate.of(2026, 9, 20).plusDays(1024)));
+        assertEquals("2026-09-20", FormatoTemporal.formatarData(LocalDate.of(2026, 9, 20)));
+    }
+
+    @Test
+    void textosForaDaFormaCanonicaDevemFalharComoAntes() {
+        for (String texto : new String[] {"7:00", "10:60", "1O:00", "10-00", ""}) {
+            assertThrows(DateTimeParseException.class, () -> FormatoTemporal.lerHora(texto), texto);
+        }
+        for (String texto : new String[] {"2025-02-29", "2025-04-31", "2025-13-01", "2025-1-01", "2025/01/01", "hoje"}) {
+            assertThrows(DateTimeParseException.class, () -> FormatoTemporal.lerData(texto), texto);
+        }
+        // O formatter antigo aceita 24:00 como meia-noite; o fallback preserva isso.
+        assertEquals(LocalTime.parse("24:00", FormatoTemporal.TIME_FORMATTER), FormatoTemporal.lerHora("24:00"));
+        assertEquals(LocalDate.of(2024, 2, 29), FormatoTemporal.lerData("2024-02-29"));
+        assertEquals(LocalDate.of(2025, 12, 31), FormatoTemporal.lerData("2025-12-31"));
+    }
+}
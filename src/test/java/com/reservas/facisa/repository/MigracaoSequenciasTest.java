@@ -0,0 +1,41 @@
+package com.reservas.facisa.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Aplica as migrações até a V3, grava linhas com ids já usados e confere que a V4 reinicia as
+ * sequências depois deles, tanto para o Hibernate quanto para INSERTs que usam o default da coluna.
+ */
+class MigracaoSequenciasTest {
+
+    @Test
+    void sequenciasDevemContinuarDepoisDosIdsExistentes() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migracao_sequencias;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("3").load().migrate();
+        jdbc.update("INSERT INTO usuarios (id, nome, email) VALUES (7, 'Usuária', 'usuaria@facisa.edu')");
+        jdbc.update("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (130, 'Sala 130', 'SALA_AULA', 40, 'ATIVA')");
+        jdbc.update("""
+                INSERT INTO reservas (id, usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (4321, 7, 130, CURRENT_DATE, '10:00', '11:00', 'Aula', 'ATIVA', CURRENT_TIMESTAMP)
+                """);
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertEquals(8L, jdbc.queryForObject("SELECT NEXT VALUE FOR usuarios_seq", Long.class));
+        assertEquals(1L, jdbc.queryForObject("SELECT NEXT VALUE FOR series_reserva_seq", Long.class));
+
+        jdbc.update("INSERT INTO salas (nome, tipo, capacidade, status) VALUES ('Sala nova', 'LABORATORIO', 20, 'ATIVA')");
+        assertEquals(131L, jdbc.queryForObject("SELECT id FROM salas WHERE nome = 'Sala nova'", Long.class));
+        assertEquals(181L, jdbc.queryForObject("SELECT NEXT VALUE FOR salas_seq", Long.class));
+
+        assertEquals(4322L, jdbc.queryForObject("SELECT NEXT VALUE FOR reservas_seq", Long.class));
+    }
+}
@@ -0,0 +1,180 @@
+package com.reservas.facisa.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reservas.facisa.dto.ReservaExportacaoDTO;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.support.CapturadorSql;
+
+/**
+ * Roda o EXPLAIN do H2 sobre o SQL que o Hibernate gera para cada consulta do
+ * {@link ReservaRepository} e falha se a tabela de reservas for lida por varredura completa.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plano_execucao_reservas",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.reservas.facisa.support.CapturadorSql"
+})
+class ReservaRepositoryPlanoExecucaoTest {
+
+    private static final LocalDate DATA = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static boolean populado;
+
+    @BeforeEach
+    void setUp() {
+        if (!populado) {
+            popular();
+            populado = true;
+        }
+        CapturadorSql.limpar();
+    }
+
+    @Test
+    void findBySalaIdAndDataDeveUsarIndiceDeSalaEData() {
+        reservaRepository.findBySalaIdAndData(1L, DATA);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_SALA_DATA_STATUS_INICIO");
+    }
+
+    @Test
+    void findByUsuarioIdDeveUsarIndiceDeUsuario() {
+        reservaRepository.findByUsuarioId(1L);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_USUARIO_DATA", "FK_RESERVA_USUARIO_INDEX");
+    }
+
+    @Test
+    void findBySalaIdAndDataAndStatusDeveUsarIndiceDeSalaEData() {
+        reservaRepository.findBySalaIdAndDataAndStatus(1L, DATA, StatusReserva.ATIVA);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_SALA_DATA_STATUS_INICIO");
+    }
+
+    @Test
+    void findReservasConflitantesDeveUsarIndiceDeSalaEData() {
+        reservaRepository.findReservasConflitantes(
+                1L, DATA, LocalTime.of(10, 0), LocalTime.of(12, 0), StatusReserva.ATIVA);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_SALA_DATA_STATUS_INICIO");
+    }
+
+    @Test
+    void findIntervalosPorPeriodoDeveUsarIndiceDeStatusEData() {
+        reservaRepository.findIntervalosPorPeriodo(DATA, DATA.plusDays(6), StatusReserva.ATIVA);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_STATUS_DATA");
+    }
+
+    @Test
+    void findSalasDisponiveisDeveUsarIndiceDeSalaENaSubconsulta() {
+        reservaRepository.findSalasDisponiveis(
+                DATA, LocalTime.of(10, 0), LocalTime.of(12, 0), null, 0, StatusSala.ATIVA, StatusReserva.ATIVA);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_SALA_DATA_STATUS_INICIO");
+    }
+
+    @Test
+    void findIntervalosPorSalasEPeriodoDeveUsarIndiceDeSalaEData() {
+        reservaRepository.findIntervalosPorSalasEPeriodo(
+                List.of(1L, 2L, 3L), DATA, DATA.plusDays(6), StatusReserva.ATIVA);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_SALA_DATA_STATUS_INICIO");
+    }
+
+    @Test
+    void findIntervalosFuturosDaSerieDeveUsarIndiceDeSerie() {
+        reservaRepository.findIntervalosFuturosDaSerie(1L, DATA, LocalTime.of(10, 0), StatusReserva.ATIVA);
+
+        assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_SERIE_DATA", "FK_RESERVA_SERIE_INDEX");
+    }
+
+    @Test
+    void findPrimeiraPaginaDeveLerNaOrdemDoIndiceDePaginacao() {
+        reservaRepository.findPrimeiraPagina(Limit.of(51));
+
+        assertDispensaOrdenacao(assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_DATA_INICIO_ID"));
+    }
+
+    @Test
+    void findPaginaAposDeveUsarIndiceDePaginacao() {
+        reservaRepository.findPaginaApos(DATA.plusDays(100), LocalTime.of(10, 0), 4_000L, Limit.of(51));
+
+        assertDispensaOrdenacao(assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_DATA_INICIO_ID"));
+    }
+
+    @Test
+    @Transactional(readOnly = true)
+    void streamParaExportacaoDeveLerPeriodoNaOrdemDoIndiceDePaginacao() {
+        try (Stream<ReservaExportacaoDTO> reservas = reservaRepository.streamParaExportacao(DATA, DATA.plusDays(30))) {
+            reservas.findFirst();
+        }
+
+        assertDispensaOrdenacao(assertUsaIndice(CapturadorSql.ultimo(), "IDX_RESERVA_DATA_INICIO_ID"));
+    }
+
+    private void popular() {
+        for (long id = 1; id <= 50; id++) {
+            jdbcTemplate.update("INSERT INTO usuarios (id, nome, email) VALUES (?, ?, ?)",
+                    id, "Usuário " + id, "usuario" + id + "@facisa.edu");
+            jdbcTemplate.update("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', 40, 'ATIVA')",
+                    id, "Sala " + id);
+        }
+
+        List<Object[]> reservas = new ArrayList<>();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate data = DATA.plusDays(i % 120);
+            LocalTime inicio = LocalTime.of(7 + i % 14, 0);
+            reservas.add(new Object[] {
+                    1L + i % 50, 1L + (i / 7) % 50, Date.valueOf(data), Time.valueOf(inicio),
+                    Time.valueOf(inicio.plusHours(1)), i % 10 == 0 ? "CANCELADA" : "ATIVA", agora
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (?, ?, ?, ?, ?, 'Plano de execução', ?, ?)
+                """, reservas);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private String assertUsaIndice(String sql, String... indicesAceitos) {
+        String plano = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+
+        assertFalse(plano.contains("RESERVAS.TABLESCAN"),
+                () -> "Varredura completa em reservas:\n" + plano);
+        assertTrue(Arrays.stream(indicesAceitos).anyMatch(indice -> plano.contains("PUBLIC." + indice)),
+                () -> "Nenhum dos índices " + Arrays.toString(indicesAceitos) + " foi utilizado:\n" + plano);
+        return plano;
+    }
+
+    private void assertDispensaOrdenacao(String plano) {
+        assertTrue(plano.contains("INDEX SORTED"), () -> "Ordenação não aproveita o índice:\n" + plano);
+    }
+}
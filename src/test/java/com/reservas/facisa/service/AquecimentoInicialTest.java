@@ -0,0 +1,40 @@
+package com.reservas.facisa.service;
+
+import static org.mockito.Mockito.*;
+
+import com.reservas.facisa.config.AquecimentoProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AquecimentoInicialTest {
+
+    @Mock
+    private IndiceSalas indiceSalas;
+
+    @Mock
+    private IndiceDisponibilidade indiceDisponibilidade;
+
+    @Mock
+    private SalaService salaService;
+
+    @Test
+    void deveCarregarIndicesECacheDasSalasAtivas() {
+        new AquecimentoInicial(indiceSalas, indiceDisponibilidade, salaService, new AquecimentoProperties(true, 30))
+                .aquecer();
+
+        verify(indiceSalas).reconstruir();
+        verify(indiceDisponibilidade).reconstruir();
+        verify(salaService).aquecerCache();
+    }
+
+    @Test
+    void naoDeveCarregarNadaQuandoDesabilitado() {
+        new AquecimentoInicial(indiceSalas, indiceDisponibilidade, salaService, new AquecimentoProperties(false, 30))
+                .aquecer();
+
+        verifyNoInteractions(indiceSalas, indiceDisponibilidade, salaService);
+    }
+}
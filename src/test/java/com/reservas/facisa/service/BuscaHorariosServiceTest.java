@@ -0,0 +1,157 @@
+package com.reservas.facisa.service;
+
+import com.reservas.facisa.config.AquecimentoProperties;
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.config.BuscaHorariosProperties;
+import com.reservas.facisa.dto.HorarioDisponivelDTO;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SalaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuscaHorariosServiceTest {
+
+    private static final LocalDate DIA = LocalDate.now().plusDays(3);
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private SalaRepository salaRepository;
+
+    private IndiceDisponibilidade indiceDisponibilidade;
+    private BuscaHorariosService buscaHorariosService;
+
+    @BeforeEach
+    void setUp() {
+        indiceDisponibilidade = new IndiceDisponibilidade(reservaRepository,
+                new DiarioEventos(evento -> { }, new EventosProperties(100)), new AquecimentoProperties(true, 180));
+        buscaHorariosService = new BuscaHorariosService(reservaRepository, salaRepository, indiceDisponibilidade,
+                new BuscaHorariosProperties(LocalTime.of(7, 0), LocalTime.of(22, 0), 10, 50));
+    }
+
+    @Test
+    void deveRetornarInicioDeCadaLacunaQueComportaADuracao() {
+        when(salaRepository.findCandidatas(StatusSala.ATIVA, 20, null)).thenReturn(List.of(sala(1L, 30)));
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(Set.of(1L), DIA, DIA, StatusReserva.ATIVA)).thenReturn(List.of(
+                intervalo(1L, DIA, "10:00", "12:00"),
+                intervalo(1L, DIA, "07:00", "09:00"),
+                intervalo(1L, DIA, "12:30", "21:30")
+        ));
+
+        List<HorarioDisponivelDTO> horarios = buscaHorariosService.buscarPrimeirosHorarios(
+                60, DIA.toString(), DIA.toString(), 20, null, null);
+
+        // 12:00–12:30 e 21:30–22:00 são curtas demais para uma hora.
+        assertEquals(1, horarios.size());
+        assertEquals("09:00", horarios.get(0).getHoraInicio());
+        assertEquals("10:00", horarios.get(0).getHoraFim());
+        assertEquals(DIA.toString(), horarios.get(0).getData());
+    }
+
+    @Test
+    void deveOrdenarPorInicioEDepoisPelaMenorCapacidadeQueAtende() {
+        when(salaRepository.findCandidatas(StatusSala.ATIVA, 25, TipoSala.LABORATORIO))
+                .thenReturn(List.of(sala(1L, 60), sala(2L, 40), sala(3L, 30)));
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(Set.of(1L, 2L, 3L), DIA, DIA, StatusReserva.ATIVA))
+                .thenReturn(List.of(
+                        intervalo(3L, DIA, "07:00", "08:00"),
+                        intervalo(2L, DIA, "07:00", "19:00"),
+                        intervalo(1L, DIA, "07:00", "19:00")
+                ));
+
+        List<HorarioDisponivelDTO> horarios = buscaHorariosService.buscarPrimeirosHorarios(
+                120, DIA.toString(), DIA.toString(), 25, TipoSala.LABORATORIO, null);
+
+        assertEquals(List.of(3L, 2L, 1L), horarios.stream().map(HorarioDisponivelDTO::getSalaId).toList());
+        assertEquals(List.of("08:00", "19:00", "19:00"),
+                horarios.stream().map(HorarioDisponivelDTO::getHoraInicio).toList());
+    }
+
+    @Test
+    void devePararNoPrimeiroDiaQueCompletaOLimite() {
+        when(salaRepository.findCandidatas(StatusSala.ATIVA, 1, null)).thenReturn(List.of(sala(1L, 30), sala(2L, 40)));
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(Set.of(1L, 2L), DIA, DIA.plusDays(6), StatusReserva.ATIVA))
+                .thenReturn(List.of(
+                        intervalo(1L, DIA, "07:00", "22:00"),
+                        intervalo(2L, DIA, "07:00", "20:00")
+                ));
+
+        List<HorarioDisponivelDTO> horarios = buscaHorariosService.buscarPrimeirosHorarios(
+                60, DIA.toString(), DIA.plusDays(6).toString(), null, null, 2);
+
+        assertEquals(2, horarios.size());
+        assertEquals(2L, horarios.get(0).getSalaId());
+        assertEquals(DIA.toString(), horarios.get(0).getData());
+        assertEquals("20:00", horarios.get(0).getHoraInicio());
+        assertEquals(1L, horarios.get(1).getSalaId());
+        assertEquals(DIA.plusDays(1).toString(), horarios.get(1).getData());
+        assertEquals("07:00", horarios.get(1).getHoraInicio());
+    }
+
+    @Test
+    void deveUsarOIndiceQuandoEleCobreOPeriodo() {
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(intervalo(1L, DIA, "07:00", "13:15")));
+        indiceDisponibilidade.reconstruir();
+        when(salaRepository.findCandidatas(StatusSala.ATIVA, 1, null)).thenReturn(List.of(sala(1L, 30)));
+
+        List<HorarioDisponivelDTO> horarios = buscaHorariosService.buscarPrimeirosHorarios(
+                30, DIA.toString(), DIA.toString(), null, null, 1);
+
+        assertEquals("13:15", horarios.get(0).getHoraInicio());
+        verify(reservaRepository, never()).findIntervalosPorSalasEPeriodo(any(), any(), any(), any());
+    }
+
+    @Test
+    void naoDevePermitirDuracaoMaiorQueOExpediente() {
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> buscaHorariosService.buscarPrimeirosHorarios(
+                        16 * 60, DIA.toString(), DIA.toString(), null, null, null));
+
+        assertEquals("A duração deve ser de 1 a 900 minutos.", ex.getMessage());
+        verifyNoInteractions(salaRepository, reservaRepository);
+    }
+
+    @Test
+    void naoDevePermitirPeriodoMaiorQueOLimite() {
+        assertThrows(RegraNegocioException.class,
+                () -> buscaHorariosService.buscarPrimeirosHorarios(
+                        60, DIA.toString(), DIA.plusDays(31).toString(), null, null, null));
+    }
+
+    private static SalaResponseDTO sala(Long id, int capacidade) {
+        return SalaResponseDTO.builder()
+                .id(id)
+                .nome("Sala " + id)
+                .tipo(TipoSala.LABORATORIO)
+                .capacidade(capacidade)
+                .status(StatusSala.ATIVA)
+                .build();
+    }
+
+    private static IntervaloReservaDTO intervalo(Long salaId, LocalDate data, String inicio, String fim) {
+        return new IntervaloReservaDTO(null, salaId, data,
+                LocalTime.parse(inicio), LocalTime.parse(fim));
+    }
+}
@@ -0,0 +1,129 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservas.facisa.config.CacheReferenciaConfig;
+import com.reservas.facisa.dto.EstatisticaCacheDTO;
+import com.reservas.facisa.dto.SalaRequestDTO;
+import com.reservas.facisa.dto.UsuarioRequestDTO;
+import com.reservas.facisa.exception.RecursoNaoEncontradoException;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.support.CapturadorSql;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cache_referencia",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.reservas.facisa.support.CapturadorSql"
+})
+class CacheReferenciaTest {
+
+    @Autowired
+    private SalaService salaService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private EstatisticasCacheService estatisticasCacheService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deveServirSalaDoCacheComoEntidadeGerenciada() {
+        Long id = salaService.criar(salaRequest("Sala Cache 1")).getId();
+        salaService.buscarEntityPorId(id);
+        long acertosAntes = estatisticas(CacheReferenciaConfig.REGIAO_SALAS).getAcertos();
+
+        CapturadorSql.limpar();
+        transactionTemplate.executeWithoutResult(status -> {
+            Sala sala = salaService.buscarEntityPorId(id);
+            assertTrue(entityManager.contains(sala));
+            assertEquals("Sala Cache 1", sala.getNome());
+        });
+
+        assertTrue(CapturadorSql.comandos().stream().noneMatch(sql -> sql.contains("salas")),
+                () -> "Consulta inesperada: " + CapturadorSql.comandos());
+        assertEquals(acertosAntes + 1, estatisticas(CacheReferenciaConfig.REGIAO_SALAS).getAcertos());
+    }
+
+    @Test
+    void aquecimentoDeveColocarAsSalasAtivasNoCache() {
+        Long id = salaService.criar(salaRequest("Sala Cache Aquecida")).getId();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        assertTrue(salaService.aquecerCache() >= 1);
+
+        assertTrue(entityManager.getEntityManagerFactory().getCache().contains(Sala.class, id));
+    }
+
+    @Test
+    void atualizarSalaDeveSubstituirAEntradaDoCache() {
+        Long id = salaService.criar(salaRequest("Sala Cache 2")).getId();
+        salaService.buscarEntityPorId(id);
+
+        salaService.atualizar(id, salaRequest("Sala Cache 2 Reformada"));
+
+        assertEquals("Sala Cache 2 Reformada", salaService.buscarEntityPorId(id).getNome());
+    }
+
+    @Test
+    void removerSalaDeveInvalidarAEntradaDoCache() {
+        Long id = salaService.criar(salaRequest("Sala Cache 3")).getId();
+        salaService.buscarEntityPorId(id);
+
+        salaService.remover(id);
+
+        assertThrows(RecursoNaoEncontradoException.class, () -> salaService.buscarEntityPorId(id));
+    }
+
+    @Test
+    void atualizarERemoverUsuarioDevemInvalidarAEntradaDoCache() {
+        Long id = usuarioService.criar(usuarioRequest("Usuário Cache", "cache@facisa.edu")).getId();
+        usuarioService.buscarEntityPorId(id);
+
+        usuarioService.atualizar(id, usuarioRequest("Usuário Cache Renomeado", "cache@facisa.edu"));
+        Usuario atualizado = usuarioService.buscarEntityPorId(id);
+        assertEquals("Usuário Cache Renomeado", atualizado.getNome());
+
+        usuarioService.remover(id);
+        assertThrows(RecursoNaoEncontradoException.class, () -> usuarioService.buscarEntityPorId(id));
+    }
+
+    private EstatisticaCacheDTO estatisticas(String regiao) {
+        return estatisticasCacheService.listar().stream()
+                .filter(e -> e.getRegiao().equals(regiao))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SalaRequestDTO salaRequest(String nome) {
+        SalaRequestDTO dto = new SalaRequestDTO();
+        dto.setNome(nome);
+        dto.setTipo(TipoSala.SALA_AULA);
+        dto.setCapacidade(40);
+        dto.setStatus(StatusSala.ATIVA);
+        return dto;
+    }
+
+    private static UsuarioRequestDTO usuarioRequest(String nome, String email) {
+        UsuarioRequestDTO dto = new UsuarioRequestDTO();
+        dto.setNome(nome);
+        dto.setEmail(email);
+        return dto;
+    }
+}
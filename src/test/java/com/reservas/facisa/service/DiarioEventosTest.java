@@ -0,0 +1,72 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.model.EventoDominio;
+import com.reservas.facisa.model.EventoDominio.SalaInativada;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class DiarioEventosTest {
+
+    private final List<Object> entregues = new ArrayList<>();
+
+    private final DiarioEventos diario = new DiarioEventos(entregues::add, new EventosProperties(3));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deveEntregarSomenteDepoisDoCommitNumerandoEmOrdem() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        diario.publicar(List.of(new SalaInativada(0, 1L), new SalaInativada(0, 2L)));
+        assertTrue(entregues.isEmpty());
+        assertEquals(0, diario.ultimaSequencia());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of(new SalaInativada(1, 1L), new SalaInativada(2, 2L)), entregues);
+        assertEquals(2, diario.ultimaSequencia());
+    }
+
+    @Test
+    void deveDescartarEventosDeTransacaoDesfeita() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        diario.publicar(new SalaInativada(0, 1L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(entregues.isEmpty());
+        assertEquals(0, diario.ultimaSequencia());
+    }
+
+    @Test
+    void deveReaplicarAPartirDoCheckpointEnquantoODiarioRetemOsEventos() {
+        diario.publicar(new SalaInativada(0, 1L));
+        long checkpoint = diario.ultimaSequencia();
+        diario.publicar(new SalaInativada(0, 2L));
+        diario.publicar(new SalaInativada(0, 3L));
+
+        assertEquals(List.<EventoDominio>of(new SalaInativada(2, 2L), new SalaInativada(3, 3L)),
+                diario.desde(checkpoint, diario.ultimaSequencia()).orElseThrow());
+        assertEquals(List.of(), diario.desde(3, 3).orElseThrow());
+
+        diario.publicar(new SalaInativada(0, 4L));
+        diario.publicar(new SalaInativada(0, 5L));
+
+        assertTrue(diario.desde(checkpoint, diario.ultimaSequencia()).isEmpty());
+        assertEquals(3, diario.desde(2, 5).orElseThrow().size());
+    }
+}
@@ -0,0 +1,109 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.exception.RegraNegocioException;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:exportacao_reservas",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class ExportacaoReservaServiceTest {
+
+    private static final LocalDate DATA = LocalDate.of(2030, 3, 4);
+
+    @Autowired
+    private ExportacaoReservaService exportacaoReservaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM reservas");
+        jdbcTemplate.update("DELETE FROM salas");
+        jdbcTemplate.update("DELETE FROM usuarios");
+
+        jdbcTemplate.update("INSERT INTO usuarios (id, nome, email) VALUES (1, 'Silva, \"Prof.\" João', 'joao@facisa.edu')");
+        jdbcTemplate.update("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (1, 'Lab 1', 'LABORATORIO', 20, 'ATIVA')");
+
+        inserir(1, DATA, "10:00", "Aula\nprática", "ATIVA");
+        inserir(2, DATA, "08:00", "Reposição", "CANCELADA");
+        inserir(3, DATA.plusDays(1), "07:00", "Prova", "ATIVA");
+        inserir(4, DATA.plusDays(2), "07:00", "Fora do período", "ATIVA");
+    }
+
+    @Test
+    void deveExportarNdjsonNaOrdemDeDataEHora() {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long linhas = exportacaoReservaService.exportar(DATA, DATA.plusDays(1), FormatoExportacao.NDJSON, saida);
+
+        List<String> registros = saida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, linhas);
+        assertEquals(3, registros.size());
+
+        List<JsonNode> nos = registros.stream().map(objectMapper::readTree).toList();
+        assertEquals(List.of(2L, 1L, 3L), nos.stream().map(n -> n.get("id").asLong()).toList());
+        assertEquals("Silva, \"Prof.\" João", nos.get(1).get("usuarioNome").asString());
+        assertEquals("Aula\nprática", nos.get(1).get("motivo").asString());
+        assertEquals("10:00", nos.get(1).get("horaInicio").asString());
+        assertEquals("CANCELADA", nos.get(0).get("status").asString());
+    }
+
+    @Test
+    void deveExportarCsvComCamposEscapados() {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        exportacaoReservaService.exportar(DATA, DATA, FormatoExportacao.CSV, saida);
+
+        assertEquals("""
+                id,usuarioId,usuarioNome,salaId,salaNome,data,horaInicio,horaFim,motivo,status
+                2,1,"Silva, ""Prof."" João",1,Lab 1,2030-03-04,08:00,09:00,Reposição,CANCELADA
+                1,1,"Silva, ""Prof."" João",1,Lab 1,2030-03-04,10:00,11:00,"Aula
+                prática",ATIVA
+                """, saida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void deveRejeitarPeriodoInvertido() {
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> exportacaoReservaService.exportar(DATA, DATA.minusDays(1), FormatoExportacao.CSV, new ByteArrayOutputStream()));
+
+        assertEquals("A data final deve ser igual ou posterior à data inicial.", ex.getMessage());
+    }
+
+    @Test
+    void deveRejeitarDataEmFormatoInvalido() {
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> exportacaoReservaService.lerData("2030-02-30"));
+
+        assertEquals("Data em formato inválido. Use yyyy-MM-dd.", ex.getMessage());
+        assertEquals(DATA, exportacaoReservaService.lerData("2030-03-04"));
+    }
+
+    private void inserir(long id, LocalDate data, String horaInicio, String motivo, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO reservas (id, usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (?, 1, 1, ?, ?, DATEADD(HOUR, 1, CAST(? AS TIME)), ?, ?, CURRENT_TIMESTAMP)
+                """, id, data, horaInicio, horaInicio, motivo, status);
+    }
+}
@@ -0,0 +1,191 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+import com.reservas.facisa.config.AquecimentoProperties;
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.model.EventoDominio;
+import com.reservas.facisa.model.EventoDominio.ReservaAlterada;
+import com.reservas.facisa.model.EventoDominio.ReservaCancelada;
+import com.reservas.facisa.model.EventoDominio.ReservaCriada;
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IndiceDisponibilidadeTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    private IndiceDisponibilidade indice;
+    private DiarioEventos diario;
+
+    private Sala sala;
+    private LocalDate amanha;
+
+    @BeforeEach
+    void setUp() {
+        diario = new DiarioEventos(evento -> indice.aplicar((EventoDominio) evento), new EventosProperties(100));
+        indice = new IndiceDisponibilidade(reservaRepository, diario, new AquecimentoProperties(true, 180));
+
+        sala = Sala.builder()
+                .id(10L)
+                .nome("Sala 101")
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(40)
+                .status(StatusSala.ATIVA)
+                .build();
+
+        amanha = LocalDate.now().plusDays(1);
+    }
+
+    @Test
+    void naoDeveCobrirDatasAntesDeSerCarregado() {
+        assertFalse(indice.cobre(amanha));
+    }
+
+    @Test
+    void deveResponderDisponibilidadeAposReconstruir() {
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(
+                        new IntervaloReservaDTO(1L, 10L, amanha, LocalTime.of(14, 0), LocalTime.of(16, 0)),
+                        new IntervaloReservaDTO(2L, 10L, amanha, LocalTime.of(8, 0), LocalTime.of(10, 0))
+                ));
+
+        indice.reconstruir();
+
+        assertTrue(indice.cobre(amanha));
+        assertFalse(indice.estaLivre(10L, amanha, LocalTime.of(9, 0), LocalTime.of(11, 0)));
+        assertFalse(indice.estaLivre(10L, amanha, LocalTime.of(15, 0), LocalTime.of(15, 30)));
+        assertTrue(indice.estaLivre(10L, amanha, LocalTime.of(10, 0), LocalTime.of(14, 0)));
+        assertTrue(indice.estaLivre(20L, amanha, LocalTime.of(9, 0), LocalTime.of(11, 0)));
+    }
+
+    @Test
+    void deveManterIndiceSincronizadoComCriacaoAlteracaoECancelamento() {
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+        indice.reconstruir();
+
+        Reserva reserva = reserva(5L, amanha, LocalTime.of(10, 0));
+
+        diario.publicar(ReservaCriada.de(reserva));
+        assertFalse(indice.estaLivre(10L, amanha, LocalTime.of(11, 0), LocalTime.of(13, 0)));
+
+        reserva.setData(amanha.plusDays(1));
+        diario.publicar(ReservaAlterada.de(reserva, 10L, amanha));
+        assertTrue(indice.estaLivre(10L, amanha, LocalTime.of(11, 0), LocalTime.of(13, 0)));
+        assertFalse(indice.estaLivre(10L, amanha.plusDays(1), LocalTime.of(11, 0), LocalTime.of(13, 0)));
+
+        diario.publicar(ReservaCancelada.de(reserva));
+        assertTrue(indice.estaLivre(10L, amanha.plusDays(1), LocalTime.of(11, 0), LocalTime.of(13, 0)));
+    }
+
+    @Test
+    void deveCobrirApenasAJanelaConfigurada() {
+        LocalDate hoje = LocalDate.now();
+        IndiceDisponibilidade semanal = new IndiceDisponibilidade(reservaRepository,
+                new DiarioEventos(evento -> { }, new EventosProperties(100)), new AquecimentoProperties(true, 7));
+        when(reservaRepository.findIntervalosPorPeriodo(hoje, hoje.plusDays(7), StatusReserva.ATIVA))
+                .thenReturn(Collections.emptyList());
+
+        semanal.reconstruir();
+
+        assertTrue(semanal.cobre(hoje, hoje.plusDays(7)));
+        assertFalse(semanal.cobre(hoje.plusDays(8)));
+        assertFalse(semanal.cobre(amanha, hoje.plusDays(8)));
+
+        semanal.aplicar(ReservaCriada.de(reserva(9L, hoje.plusDays(30), LocalTime.of(10, 0))).comSequencia(1));
+        assertEquals(0, semanal.doDia(10L, hoje.plusDays(30)).length);
+    }
+
+    @Test
+    void deveCorrigirDivergenciasNaVerificacaoDeConsistencia() {
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+        indice.reconstruir();
+
+        Reserva reservaNoBanco = Reserva.builder()
+                .id(7L)
+                .sala(sala)
+                .data(amanha)
+                .horaInicio(LocalTime.of(8, 0))
+                .horaFim(LocalTime.of(9, 0))
+                .status(StatusReserva.ATIVA)
+                .build();
+
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(new IntervaloReservaDTO(7L, 10L, amanha, LocalTime.of(8, 0), LocalTime.of(9, 0))));
+        when(reservaRepository.findBySalaIdAndDataAndStatus(10L, amanha, StatusReserva.ATIVA))
+                .thenReturn(List.of(reservaNoBanco));
+
+        assertEquals(1, indice.verificarConsistencia());
+        assertFalse(indice.estaLivre(10L, amanha, LocalTime.of(8, 30), LocalTime.of(9, 30)));
+        assertEquals(0, indice.verificarConsistencia());
+    }
+
+    @Test
+    void deveReaplicarOsEventosEntreguesDuranteACarga() {
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenAnswer(invocacao -> {
+                    diario.publicar(ReservaCriada.de(reserva(3L, amanha, LocalTime.of(8, 0))));
+                    return List.of();
+                });
+
+        indice.reconstruir();
+
+        assertFalse(indice.estaLivre(10L, amanha, LocalTime.of(8, 30), LocalTime.of(9, 0)));
+    }
+
+    @Test
+    void deveRecarregarQuandoODiarioNaoRetemTodosOsEventosDaCarga() {
+        diario = new DiarioEventos(evento -> indice.aplicar((EventoDominio) evento), new EventosProperties(2));
+        indice = new IndiceDisponibilidade(reservaRepository, diario, new AquecimentoProperties(true, 180));
+
+        IntervaloReservaDTO noBanco = new IntervaloReservaDTO(3L, 10L, amanha, LocalTime.of(14, 0), LocalTime.of(15, 0));
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenAnswer(invocacao -> {
+                    for (long id = 1; id <= 3; id++) {
+                        diario.publicar(ReservaCriada.de(reserva(id, amanha, LocalTime.of(7 + (int) id, 0))));
+                    }
+                    return List.of();
+                })
+                .thenReturn(List.of(noBanco));
+
+        indice.reconstruir();
+
+        verify(reservaRepository, times(2))
+                .findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA));
+        assertEquals(1, indice.doDia(10L, amanha).length);
+    }
+
+    private Reserva reserva(Long id, LocalDate data, LocalTime inicio) {
+        return Reserva.builder()
+                .id(id)
+                .usuario(Usuario.builder().id(1L).build())
+                .sala(sala)
+                .data(data)
+                .horaInicio(inicio)
+                .horaFim(inicio.plusHours(2))
+                .status(StatusReserva.ATIVA)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.model.EventoDominio;
+import com.reservas.facisa.model.EventoDominio.SalaAlterada;
+import com.reservas.facisa.model.EventoDominio.SalaInativada;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.repository.SalaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IndiceSalasTest {
+
+    @Mock
+    private SalaRepository salaRepository;
+
+    private IndiceSalas indice;
+    private DiarioEventos diario;
+
+    @BeforeEach
+    void setUp() {
+        diario = new DiarioEventos(evento -> indice.aplicar((EventoDominio) evento), new EventosProperties(100));
+        indice = new IndiceSalas(salaRepository, diario);
+    }
+
+    @Test
+    void naoDeveEstarCarregadoAntesDeReconstruir() {
+        assertFalse(indice.carregado());
+    }
+
+    @Test
+    void deveFiltrarPorTipoECapacidadeMinima() {
+        carregar(
+                new SalaResponseDTO(1L, "Lab 1", TipoSala.LABORATORIO, 20, StatusSala.ATIVA),
+                new SalaResponseDTO(2L, "Lab 2", TipoSala.LABORATORIO, 40, StatusSala.ATIVA),
+                new SalaResponseDTO(3L, "Sala 3", TipoSala.SALA_AULA, 40, StatusSala.ATIVA),
+                new SalaResponseDTO(4L, "Lab 4", TipoSala.LABORATORIO, 30, StatusSala.ATIVA),
+                new SalaResponseDTO(5L, "Lab 5", TipoSala.LABORATORIO, 90, StatusSala.INATIVA)
+        );
+
+        assertTrue(indice.carregado());
+        assertEquals(List.of(2L, 4L), ids(indice.candidatas(TipoSala.LABORATORIO, 30)));
+        assertEquals(List.of(2L, 3L), ids(indice.candidatas(null, 40)));
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(indice.candidatas(null, 0)));
+        assertTrue(indice.candidatas(TipoSala.AUDITORIO, 0).isEmpty());
+    }
+
+    @Test
+    void deveRefletirCriacaoAlteracaoERemocaoDeSalas() {
+        carregar(new SalaResponseDTO(1L, "Lab 1", TipoSala.LABORATORIO, 20, StatusSala.ATIVA));
+
+        Sala auditorio = Sala.builder()
+                .id(2L)
+                .nome("Auditório")
+                .tipo(TipoSala.AUDITORIO)
+                .capacidade(200)
+                .status(StatusSala.ATIVA)
+                .build();
+        diario.publicar(SalaAlterada.de(auditorio));
+        assertEquals(List.of(2L), ids(indice.candidatas(null, 100)));
+
+        auditorio.setTipo(TipoSala.OUTRO);
+        auditorio.setCapacidade(80);
+        diario.publicar(SalaAlterada.de(auditorio));
+        assertTrue(indice.candidatas(TipoSala.AUDITORIO, 0).isEmpty());
+        assertEquals(List.of(2L), ids(indice.candidatas(TipoSala.OUTRO, 80)));
+
+        auditorio.setStatus(StatusSala.INATIVA);
+        diario.publicar(List.of(SalaAlterada.de(auditorio), new SalaInativada(0, 2L)));
+        assertEquals(List.of(1L), ids(indice.candidatas(null, 0)));
+
+        diario.publicar(new SalaInativada(0, 1L));
+        assertTrue(indice.candidatas(null, 0).isEmpty());
+    }
+
+    @Test
+    void deveReaplicarOsEventosEntreguesDuranteACarga() {
+        when(salaRepository.listarResumoOrdenadoPorId()).thenAnswer(invocacao -> {
+            diario.publicar(new SalaInativada(0, 1L));
+            return List.of(
+                    new SalaResponseDTO(1L, "Lab 1", TipoSala.LABORATORIO, 20, StatusSala.ATIVA),
+                    new SalaResponseDTO(2L, "Lab 2", TipoSala.LABORATORIO, 40, StatusSala.ATIVA));
+        });
+
+        indice.reconstruir();
+
+        assertEquals(List.of(2L), ids(indice.candidatas(null, 0)));
+    }
+
+    private void carregar(SalaResponseDTO... salas) {
+        when(salaRepository.listarResumoOrdenadoPorId()).thenReturn(List.of(salas));
+        indice.reconstruir();
+    }
+
+    private static List<Long> ids(List<SalaResponseDTO> salas) {
+        return salas.stream().map(SalaResponseDTO::getId).toList();
+    }
+}
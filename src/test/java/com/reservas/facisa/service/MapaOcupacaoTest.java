@@ -0,0 +1,52 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+class MapaOcupacaoTest {
+
+    @Test
+    void deveDetectarSobreposicaoNasBordasDosIntervalos() {
+        MapaOcupacao mapa = MapaOcupacao.de(new IndiceDisponibilidade.Intervalo[] {
+                intervalo(1L, "08:00", "10:00"),
+                intervalo(2L, "14:30", "16:00")
+        });
+
+        assertTrue(mapa.ocupado(LocalTime.of(9, 59), LocalTime.of(10, 30)));
+        assertTrue(mapa.ocupado(LocalTime.of(7, 0), LocalTime.of(8, 1)));
+        assertTrue(mapa.ocupado(LocalTime.of(9, 0), LocalTime.of(15, 0)));
+        assertFalse(mapa.ocupado(LocalTime.of(10, 0), LocalTime.of(14, 30)));
+        assertFalse(mapa.ocupado(LocalTime.of(7, 0), LocalTime.of(8, 0)));
+        assertFalse(mapa.ocupado(LocalTime.of(16, 0), LocalTime.of(23, 59)));
+    }
+
+    @Test
+    void deveTratarIntervalosQueCruzamOuTerminamNoLimiteDeUmaPalavra() {
+        // 64 minutos por palavra: 01:04 e 02:08 são os limites da segunda palavra.
+        MapaOcupacao mapa = MapaOcupacao.de(new IndiceDisponibilidade.Intervalo[] {
+                intervalo(1L, "01:04", "02:08"),
+                intervalo(2L, "23:00", "23:59")
+        });
+
+        assertTrue(mapa.ocupado(0, 65));
+        assertTrue(mapa.ocupado(127, 128));
+        assertFalse(mapa.ocupado(0, 64));
+        assertFalse(mapa.ocupado(128, 23 * 60));
+        assertTrue(mapa.ocupado(0, MapaOcupacao.MINUTOS_POR_DIA));
+        assertTrue(mapa.ocupado(1438, 1439));
+        assertFalse(mapa.ocupado(1439, MapaOcupacao.MINUTOS_POR_DIA));
+    }
+
+    @Test
+    void mapaVazioNaoDeveTerMinutosOcupados() {
+        assertFalse(MapaOcupacao.VAZIO.ocupado(0, MapaOcupacao.MINUTOS_POR_DIA));
+        assertFalse(MapaOcupacao.de(new IndiceDisponibilidade.Intervalo[0]).ocupado(LocalTime.MIN, LocalTime.of(23, 59)));
+    }
+
+    private static IndiceDisponibilidade.Intervalo intervalo(Long reservaId, String inicio, String fim) {
+        return new IndiceDisponibilidade.Intervalo(reservaId, LocalTime.parse(inicio), LocalTime.parse(fim));
+    }
+}
@@ -0,0 +1,29 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.reservas.facisa.exception.CategoriaRegra;
+import com.reservas.facisa.exception.RegraNegocioException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MetricasNegocioTest {
+
+    @Test
+    void deveContarRejeicoesPelaCategoriaDaExcecaoENaoPelaMensagem() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MetricasNegocio metricas = new MetricasNegocio(registry);
+
+        metricas.registrarRejeicao(new RegraNegocioException(CategoriaRegra.CONFLITO_HORARIO,
+                "Já existe uma reserva para essa sala nesse horário."));
+        metricas.registrarRejeicao(new RegraNegocioException(CategoriaRegra.CONFLITO_HORARIO,
+                "Horário ocupado por outra reserva."));
+        metricas.registrarRejeicao(new RegraNegocioException(CategoriaRegra.SALA_INATIVA,
+                "Já existe uma reserva, mas a sala está inativa."));
+
+        assertEquals(2.0, registry.counter("facisa.regras.rejeicoes", "categoria", "conflito_horario").count());
+        assertEquals(1.0, registry.counter("facisa.regras.rejeicoes", "categoria", "sala_inativa").count());
+    }
+}
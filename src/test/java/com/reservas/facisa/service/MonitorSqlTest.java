@@ -0,0 +1,51 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.reservas.facisa.config.MonitorSqlProperties;
+import com.reservas.facisa.dto.EstatisticaSqlDTO;
+import org.junit.jupiter.api.Test;
+
+class MonitorSqlTest {
+
+    private static final long MS = 1_000_000;
+
+    private final MonitorSql monitor = new MonitorSql(new MonitorSqlProperties(true, Duration.ofMillis(50), 0, false, 2));
+
+    @Test
+    void deveUnirEspacosEListasInDeQualquerTamanhoNoMesmoFormato() {
+        assertEquals("select * from salas where id in (?, ...) and status=?",
+                MonitorSql.formato("select *\n   from salas\twhere id in (?,?,?) and status=?"));
+
+        monitor.registrar("select s from salas s where s.id in (?, ?)", 10 * MS, 2, new Object[0], 0, null);
+        monitor.registrar("select s from salas s where s.id in (?,?,?,?)", 60 * MS, 4, new Object[0], 0, null);
+
+        EstatisticaSqlDTO estatistica = monitor.listar(10).get(0);
+        assertEquals("select s from salas s where s.id in (?, ...)", estatistica.getSql());
+        assertEquals(2, estatistica.getExecucoes());
+        assertEquals(6, estatistica.getLinhas());
+        assertEquals(1, estatistica.getLentas());
+        assertEquals(70.0, estatistica.getTempoTotalMs());
+        assertEquals(35.0, estatistica.getTempoMedioMs());
+        assertEquals(60.0, estatistica.getTempoMaximoMs());
+    }
+
+    @Test
+    void deveAgruparFormatosAlemDoMaximoEOrdenarPorTempoTotal() {
+        monitor.registrar("select 1", 5 * MS, 1, new Object[0], 0, null);
+        monitor.registrar("select 2", 1 * MS, 1, new Object[0], 0, null);
+        monitor.registrar("select 3", 7 * MS, 1, new Object[0], 0, null);
+        monitor.registrar("select 4", 8 * MS, 1, new Object[0], 0, null);
+
+        List<EstatisticaSqlDTO> estatisticas = monitor.listar(10);
+        assertEquals(List.of(MonitorSql.OUTROS, "select 1", "select 2"),
+                estatisticas.stream().map(EstatisticaSqlDTO::getSql).toList());
+        assertEquals(2, estatisticas.get(0).getExecucoes());
+
+        monitor.limpar();
+        assertTrue(monitor.listar(10).isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.reservas.facisa.service;
+
+import com.reservas.facisa.config.AquecimentoProperties;
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.dto.GradeOcupacaoDTO;
+import com.reservas.facisa.dto.GradeOcupacaoSalaDTO;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SalaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OcupacaoSalasServiceTest {
+
+    private static final LocalDate SEGUNDA = LocalDate.of(2026, 3, 2);
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private SalaRepository salaRepository;
+
+    private IndiceDisponibilidade indiceDisponibilidade;
+    private OcupacaoSalasService ocupacaoSalasService;
+
+    @BeforeEach
+    void setUp() {
+        indiceDisponibilidade = new IndiceDisponibilidade(reservaRepository,
+                new DiarioEventos(evento -> { }, new EventosProperties(100)), new AquecimentoProperties(true, 180));
+        ocupacaoSalasService = new OcupacaoSalasService(reservaRepository, salaRepository, indiceDisponibilidade);
+    }
+
+    @Test
+    void deveMarcarFaixasOcupadasPorSalaEDia() {
+        when(salaRepository.listarResumoOrdenadoPorId()).thenReturn(List.of(sala(1L), sala(2L)));
+        when(reservaRepository.findIntervalosPorPeriodo(SEGUNDA, SEGUNDA.plusDays(1), StatusReserva.ATIVA))
+                .thenReturn(List.of(
+                        intervalo(1L, SEGUNDA, "00:00", "02:00"),
+                        intervalo(1L, SEGUNDA.plusDays(1), "10:10", "10:40"),
+                        intervalo(2L, SEGUNDA.plusDays(1), "22:00", "23:59"),
+                        intervalo(99L, SEGUNDA, "08:00", "09:00")
+                ));
+
+        GradeOcupacaoDTO grade = ocupacaoSalasService.gerarGrade("2026-03-02", "2026-03-03", null);
+
+        assertEquals(30, grade.getMinutosPorFaixa());
+        assertEquals(48, grade.getFaixasPorDia());
+        assertEquals(2, grade.getSalas().size());
+
+        GradeOcupacaoSalaDTO sala1 = grade.getSalas().get(0);
+        // 00:00–02:00 ocupa as quatro primeiras faixas.
+        assertEquals("f00000000000", sala1.getOcupacao().get(0));
+        // 10:10–10:40 toca as faixas 10:00 e 10:30 (20 e 21).
+        assertEquals("00000c000000", sala1.getOcupacao().get(1));
+
+        GradeOcupacaoSalaDTO sala2 = grade.getSalas().get(1);
+        assertEquals("000000000000", sala2.getOcupacao().get(0));
+        assertEquals("00000000000f", sala2.getOcupacao().get(1));
+    }
+
+    @Test
+    void deveAjustarTamanhoDaMascaraAoTamanhoDaFaixa() {
+        when(salaRepository.listarResumoOrdenadoPorId()).thenReturn(List.of(sala(1L)));
+        when(reservaRepository.findIntervalosPorPeriodo(SEGUNDA, SEGUNDA, StatusReserva.ATIVA))
+                .thenReturn(List.of(intervalo(1L, SEGUNDA, "07:00", "08:00")));
+
+        GradeOcupacaoDTO grade = ocupacaoSalasService.gerarGrade("2026-03-02", "2026-03-02", 60);
+
+        assertEquals(24, grade.getFaixasPorDia());
+        assertEquals("010000", grade.getSalas().get(0).getOcupacao().get(0));
+    }
+
+    @Test
+    void deveMontarGradeDoIndiceQuandoEleCobreOPeriodo() {
+        LocalDate amanha = LocalDate.now().plusDays(1);
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(
+                        new IntervaloReservaDTO(10L, 1L, amanha, LocalTime.of(8, 0), LocalTime.of(9, 0)),
+                        new IntervaloReservaDTO(11L, 1L, amanha.plusDays(1), LocalTime.of(23, 0), LocalTime.of(23, 30))
+                ));
+        indiceDisponibilidade.reconstruir();
+        when(salaRepository.listarResumoOrdenadoPorId()).thenReturn(List.of(sala(1L)));
+
+        GradeOcupacaoDTO grade = ocupacaoSalasService.gerarGrade(
+                amanha.toString(), amanha.plusDays(1).toString(), null);
+
+        assertEquals(List.of("0000c0000000", "000000000002"), grade.getSalas().get(0).getOcupacao());
+        verify(reservaRepository, never()).findIntervalosPorPeriodo(amanha, amanha.plusDays(1), StatusReserva.ATIVA);
+    }
+
+    @Test
+    void naoDevePermitirPeriodoMaiorQueOLimite() {
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> ocupacaoSalasService.gerarGrade("2026-03-01", "2026-04-01", null));
+
+        assertTrue(ex.getMessage().contains("31 dias"));
+        verifyNoInteractions(reservaRepository, salaRepository);
+    }
+
+    @Test
+    void naoDevePermitirDataFinalAnteriorAInicial() {
+        assertThrows(RegraNegocioException.class,
+                () -> ocupacaoSalasService.gerarGrade("2026-03-02", "2026-03-01", null));
+    }
+
+    @Test
+    void naoDevePermitirFaixaForaDosValoresAceitos() {
+        assertThrows(RegraNegocioException.class,
+                () -> ocupacaoSalasService.gerarGrade("2026-03-02", "2026-03-02", 45));
+    }
+
+    private static SalaResponseDTO sala(Long id) {
+        return SalaResponseDTO.builder()
+                .id(id)
+                .nome("Sala " + id)
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(30)
+                .status(StatusSala.ATIVA)
+                .build();
+    }
+
+    private static IntervaloReservaDTO intervalo(Long salaId, LocalDate data, String inicio, String fim) {
+        return new IntervaloReservaDTO(null, salaId, data, LocalTime.parse(inicio), LocalTime.parse(fim));
+    }
+}
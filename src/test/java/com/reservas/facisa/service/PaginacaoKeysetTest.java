@@ -0,0 +1,125 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.dto.PaginaDTO;
+import com.reservas.facisa.dto.ReservaResponseDTO;
+import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.RegraNegocioException;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:paginacao_keyset",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class PaginacaoKeysetTest {
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private SalaService salaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static boolean populado;
+
+    @BeforeEach
+    void setUp() {
+        if (populado) {
+            return;
+        }
+
+        jdbcTemplate.update("INSERT INTO usuarios (id, nome, email) VALUES (1, 'Paginação', 'paginacao@facisa.edu')");
+        for (long id = 1; id <= 23; id++) {
+            jdbcTemplate.update("INSERT INTO salas (id, nome, tipo, capacidade, status) VALUES (?, ?, 'SALA_AULA', 40, 'ATIVA')",
+                    id, "Sala " + id);
+        }
+
+        // Vários registros com a mesma data e hora de início, para exercitar o desempate pelo id.
+        List<Object[]> reservas = new ArrayList<>();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate primeiroDia = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 100; i++) {
+            LocalTime inicio = LocalTime.of(8 + i % 3, 0);
+            reservas.add(new Object[] {
+                    1L + i % 23, Date.valueOf(primeiroDia.plusDays(i % 4)), Time.valueOf(inicio),
+                    Time.valueOf(inicio.plusHours(1)), agora
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservas (usuario_id, sala_id, data_reserva, hora_inicio, hora_fim, motivo, status, criado_em)
+                VALUES (1, ?, ?, ?, ?, 'Paginação', 'ATIVA', ?)
+                """, reservas);
+
+        populado = true;
+    }
+
+    @Test
+    void devePercorrerTodasAsReservasNaOrdemDeDataHoraEId() {
+        List<Long> esperado = jdbcTemplate.queryForList(
+                "SELECT id FROM reservas ORDER BY data_reserva, hora_inicio, id", Long.class);
+
+        List<Long> percorrido = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            PaginaDTO<ReservaResponseDTO> pagina = reservaService.listarPagina(cursor, 7);
+            assertTrue(pagina.getItens().size() <= 7);
+            pagina.getItens().forEach(r -> percorrido.add(r.getId()));
+            cursor = pagina.getProximoCursor();
+            paginas++;
+        } while (cursor != null);
+
+        assertEquals(esperado, percorrido);
+        assertEquals(15, paginas);
+    }
+
+    @Test
+    void devePercorrerTodasAsSalasEmOrdemDeId() {
+        List<Long> percorrido = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaDTO<SalaResponseDTO> pagina = salaService.listarPagina(cursor, 5);
+            pagina.getItens().forEach(s -> percorrido.add(s.getId()));
+            cursor = pagina.getProximoCursor();
+        } while (cursor != null);
+
+        assertEquals(23, percorrido.size());
+        for (int i = 0; i < percorrido.size(); i++) {
+            assertEquals(i + 1L, percorrido.get(i));
+        }
+    }
+
+    @Test
+    void naoDeveInformarProximoCursorQuandoAPaginaCobreTodosOsItens() {
+        PaginaDTO<SalaResponseDTO> pagina = salaService.listarPagina(null, 23);
+
+        assertEquals(23, pagina.getItens().size());
+        assertNull(pagina.getProximoCursor());
+    }
+
+    @Test
+    void deveRejeitarCursorInvalido() {
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> reservaService.listarPagina("nao-e-um-cursor", 10));
+
+        assertEquals("Cursor de paginação inválido.", ex.getMessage());
+    }
+}
@@ -0,0 +1,171 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservas.facisa.dto.ReservaRequestDTO;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.SalaRepository;
+import com.reservas.facisa.repository.UsuarioRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concorrencia_reservas",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class ReservaServiceConcorrenciaTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private SalaRepository salaRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void apenasUmaReservaDeveVencerADisputaPeloMesmoHorario() throws Exception {
+        Usuario usuario = criarUsuario();
+        Sala sala = criarSala();
+        LocalDate data = LocalDate.now().plusDays(10);
+
+        List<ReservaRequestDTO> pedidos = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            pedidos.add(pedido(usuario, sala, data, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        }
+
+        Resultado resultado = executarEmParalelo(pedidos);
+
+        assertTrue(resultado.erros.isEmpty(), () -> "Erros inesperados: " + resultado.erros);
+        assertEquals(1, resultado.sucessos.get());
+        assertEquals(THREADS - 1, resultado.rejeicoes.get());
+        assertEquals(0, contarSobreposicoes());
+    }
+
+    @Test
+    void reservasConcorrentesNaoDevemGerarReservaDupla() throws Exception {
+        Usuario usuario = criarUsuario();
+        List<Sala> salas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            salas.add(criarSala());
+        }
+
+        Random random = new Random(42);
+        LocalDate primeiroDia = LocalDate.now().plusDays(20);
+        List<ReservaRequestDTO> pedidos = new ArrayList<>();
+        for (int i = 0; i < 800; i++) {
+            Sala sala = salas.get(random.nextInt(salas.size()));
+            LocalDate data = primeiroDia.plusDays(random.nextInt(5));
+            LocalTime inicio = LocalTime.of(7 + random.nextInt(13), random.nextBoolean() ? 0 : 30);
+            LocalTime fim = inicio.plusMinutes(30L * (1 + random.nextInt(4)));
+            pedidos.add(pedido(usuario, sala, data, inicio, fim));
+        }
+
+        Resultado resultado = executarEmParalelo(pedidos);
+
+        assertTrue(resultado.erros.isEmpty(), () -> "Erros inesperados: " + resultado.erros);
+        assertEquals(pedidos.size(), resultado.sucessos.get() + resultado.rejeicoes.get());
+        assertEquals(0, contarSobreposicoes());
+    }
+
+    private Resultado executarEmParalelo(List<ReservaRequestDTO> pedidos) throws InterruptedException {
+        Resultado resultado = new Resultado();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (ReservaRequestDTO pedido : pedidos) {
+            executor.submit(() -> {
+                try {
+                    largada.await();
+                    reservaService.criar(pedido);
+                    resultado.sucessos.incrementAndGet();
+                } catch (RegraNegocioException e) {
+                    resultado.rejeicoes.incrementAndGet();
+                } catch (Exception e) {
+                    resultado.erros.add(e);
+                }
+            });
+        }
+
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+        return resultado;
+    }
+
+    private int contarSobreposicoes() {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM reservas a
+                JOIN reservas b
+                  ON a.sala_id = b.sala_id
+                 AND a.data_reserva = b.data_reserva
+                 AND a.id < b.id
+                WHERE a.status = 'ATIVA'
+                  AND b.status = 'ATIVA'
+                  AND a.hora_inicio < b.hora_fim
+                  AND b.hora_inicio < a.hora_fim
+                """, Integer.class);
+    }
+
+    private Usuario criarUsuario() {
+        long sufixo = System.nanoTime();
+        return usuarioRepository.save(Usuario.builder()
+                .nome("Professor " + sufixo)
+                .email("professor" + sufixo + "@facisa.edu")
+                .build());
+    }
+
+    private Sala criarSala() {
+        return salaRepository.save(Sala.builder()
+                .nome("Sala " + System.nanoTime())
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(40)
+                .status(StatusSala.ATIVA)
+                .build());
+    }
+
+    private static ReservaRequestDTO pedido(Usuario usuario, Sala sala, LocalDate data, LocalTime inicio, LocalTime fim) {
+        ReservaRequestDTO dto = new ReservaRequestDTO();
+        dto.setUsuarioId(usuario.getId());
+        dto.setSalaId(sala.getId());
+        dto.setData(data.toString());
+        dto.setHoraInicio(inicio.toString());
+        dto.setHoraFim(fim.toString());
+        dto.setMotivo("Teste de concorrência");
+        return dto;
+    }
+
+    private static class Resultado {
+        private final AtomicInteger sucessos = new AtomicInteger();
+        private final AtomicInteger rejeicoes = new AtomicInteger();
+        private final Queue<Exception> erros = new ConcurrentLinkedQueue<>();
+    }
+}
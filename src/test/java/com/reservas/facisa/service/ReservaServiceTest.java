@@ -4,19 +4,29 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import com.reservas.facisa.config.AquecimentoProperties;
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.config.ReplicaLeituraProperties;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.PaginaDTO;
+import com.reservas.facisa.dto.ReservaLoteRequestDTO;
+import com.reservas.facisa.dto.ReservaLoteResponseDTO;
 import com.reservas.facisa.dto.ReservaRequestDTO;
 import com.reservas.facisa.dto.ReservaResponseDTO;
 import com.reservas.facisa.dto.SalaResponseDTO;
+import com.reservas.facisa.exception.CategoriaRegra;
 import com.reservas.facisa.exception.RegraNegocioException;
 import com.reservas.facisa.exception.RecursoNaoEncontradoException;
 import com.reservas.facisa.mapper.ReservaMapper;
-import com.reservas.facisa.mapper.SalaMapper;
+import com.reservas.facisa.model.EventoDominio;
 import com.reservas.facisa.model.Reserva;
 import com.reservas.facisa.model.Sala;
 import com.reservas.facisa.model.StatusReserva;
@@ -25,12 +35,15 @@ import com.reservas.facisa.model.TipoSala;
 import com.reservas.facisa.model.Usuario;
 import com.reservas.facisa.repository.ReservaRepository;
 import com.reservas.facisa.repository.SalaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class ReservaServiceTest {
@@ -49,8 +62,10 @@ class ReservaServiceTest {
     @Mock
     private SalaRepository salaRepository;
 
-    @Mock
-    private SalaMapper salaMapper;
+    private IndiceDisponibilidade indiceDisponibilidade;
+    private IndiceSalas indiceSalas;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     private ReservaService reservaService;
 
@@ -60,13 +75,23 @@ class ReservaServiceTest {
 
     @BeforeEach
     void setUp() {
+        DiarioEventos diarioEventos = new DiarioEventos(
+                evento -> indiceDisponibilidade.aplicar((EventoDominio) evento), new EventosProperties(100));
+        indiceDisponibilidade = new IndiceDisponibilidade(reservaRepository, diarioEventos, new AquecimentoProperties(true, 180));
+        indiceSalas = new IndiceSalas(salaRepository, diarioEventos);
         reservaService = new ReservaService(
                 reservaRepository,
                 reservaMapper,
                 usuarioService,
                 salaService,
-                salaRepository,
-                salaMapper
+                indiceDisponibilidade,
+                indiceSalas,
+                new TravasReserva(),
+                diarioEventos,
+                new VersoesConsulta(),
+                new MetricasNegocio(meterRegistry),
+                new RoteamentoLeitura(mock(PlatformTransactionManager.class),
+                        new ReplicaLeituraProperties(null, "sa", "", 10, Duration.ofSeconds(5)))
         );
 
         usuario = Usuario.builder()
@@ -200,9 +225,39 @@ class ReservaServiceTest {
         );
 
         assertEquals("Já existe uma reserva para essa sala nesse horário.", ex.getMessage());
+        assertEquals(1.0, meterRegistry.counter("facisa.reservas.conflitos", "origem", "individual").count());
         verify(reservaRepository, never()).save(any());
     }
 
+    @Test
+    void deveValidarConflitoPeloIndiceQuandoEleCobreAData() {
+        LocalDate data = LocalDate.parse(requestFutura.getData());
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(new IntervaloReservaDTO(7L, 10L, data, LocalTime.of(11, 0), LocalTime.of(13, 0))));
+        indiceDisponibilidade.reconstruir();
+
+        when(usuarioService.buscarEntityPorId(1L)).thenReturn(usuario);
+        when(salaService.buscarEntityPorId(10L)).thenReturn(sala);
+
+        RegraNegocioException ex = assertThrows(
+                RegraNegocioException.class,
+                () -> reservaService.criar(requestFutura)
+        );
+        assertEquals("Já existe uma reserva para essa sala nesse horário.", ex.getMessage());
+
+        Reserva alterada = Reserva.builder()
+                .id(7L)
+                .sala(sala)
+                .data(data)
+                .horaInicio(LocalTime.of(10, 0))
+                .horaFim(LocalTime.of(12, 0))
+                .status(StatusReserva.ATIVA)
+                .build();
+        assertDoesNotThrow(() -> reservaService.validarReserva(alterada, 7L));
+
+        verify(reservaRepository, never()).findReservasConflitantes(any(), any(), any(), any(), any());
+    }
+
     @Test
     void deveBuscarReservaPorIdComSucesso() {
         LocalDate data = LocalDate.now().plusDays(3);
@@ -342,7 +397,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void deveListarTodasAsReservas() {
+    void deveListarPrimeiraPaginaDeReservas() {
         Reserva reserva = Reserva.builder()
                 .id(1L)
                 .usuario(usuario)
@@ -354,14 +409,14 @@ class ReservaServiceTest {
                 .status(StatusReserva.ATIVA)
                 .build();
 
-        when(reservaRepository.findAll()).thenReturn(Collections.singletonList(reserva));
+        when(reservaRepository.findPrimeiraPagina(any(Limit.class))).thenReturn(Collections.singletonList(reserva));
 
-        List<ReservaResponseDTO> lista = reservaService.listar();
+        PaginaDTO<ReservaResponseDTO> pagina = reservaService.listarPagina(null, 10);
 
-        assertNotNull(lista);
-        assertEquals(1, lista.size());
-        assertEquals("Sala 101", lista.get(0).getSalaNome());
-        assertEquals("Professor X", lista.get(0).getUsuarioNome());
+        assertEquals(1, pagina.getItens().size());
+        assertEquals("Sala 101", pagina.getItens().get(0).getSalaNome());
+        assertEquals("Professor X", pagina.getItens().get(0).getUsuarioNome());
+        assertNull(pagina.getProximoCursor());
     }
 
     @Test
@@ -405,12 +460,47 @@ class ReservaServiceTest {
 
 
         List<SalaResponseDTO> disponiveis = reservaService.listarSalasDisponiveis(
-                data.toString(), "10:00", "12:00"
+                data.toString(), "10:00", "12:00", null, null
         );
 
         assertNotNull(disponiveis);
     }
 
+    @Test
+    void deveRepassarTipoECapacidadeAoBancoQuandoIndicesNaoEstaoCarregados() {
+        LocalDate data = LocalDate.now().plusDays(5);
+
+        reservaService.listarSalasDisponiveis(data.toString(), "10:00", "12:00", TipoSala.LABORATORIO, 30);
+
+        verify(reservaRepository).findSalasDisponiveis(
+                data, LocalTime.of(10, 0), LocalTime.of(12, 0), TipoSala.LABORATORIO, 30,
+                StatusSala.ATIVA, StatusReserva.ATIVA);
+    }
+
+    @Test
+    void deveFiltrarSalasDisponiveisPorTipoECapacidadePelosIndices() {
+        LocalDate data = LocalDate.now().plusDays(5);
+
+        when(salaRepository.listarResumoOrdenadoPorId()).thenReturn(List.of(
+                new SalaResponseDTO(1L, "Lab 1", TipoSala.LABORATORIO, 20, StatusSala.ATIVA),
+                new SalaResponseDTO(2L, "Lab 2", TipoSala.LABORATORIO, 40, StatusSala.ATIVA),
+                new SalaResponseDTO(3L, "Lab 3", TipoSala.LABORATORIO, 30, StatusSala.ATIVA),
+                new SalaResponseDTO(4L, "Lab 4", TipoSala.LABORATORIO, 50, StatusSala.INATIVA),
+                new SalaResponseDTO(5L, "Sala 5", TipoSala.SALA_AULA, 60, StatusSala.ATIVA),
+                new SalaResponseDTO(6L, "Lab 6", TipoSala.LABORATORIO, 35, StatusSala.ATIVA)
+        ));
+        when(reservaRepository.findIntervalosPorPeriodo(any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(new IntervaloReservaDTO(9L, 6L, data, LocalTime.of(11, 0), LocalTime.of(13, 0))));
+        indiceSalas.reconstruir();
+        indiceDisponibilidade.reconstruir();
+
+        List<SalaResponseDTO> disponiveis = reservaService.listarSalasDisponiveis(
+                data.toString(), "10:00", "12:00", TipoSala.LABORATORIO, 30);
+
+        assertEquals(List.of(2L, 3L), disponiveis.stream().map(SalaResponseDTO::getId).toList());
+        verify(reservaRepository, never()).findSalasDisponiveis(any(), any(), any(), any(), anyInt(), any(), any());
+    }
+
     @Test
     void deveListarReservasPorSalaEDataComResultado() {
         LocalDate data = LocalDate.now().plusDays(2);
@@ -550,4 +640,100 @@ class ReservaServiceTest {
 
 
     
+
+    @Test
+    void deveCriarLoteRejeitandoApenasItensConflitantes() {
+        LocalDate dataFutura = LocalDate.now().plusDays(1);
+
+        ReservaRequestDTO conflitaComBanco = copiar(requestFutura, "09:00", "10:30");
+        ReservaRequestDTO conflitaComLote = copiar(requestFutura, "11:00", "13:00");
+
+        ReservaLoteRequestDTO lote = new ReservaLoteRequestDTO();
+        lote.setReservas(List.of(requestFutura, conflitaComBanco, conflitaComLote));
+
+        when(usuarioService.buscarEntitiesPorIds(anyCollection())).thenReturn(Map.of(1L, usuario));
+        when(salaService.buscarEntitiesPorIds(anyCollection())).thenReturn(Map.of(10L, sala));
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(
+                anyCollection(), eq(dataFutura), eq(dataFutura), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(new IntervaloReservaDTO(99L, 10L, dataFutura, LocalTime.of(8, 0), LocalTime.of(9, 30))));
+
+        ReservaLoteResponseDTO response = reservaService.criarEmLote(lote);
+
+        assertEquals(1, response.getCriadas());
+        assertEquals(2, response.getRejeitadas());
+        assertTrue(response.getItens().get(0).isSucesso());
+        assertEquals("Já existe uma reserva para essa sala nesse horário.", response.getItens().get(1).getErro());
+        assertEquals("Conflita com outra reserva do mesmo lote.", response.getItens().get(2).getErro());
+        assertEquals(2.0, meterRegistry.counter("facisa.reservas.conflitos", "origem", "lote").count());
+        verify(reservaRepository).saveAll(argThat(reservas -> ((List<Reserva>) reservas).size() == 1));
+        verify(reservaRepository, never()).findReservasConflitantes(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void deveContarRejeicoesDeRegraDosItensDoLotePorCategoria() {
+        ReservaRequestDTO horarioInvertido = copiar(requestFutura, "15:00", "14:00");
+        ReservaRequestDTO salaInativa = copiar(requestFutura, "16:00", "17:00");
+        salaInativa.setSalaId(20L);
+
+        Sala inativa = Sala.builder()
+                .id(20L)
+                .nome("Sala Inativa")
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(30)
+                .status(StatusSala.INATIVA)
+                .build();
+
+        ReservaLoteRequestDTO lote = new ReservaLoteRequestDTO();
+        lote.setReservas(List.of(requestFutura, horarioInvertido, salaInativa));
+
+        when(usuarioService.buscarEntitiesPorIds(anyCollection())).thenReturn(Map.of(1L, usuario));
+        when(salaService.buscarEntitiesPorIds(anyCollection())).thenReturn(Map.of(10L, sala, 20L, inativa));
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(
+                anyCollection(), any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+
+        ReservaLoteResponseDTO response = reservaService.criarEmLote(lote);
+
+        assertEquals(1, response.getCriadas());
+        assertEquals(2, response.getRejeitadas());
+        assertEquals(1.0, meterRegistry.counter("facisa.regras.rejeicoes",
+                "categoria", CategoriaRegra.PERIODO.getTag()).count());
+        assertEquals(1.0, meterRegistry.counter("facisa.regras.rejeicoes",
+                "categoria", CategoriaRegra.SALA_INATIVA.getTag()).count());
+    }
+
+    @Test
+    void naoDeveGravarNadaQuandoLoteTudoOuNadaTiverItemInvalido() {
+        ReservaRequestDTO salaInexistente = copiar(requestFutura, "14:00", "15:00");
+        salaInexistente.setSalaId(20L);
+
+        ReservaLoteRequestDTO lote = new ReservaLoteRequestDTO();
+        lote.setReservas(List.of(requestFutura, salaInexistente));
+        lote.setTudoOuNada(true);
+
+        when(usuarioService.buscarEntitiesPorIds(anyCollection())).thenReturn(Map.of(1L, usuario));
+        when(salaService.buscarEntitiesPorIds(anyCollection())).thenReturn(Map.of(10L, sala));
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(
+                anyCollection(), any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+
+        ReservaLoteResponseDTO response = reservaService.criarEmLote(lote);
+
+        assertEquals(0, response.getCriadas());
+        assertEquals(2, response.getRejeitadas());
+        assertEquals("Sala não encontrada.", response.getItens().get(1).getErro());
+        assertFalse(response.getItens().get(0).isSucesso());
+        verify(reservaRepository).saveAll(Collections.emptyList());
+    }
+
+    private static ReservaRequestDTO copiar(ReservaRequestDTO origem, String horaInicio, String horaFim) {
+        ReservaRequestDTO copia = new ReservaRequestDTO();
+        copia.setUsuarioId(origem.getUsuarioId());
+        copia.setSalaId(origem.getSalaId());
+        copia.setData(origem.getData());
+        copia.setHoraInicio(horaInicio);
+        copia.setHoraFim(horaFim);
+        copia.setMotivo(origem.getMotivo());
+        return copia;
+    }
 }
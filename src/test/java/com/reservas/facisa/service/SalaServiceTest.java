@@ -1,10 +1,14 @@
 package com.reservas.facisa.service;
 
+import com.reservas.facisa.config.ReplicaLeituraProperties;
+import com.reservas.facisa.dto.PaginaDTO;
 import com.reservas.facisa.dto.SalaRequestDTO;
 import com.reservas.facisa.dto.SalaResponseDTO;
 import com.reservas.facisa.exception.RegraNegocioException;
 import com.reservas.facisa.exception.RecursoNaoEncontradoException;
 import com.reservas.facisa.mapper.SalaMapper;
+import com.reservas.facisa.model.EventoDominio.SalaAlterada;
+import com.reservas.facisa.model.EventoDominio.SalaInativada;
 import com.reservas.facisa.model.Sala;
 import com.reservas.facisa.model.StatusSala;
 import com.reservas.facisa.model.TipoSala;
@@ -14,14 +18,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +43,16 @@ class SalaServiceTest {
     @Mock
     private SalaMapper salaMapper;
 
+    @Mock
+    private VersoesConsulta versoesConsulta;
+
+    @Mock
+    private DiarioEventos diarioEventos;
+
+    @Spy
+    private RoteamentoLeitura roteamentoLeitura = new RoteamentoLeitura(mock(PlatformTransactionManager.class),
+            new ReplicaLeituraProperties(null, "sa", "", 10, Duration.ofSeconds(5)));
+
     @InjectMocks
     private SalaService salaService;
 
@@ -78,6 +98,7 @@ class SalaServiceTest {
         assertEquals("Sala 101", response.getNome());
         assertEquals(30, response.getCapacidade());
         assertEquals(StatusSala.ATIVA, response.getStatus());
+        verify(diarioEventos).publicar(SalaAlterada.de(salaBase));
     }
 
     @Test
@@ -94,8 +115,9 @@ class SalaServiceTest {
     }
 
     @Test
-    void deveListarSalas() {
-        when(salaRepository.findAll()).thenReturn(Collections.singletonList(salaBase));
+    void deveListarPrimeiraPaginaDeSalas() {
+        when(salaRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(Collections.singletonList(salaBase));
         when(salaMapper.toResponse(salaBase)).thenReturn(
                 SalaResponseDTO.builder()
                         .id(1L)
@@ -106,11 +128,11 @@ class SalaServiceTest {
                         .build()
         );
 
-        List<SalaResponseDTO> response = salaService.listar();
+        PaginaDTO<SalaResponseDTO> response = salaService.listarPagina(null, 10);
 
-        assertNotNull(response);
-        assertEquals(1, response.size());
-        assertEquals("Sala 101", response.get(0).getNome());
+        assertEquals(1, response.getItens().size());
+        assertEquals("Sala 101", response.getItens().get(0).getNome());
+        assertNull(response.getProximoCursor());
     }
 
     @Test
@@ -184,6 +206,40 @@ class SalaServiceTest {
 
         verify(salaRepository).save(salaExistente);
         verify(salaMapper).updateEntityFromDto(dto, salaExistente);
+        verify(diarioEventos).publicar(SalaAlterada.de(salaExistente));
+        verify(versoesConsulta).salaAlterada(salaExistente.getId());
+    }
+
+    @Test
+    void devePublicarSalaInativadaAoInativarSala() {
+        Sala salaExistente = Sala.builder()
+                .id(1L)
+                .nome("Sala 101")
+                .tipo(TipoSala.SALA_AULA)
+                .capacidade(30)
+                .status(StatusSala.ATIVA)
+                .build();
+
+        SalaRequestDTO dto = new SalaRequestDTO();
+        dto.setNome("Sala 101");
+        dto.setTipo(TipoSala.SALA_AULA);
+        dto.setCapacidade(30);
+        dto.setStatus(StatusSala.INATIVA);
+
+        when(salaRepository.findById(1L)).thenReturn(Optional.of(salaExistente));
+        doAnswer(invocacao -> {
+            salaExistente.setStatus(StatusSala.INATIVA);
+            return null;
+        }).when(salaMapper).updateEntityFromDto(dto, salaExistente);
+
+        salaService.atualizar(1L, dto);
+
+        verify(diarioEventos).publicar(List.of(SalaAlterada.de(salaExistente), new SalaInativada(0, 1L)));
+
+        salaService.atualizar(1L, dto);
+
+        verify(diarioEventos).publicar(SalaAlterada.de(salaExistente));
+        verify(diarioEventos, times(1)).publicar(anyList());
     }
 
     @Test
@@ -213,6 +269,7 @@ class SalaServiceTest {
         assertEquals("Já existe outra sala com esse nome.", ex.getMessage());
         verify(salaMapper, never()).updateEntityFromDto(any(), any());
         verify(salaRepository, never()).save(any());
+        verifyNoInteractions(diarioEventos);
     }
 
     @Test
@@ -242,6 +299,8 @@ class SalaServiceTest {
         salaService.remover(1L);
 
         verify(salaRepository).delete(salaBase);
+        verify(diarioEventos).publicar(new SalaInativada(0, 1L));
+        verify(versoesConsulta).salaAlterada(1L);
     }
 
     @Test
@@ -0,0 +1,283 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.reservas.facisa.config.AquecimentoProperties;
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.config.ReplicaLeituraProperties;
+import com.reservas.facisa.dto.IntervaloReservaDTO;
+import com.reservas.facisa.dto.SerieReservaRequestDTO;
+import com.reservas.facisa.dto.SerieReservaResponseDTO;
+import com.reservas.facisa.exception.RegraNegocioException;
+import com.reservas.facisa.mapper.ReservaMapper;
+import com.reservas.facisa.mapper.SerieReservaMapper;
+import com.reservas.facisa.model.Reserva;
+import com.reservas.facisa.model.Sala;
+import com.reservas.facisa.model.SerieReserva;
+import com.reservas.facisa.model.StatusReserva;
+import com.reservas.facisa.model.StatusSala;
+import com.reservas.facisa.model.TipoSala;
+import com.reservas.facisa.model.Usuario;
+import com.reservas.facisa.repository.ReservaRepository;
+import com.reservas.facisa.repository.SerieReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SerieReservaServiceTest {
+
+    @Mock
+    private SerieReservaRepository serieReservaRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private UsuarioService usuarioService;
+
+    @Mock
+    private SalaService salaService;
+
+    private SerieReservaService serieReservaService;
+    private VersoesConsulta versoesConsulta;
+
+    private Usuario usuario;
+    private Sala sala;
+    private LocalDate primeiraData;
+    private SerieReservaRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        versoesConsulta = new VersoesConsulta();
+        serieReservaService = new SerieReservaService(
+                serieReservaRepository,
+                reservaRepository,
+                new SerieReservaMapper(new ReservaMapper()),
+                usuarioService,
+                salaService,
+                new DiarioEventos(evento -> { }, new EventosProperties(100)),
+                new TravasReserva(),
+                versoesConsulta,
+                new RoteamentoLeitura(mock(PlatformTransactionManager.class),
+                        new ReplicaLeituraProperties(null, "sa", "", 10, Duration.ofSeconds(5)))
+        );
+
+        usuario = Usuario.builder()
+                .id(1L)
+                .nome("Professor X")
+                .email("prof@facisa.edu")
+                .build();
+
+        sala = Sala.builder()
+                .id(10L)
+                .nome("Laboratório 1")
+                .tipo(TipoSala.LABORATORIO)
+                .capacidade(30)
+                .status(StatusSala.ATIVA)
+                .build();
+
+        primeiraData = LocalDate.now().plusDays(1);
+
+        request = new SerieReservaRequestDTO();
+        request.setUsuarioId(1L);
+        request.setSalaId(10L);
+        request.setDataInicio(primeiraData.toString());
+        request.setDataFim(primeiraData.plusWeeks(8).toString());
+        request.setHoraInicio("10:00");
+        request.setHoraFim("12:00");
+        request.setMotivo("Laboratório de Redes");
+    }
+
+    @Test
+    void deveExpandirSerieAcadaNSemanasIgnorandoExcecoes() {
+        request.setIntervaloSemanas(2);
+        request.setExcecoes(List.of(primeiraData.plusWeeks(4).toString()));
+
+        when(usuarioService.buscarEntityPorId(1L)).thenReturn(usuario);
+        when(salaService.buscarEntityPorId(10L)).thenReturn(sala);
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(
+                eq(List.of(10L)), eq(primeiraData), eq(primeiraData.plusWeeks(8)), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+
+        SerieReservaResponseDTO response = serieReservaService.criar(request);
+
+        assertEquals(List.of(
+                primeiraData.toString(),
+                primeiraData.plusWeeks(2).toString(),
+                primeiraData.plusWeeks(6).toString(),
+                primeiraData.plusWeeks(8).toString()
+        ), response.getOcorrencias().stream().map(o -> o.getData()).toList());
+
+        verify(serieReservaRepository).save(any(SerieReserva.class));
+        verify(reservaRepository).saveAll(anyList());
+        verify(reservaRepository, never()).findReservasConflitantes(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void deveRejeitarSerieInformandoAsDatasEmConflito() {
+        LocalDate dataOcupada = primeiraData.plusWeeks(3);
+
+        when(usuarioService.buscarEntityPorId(1L)).thenReturn(usuario);
+        when(salaService.buscarEntityPorId(10L)).thenReturn(sala);
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(
+                anyCollection(), any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(
+                        new IntervaloReservaDTO(50L, 10L, dataOcupada, LocalTime.of(11, 0), LocalTime.of(13, 0)),
+                        new IntervaloReservaDTO(51L, 10L, primeiraData.plusDays(1), LocalTime.of(10, 0), LocalTime.of(12, 0))
+                ));
+
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> serieReservaService.criar(request));
+
+        assertEquals("Já existe uma reserva para essa sala nesse horário nas datas: " + dataOcupada + ".", ex.getMessage());
+        verify(reservaRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void naoDeveCriarSerieAcimaDoLimiteDeOcorrencias() {
+        request.setDataFim(primeiraData.plusWeeks(SerieReservaService.MAX_OCORRENCIAS).toString());
+
+        when(usuarioService.buscarEntityPorId(1L)).thenReturn(usuario);
+        when(salaService.buscarEntityPorId(10L)).thenReturn(sala);
+
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> serieReservaService.criar(request));
+
+        assertEquals("A série pode gerar no máximo " + SerieReservaService.MAX_OCORRENCIAS + " ocorrências.", ex.getMessage());
+    }
+
+    @Test
+    void deveAtualizarSerieJaIniciadaGerandoApenasOcorrenciasFuturas() {
+        LocalDate inicioOriginal = LocalDate.now().minusWeeks(3);
+        LocalDate fim = inicioOriginal.plusWeeks(8);
+
+        SerieReserva serie = SerieReserva.builder()
+                .id(3L)
+                .usuario(usuario)
+                .sala(sala)
+                .status(StatusReserva.ATIVA)
+                .build();
+
+        request.setDataInicio(inicioOriginal.toString());
+        request.setDataFim(fim.toString());
+        request.setHoraInicio("14:00");
+        request.setHoraFim("16:00");
+
+        when(serieReservaRepository.findById(3L)).thenReturn(Optional.of(serie));
+        when(usuarioService.buscarEntityPorId(1L)).thenReturn(usuario);
+        when(salaService.buscarEntityPorId(10L)).thenReturn(sala);
+        when(reservaRepository.findIntervalosFuturosDaSerie(
+                eq(3L), any(LocalDate.class), any(LocalTime.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(
+                anyCollection(), any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+
+        serieReservaService.atualizar(3L, request);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Reserva>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservaRepository).saveAll(captor.capture());
+
+        List<LocalDate> datas = captor.getValue().stream().map(Reserva::getData).toList();
+        assertEquals(inicioOriginal, serie.getDataInicio());
+        assertTrue(datas.stream().allMatch(data -> !data.isBefore(LocalDate.now())));
+        assertEquals(fim, datas.get(datas.size() - 1));
+        assertTrue(datas.contains(inicioOriginal.plusWeeks(4)));
+        assertFalse(datas.contains(inicioOriginal.plusWeeks(2)));
+    }
+
+    @Test
+    void moverSerieDeSalaDeveTrocarAEtagDasReservasDasDuasSalas() {
+        Sala outraSala = Sala.builder()
+                .id(11L)
+                .nome("Laboratório 2")
+                .tipo(TipoSala.LABORATORIO)
+                .capacidade(30)
+                .status(StatusSala.ATIVA)
+                .build();
+
+        SerieReserva serie = SerieReserva.builder()
+                .id(3L)
+                .usuario(usuario)
+                .sala(sala)
+                .status(StatusReserva.ATIVA)
+                .build();
+
+        request.setSalaId(11L);
+
+        when(serieReservaRepository.findById(3L)).thenReturn(Optional.of(serie));
+        when(usuarioService.buscarEntityPorId(1L)).thenReturn(usuario);
+        when(salaService.buscarEntityPorId(11L)).thenReturn(outraSala);
+        when(reservaRepository.findIntervalosFuturosDaSerie(
+                eq(3L), any(LocalDate.class), any(LocalTime.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(
+                        new IntervaloReservaDTO(20L, 10L, primeiraData, LocalTime.of(10, 0), LocalTime.of(12, 0))
+                ));
+        when(reservaRepository.findIntervalosPorSalasEPeriodo(
+                eq(List.of(11L)), any(LocalDate.class), any(LocalDate.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(Collections.emptyList());
+
+        String etagSalaAnterior = versoesConsulta.etagReservasDaSala(10L);
+        String etagSalaNova = versoesConsulta.etagReservasDaSala(11L);
+
+        serieReservaService.atualizar(3L, request);
+
+        assertNotEquals(etagSalaAnterior, versoesConsulta.etagReservasDaSala(10L));
+        assertNotEquals(etagSalaNova, versoesConsulta.etagReservasDaSala(11L));
+    }
+
+    @Test
+    void deveCancelarOcorrenciasFuturasComUmaUnicaAtualizacao() {
+        SerieReserva serie = SerieReserva.builder()
+                .id(3L)
+                .usuario(usuario)
+                .sala(sala)
+                .status(StatusReserva.ATIVA)
+                .build();
+
+        when(serieReservaRepository.findById(3L)).thenReturn(Optional.of(serie));
+        when(reservaRepository.findIntervalosFuturosDaSerie(
+                eq(3L), any(LocalDate.class), any(LocalTime.class), eq(StatusReserva.ATIVA)))
+                .thenReturn(List.of(
+                        new IntervaloReservaDTO(20L, 10L, primeiraData, LocalTime.of(10, 0), LocalTime.of(12, 0)),
+                        new IntervaloReservaDTO(21L, 10L, primeiraData.plusWeeks(1), LocalTime.of(10, 0), LocalTime.of(12, 0))
+                ));
+
+        serieReservaService.cancelar(3L);
+
+        verify(reservaRepository).atualizarStatusPorIds(eq(List.of(20L, 21L)), eq(StatusReserva.CANCELADA), any());
+        verify(reservaRepository, never()).save(any(Reserva.class));
+        assertEquals(StatusReserva.CANCELADA, serie.getStatus());
+    }
+
+    @Test
+    void naoDeveCancelarSerieJaCancelada() {
+        SerieReserva serie = SerieReserva.builder()
+                .id(3L)
+                .status(StatusReserva.CANCELADA)
+                .build();
+
+        when(serieReservaRepository.findById(3L)).thenReturn(Optional.of(serie));
+
+        RegraNegocioException ex = assertThrows(RegraNegocioException.class,
+                () -> serieReservaService.cancelar(3L));
+
+        assertEquals("A série já está cancelada.", ex.getMessage());
+        verifyNoInteractions(reservaRepository);
+    }
+}
@@ -0,0 +1,157 @@
+package com.reservas.facisa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.reservas.facisa.config.EventosProperties;
+import com.reservas.facisa.config.StreamDisponibilidadeProperties;
+import com.reservas.facisa.model.EventoDominio;
+import com.reservas.facisa.model.EventoDominio.ReservaCriada;
+import com.reservas.facisa.repository.ReservaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Isolamento entre as assinaturas do stream: cada uma é escrita na sua própria thread, e uma
+ * escrita que não termina descarta só a assinatura dela.
+ */
+@ExtendWith(MockitoExtension.class)
+class StreamDisponibilidadeEnvioTest {
+
+    private static final Long SALA_ID = 10L;
+    private static final LocalDate DATA = LocalDate.now().plusDays(1);
+
+    /** Um cliente que parou de ler: a escrita só termina quando o teste liberar ou a thread for interrompida. */
+    private static final class EmitterTravado extends SseEmitter {
+
+        final CountDownLatch escrevendo = new CountDownLatch(1);
+        final CountDownLatch liberar = new CountDownLatch(1);
+        final CountDownLatch encerrado = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder evento) throws IOException {
+            escrevendo.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                throw new IOException("Escrita interrompida", e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            super.complete();
+            encerrado.countDown();
+        }
+    }
+
+    private static final class EmitterRegistrador extends SseEmitter {
+
+        final BlockingQueue<String> recebidos = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder evento) {
+            recebidos.add(evento.build().stream()
+                    .map(parte -> String.valueOf(parte.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        String proximo() throws InterruptedException {
+            return recebidos.poll(2, TimeUnit.SECONDS);
+        }
+    }
+
+    @Mock
+    private IndiceDisponibilidade indiceDisponibilidade;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private RoteamentoLeitura roteamentoLeitura;
+
+    private final BlockingQueue<SseEmitter> emitters = new LinkedBlockingQueue<>();
+    private final EmitterTravado travado = new EmitterTravado();
+
+    private DiarioEventos diario;
+    private StreamDisponibilidade stream;
+
+    @BeforeEach
+    void setUp() {
+        diario = new DiarioEventos(evento -> stream.aplicar((EventoDominio) evento), new EventosProperties(100));
+        when(roteamentoLeitura.doPrincipal(any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void encerrar() {
+        travado.liberar.countDown();
+        stream.encerrar();
+    }
+
+    @Test
+    void assinaturaTravadaNaoDeveAtrasarAsOutras() throws Exception {
+        stream = novoStream(Duration.ofHours(1));
+        EmitterRegistrador registrador = new EmitterRegistrador();
+        emitters.add(travado);
+        emitters.add(registrador);
+
+        assinar();
+        assertTrue(travado.escrevendo.await(2, TimeUnit.SECONDS));
+        assinar();
+        assertTrue(registrador.proximo().contains("event:snapshot"));
+
+        diario.publicar(new ReservaCriada(0, 1L, 2L, SALA_ID, DATA, LocalTime.of(8, 0), LocalTime.of(9, 0)));
+        stream.enviarPendentes();
+
+        String delta = registrador.proximo();
+        assertNotNull(delta, "O delta ficou esperando a assinatura travada.");
+        assertTrue(delta.contains("event:delta"));
+        assertEquals(2, stream.assinaturasAtivas());
+    }
+
+    @Test
+    void escritaAcimaDoTimeoutDeveDescartarAAssinatura() throws Exception {
+        stream = novoStream(Duration.ofMillis(200));
+        emitters.add(travado);
+
+        assinar();
+        assertTrue(travado.escrevendo.await(2, TimeUnit.SECONDS));
+
+        assertTrue(travado.encerrado.await(5, TimeUnit.SECONDS));
+        assertEquals(0, stream.assinaturasAtivas());
+        assertEquals(0, stream.enviosEmAndamento());
+    }
+
+    private void assinar() {
+        stream.assinar(List.of(SALA_ID), List.of(DATA.toString()), null);
+    }
+
+    private StreamDisponibilidade novoStream(Duration timeoutEscrita) {
+        StreamDisponibilidadeProperties propriedades = new StreamDisponibilidadeProperties(
+                Duration.ofHours(1), Duration.ofHours(1), Duration.ofMinutes(30), timeoutEscrita, 4, 10);
+        return new StreamDisponibilidade(diario, indiceDisponibilidade, reservaRepository, roteamentoLeitura,
+                propriedades) {
+            @Override
+            SseEmitter criarEmitter(long timeout) {
+                return emitters.remove();
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.reservas.facisa.service;
 
+import com.reservas.facisa.dto.PaginaDTO;
 import com.reservas.facisa.dto.UsuarioRequestDTO;
 import com.reservas.facisa.dto.UsuarioResponseDTO;
 import com.reservas.facisa.exception.RegraNegocioException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +34,9 @@ class UsuarioServiceTest {
     @Mock
     private UsuarioMapper usuarioMapper;
 
+    @Mock
+    private VersoesConsulta versoesConsulta;
+
     @InjectMocks
     private UsuarioService usuarioService;
 
@@ -112,8 +118,9 @@ class UsuarioServiceTest {
     }
 
     @Test
-    void deveListarUsuarios() {
-        when(usuarioRepository.findAll()).thenReturn(Collections.singletonList(usuario));
+    void deveListarPrimeiraPaginaDeUsuarios() {
+        when(usuarioRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(Collections.singletonList(usuario));
         when(usuarioMapper.toResponse(usuario)).thenReturn(
                 UsuarioResponseDTO.builder()
                         .id(1L)
@@ -122,11 +129,11 @@ class UsuarioServiceTest {
                         .build()
         );
 
-        List<UsuarioResponseDTO> response = usuarioService.listar();
+        PaginaDTO<UsuarioResponseDTO> response = usuarioService.listarPagina(null, 10);
 
-        assertNotNull(response);
-        assertEquals(1, response.size());
-        assertEquals("João da Silva", response.get(0).getNome());
+        assertEquals(1, response.getItens().size());
+        assertEquals("João da Silva", response.getItens().get(0).getNome());
+        assertNull(response.getProximoCursor());
     }
 
     @Test
@@ -179,6 +186,7 @@ class UsuarioServiceTest {
      assertEquals("novo@exemplo.com", response.getEmail());
 
      verify(usuarioRepository).save(usuarioExistente);
+     verify(versoesConsulta).usuarioAlterado();
      verify(usuarioMapper).updateEntityFromDto(dtoAtualizado, usuarioExistente);
      verify(usuarioMapper).toResponse(usuarioExistente);
  }
@@ -0,0 +1,36 @@
+package com.reservas.facisa.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registra os comandos SQL gerados pelo Hibernate nos testes. Ativado com
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class CapturadorSql implements StatementInspector {
+
+    private static final List<String> COMANDOS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        COMANDOS.add(sql);
+        return sql;
+    }
+
+    public static void limpar() {
+        COMANDOS.clear();
+    }
+
+    public static List<String> comandos() {
+        return List.copyOf(COMANDOS);
+    }
+
+    public static String ultimo() {
+        if (COMANDOS.isEmpty()) {
+            throw new IllegalStateException("Nenhum comando SQL foi capturado.");
+        }
+        return COMANDOS.get(COMANDOS.size() - 1);
+    }
+}
@@ -0,0 +1,25 @@
+package com.reservas.facisa.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Simula a latência de rede de um banco remoto: cada comando SQL preparado pelo Hibernate espera
+ * {@code facisa.latencia-sql-ms} milissegundos com a conexão já em uso. Ativado com
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class LatenciaSql implements StatementInspector {
+
+    private static final long LATENCIA_MS = Long.getLong("facisa.latencia-sql-ms", 0);
+
+    @Override
+    public String inspect(String sql) {
+        if (LATENCIA_MS > 0) {
+            try {
+                Thread.sleep(LATENCIA_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,57 @@
+package com.reservas.facisa.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Faz as vezes da replicação entre dois bancos H2 em memória: a réplica recebe o mesmo esquema
+ * pelo Flyway e só vê os dados do principal quando {@link #sincronizar()} copia as tabelas. Entre
+ * uma sincronização e outra, a réplica fica atrasada como ficaria com replicação assíncrona.
+ */
+public class ReplicacaoLocal {
+
+    /** Na ordem das chaves estrangeiras: a cópia insere nesta ordem e apaga na inversa. */
+    private static final List<String> TABELAS = List.of(
+            "usuarios", "salas", "series_reserva", "series_reserva_excecoes", "reservas");
+
+    private final JdbcTemplate principal;
+    private final JdbcTemplate replica;
+
+    /** As URLs devem manter o banco aberto sem conexões ({@code DB_CLOSE_DELAY=-1}). */
+    public ReplicacaoLocal(String urlPrincipal, String urlReplica) {
+        DriverManagerDataSource bancoReplica = new DriverManagerDataSource(urlReplica, "sa", "");
+        Flyway.configure().dataSource(bancoReplica).load().migrate();
+
+        this.principal = new JdbcTemplate(new DriverManagerDataSource(urlPrincipal, "sa", ""));
+        this.replica = new JdbcTemplate(bancoReplica);
+    }
+
+    public void sincronizar() {
+        for (String tabela : TABELAS.reversed()) {
+            replica.update("DELETE FROM " + tabela);
+        }
+        for (String tabela : TABELAS) {
+            copiar(tabela);
+        }
+    }
+
+    private void copiar(String tabela) {
+        List<Map<String, Object>> linhas = principal.queryForList("SELECT * FROM " + tabela);
+        if (linhas.isEmpty()) {
+            return;
+        }
+
+        List<String> colunas = new ArrayList<>(linhas.getFirst().keySet());
+        String comando = "INSERT INTO " + tabela + " (" + String.join(", ", colunas) + ") VALUES ("
+                + String.join(", ", colunas.stream().map(c -> "?").toList()) + ")";
+
+        replica.batchUpdate(comando, linhas.stream()
+                .map(linha -> colunas.stream().map(linha::get).toArray())
+                .toList());
+    }
+}